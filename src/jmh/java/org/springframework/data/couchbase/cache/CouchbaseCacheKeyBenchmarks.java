@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks cache key conversion in {@link CouchbaseCache#createCacheKey(Object)} for the common key types.
+ *
+ * @since 6.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CouchbaseCacheKeyBenchmarks {
+
+	CouchbaseCache cache;
+	Long longKey = 42L;
+	UUID uuidKey = UUID.randomUUID();
+	List<Object> listKey = List.of("tenant", 42L, UUID.randomUUID());
+	Map<String, Object> mapKey = Map.of("tenant", "acme", "id", 42L);
+
+	@Setup
+	public void setup() {
+		// the writer is never called, key conversion does not reach the cluster
+		cache = new CouchbaseCache("benchmark", new DefaultCouchbaseCacheWriter(null),
+				CouchbaseCacheConfiguration.defaultCacheConfig());
+	}
+
+	@Benchmark
+	public String stringKey() {
+		return cache.createCacheKey("user::42");
+	}
+
+	@Benchmark
+	public String longKey() {
+		return cache.createCacheKey(longKey);
+	}
+
+	@Benchmark
+	public String uuidKey() {
+		return cache.createCacheKey(uuidKey);
+	}
+
+	@Benchmark
+	public String listKey() {
+		return cache.createCacheKey(listKey);
+	}
+
+	@Benchmark
+	public String mapKey() {
+		return cache.createCacheKey(mapKey);
+	}
+
+}
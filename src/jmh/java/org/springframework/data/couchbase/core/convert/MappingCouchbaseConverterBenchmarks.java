@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.convert;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.couchbase.core.convert.translation.JacksonTranslationService;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
+import org.springframework.data.couchbase.core.mapping.Document;
+import org.springframework.data.couchbase.core.mapping.Field;
+
+import com.couchbase.client.java.codec.DefaultJsonSerializer;
+import com.couchbase.client.java.codec.JsonTranscoder;
+import com.couchbase.client.java.codec.Transcoder;
+
+/**
+ * Benchmarks entity encoding and decoding through {@link MappingCouchbaseConverter} and
+ * {@link JacksonTranslationService} for small, nested and large documents.
+ *
+ * @since 6.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingCouchbaseConverterBenchmarks {
+
+	@Param({ "small", "nested", "large" }) String shape;
+
+	MappingCouchbaseConverter converter;
+	Transcoder transcoder;
+	JacksonTranslationService translationService;
+	Class<?> type;
+	Object entity;
+	CouchbaseDocument document;
+	byte[] jsonBytes;
+
+	@Setup
+	public void setup() {
+		CouchbaseMappingContext context = new CouchbaseMappingContext();
+		converter = new MappingCouchbaseConverter(context);
+		converter.setDirectJsonRead(true);
+		converter.afterPropertiesSet();
+		translationService = new JacksonTranslationService();
+		translationService.setStreamingWrite(true);
+		translationService.afterPropertiesSet();
+		transcoder = JsonTranscoder.create(DefaultJsonSerializer.create());
+
+		entity = switch (shape) {
+			case "small" -> new SmallDocument("small::1", "Oliver", 42, true);
+			case "nested" -> nested();
+			case "large" -> large();
+			default -> throw new IllegalArgumentException(shape);
+		};
+		type = entity.getClass();
+		document = encode();
+		jsonBytes = translationService.encodeToBytes(document);
+	}
+
+	@Benchmark
+	public CouchbaseDocument write() {
+		return encode();
+	}
+
+	@Benchmark
+	public Object read() {
+		return converter.read(type, document);
+	}
+
+	@Benchmark
+	public String writeAndEncode() {
+		return translationService.encode(encode());
+	}
+
+	/**
+	 * The SDK's default encoding of the exported document, which is what key-value writes do without streaming writes.
+	 */
+	@Benchmark
+	public byte[] writeAndTranscode() {
+		return transcoder.encode(encode().export()).encoded();
+	}
+
+	@Benchmark
+	public byte[] writeAndEncodeToBytes() {
+		return translationService.encodeToBytes(encode());
+	}
+
+	@Benchmark
+	public Object decodeAndRead() {
+		CouchbaseDocument decoded = new CouchbaseDocument(document.getId());
+		translationService.decode(jsonBytes, decoded);
+		return converter.read(type, decoded);
+	}
+
+	@Benchmark
+	public Object readJson() {
+		return converter.readJson(type, jsonBytes, document.getId(), 1L);
+	}
+
+	private CouchbaseDocument encode() {
+		CouchbaseDocument target = new CouchbaseDocument();
+		converter.write(entity, target);
+		return target;
+	}
+
+	private static NestedDocument nested() {
+		List<Address> previous = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			previous.add(new Address(i + " Main Street", "Springfield", "1000" + i));
+		}
+		return new NestedDocument("nested::1", "Oliver", new Address("1 Infinite Loop", "Cupertino", "95014"), previous);
+	}
+
+	private static LargeDocument large() {
+		List<Item> items = new ArrayList<>();
+		Map<String, String> attributes = new LinkedHashMap<>();
+		for (int i = 0; i < 200; i++) {
+			items.add(new Item("sku-" + i, "Item number " + i, i * 1.5d, i));
+		}
+		for (int i = 0; i < 100; i++) {
+			attributes.put("attribute" + i, "value" + i);
+		}
+		return new LargeDocument("large::1", items, attributes);
+	}
+
+	@Document
+	public static class SmallDocument {
+		@Id String id;
+		String name;
+		@Field("years") int age;
+		boolean active;
+
+		public SmallDocument(String id, String name, int age, boolean active) {
+			this.id = id;
+			this.name = name;
+			this.age = age;
+			this.active = active;
+		}
+	}
+
+	@Document
+	public static class NestedDocument {
+		@Id String id;
+		String name;
+		Address address;
+		List<Address> previousAddresses;
+
+		public NestedDocument(String id, String name, Address address, List<Address> previousAddresses) {
+			this.id = id;
+			this.name = name;
+			this.address = address;
+			this.previousAddresses = previousAddresses;
+		}
+	}
+
+	public static class Address {
+		String street;
+		String city;
+		String zip;
+
+		public Address(String street, String city, String zip) {
+			this.street = street;
+			this.city = city;
+			this.zip = zip;
+		}
+	}
+
+	@Document
+	public static class LargeDocument {
+		@Id String id;
+		List<Item> items;
+		Map<String, String> attributes;
+
+		public LargeDocument(String id, List<Item> items, Map<String, String> attributes) {
+			this.id = id;
+			this.items = items;
+			this.attributes = attributes;
+		}
+	}
+
+	public static class Item {
+		String sku;
+		String description;
+		double price;
+		int quantity;
+
+		public Item(String sku, String description, double price, int quantity) {
+			this.sku = sku;
+			this.description = description;
+			this.price = price;
+			this.quantity = quantity;
+		}
+	}
+
+}
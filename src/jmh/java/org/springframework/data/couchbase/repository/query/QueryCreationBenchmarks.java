@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository.query;
+
+import static org.springframework.data.couchbase.core.query.N1QLExpression.i;
+import static org.springframework.data.couchbase.core.query.QueryCriteria.where;
+
+import java.lang.reflect.Method;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
+import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.QueryCriteria;
+import org.springframework.data.couchbase.domain.User;
+import org.springframework.data.couchbase.domain.UserRepository;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.core.support.PropertiesBasedNamedQueries;
+import org.springframework.data.repository.query.DefaultParameters;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.ParametersSource;
+import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.data.repository.query.parser.PartTree;
+
+import com.couchbase.client.java.json.JsonArray;
+
+/**
+ * Benchmarks the per-invocation work of repository queries: derived query creation from a {@link PartTree}, string
+ * query SpEL parsing through {@link StringN1qlQueryCreator} and {@link QueryCriteria} export.
+ *
+ * @since 6.2
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryCreationBenchmarks {
+
+	static final NamedQueries NAMED_QUERIES = new PropertiesBasedNamedQueries(new Properties());
+	static final String BUCKET = "benchmark";
+
+	MappingCouchbaseConverter converter;
+	CouchbaseQueryMethod derivedMethod;
+	CouchbaseQueryMethod stringMethod;
+	DefaultParameters parameters;
+	QueryCriteria criteria;
+
+	@Setup
+	public void setup() throws Exception {
+		converter = new MappingCouchbaseConverter(new CouchbaseMappingContext());
+		converter.afterPropertiesSet();
+		derivedMethod = queryMethod("findByFirstnameAndLastname");
+		stringMethod = queryMethod("getByFirstnameAndLastname");
+		parameters = new DefaultParameters(
+				ParametersSource.of(UserRepository.class.getMethod("findByFirstnameAndLastname", String.class, String.class)));
+		criteria = where(i("firstname")).is("Oliver").and(i("lastname")).is("Twist").or(i("age")).gt(21);
+	}
+
+	@Benchmark
+	public String derivedQuery() {
+		PartTree tree = new PartTree(derivedMethod.getName(), User.class);
+		N1qlQueryCreator creator = new N1qlQueryCreator(tree, accessor(), derivedMethod, converter, BUCKET);
+		return creator.createQuery().export(new int[1]);
+	}
+
+	@Benchmark
+	public String stringQuery() {
+		StringN1qlQueryCreator creator = new StringN1qlQueryCreator(accessor(), stringMethod, converter,
+				ValueExpressionDelegate.create(), NAMED_QUERIES);
+		Query query = creator.createQuery();
+		return query.toN1qlSelectString(converter, BUCKET, null, null, User.class, User.class, false, null, null);
+	}
+
+	@Benchmark
+	public String criteriaExport() {
+		return criteria.export(new int[1], JsonArray.create(), converter);
+	}
+
+	private CouchbaseQueryMethod queryMethod(String name) throws NoSuchMethodException {
+		Method method = UserRepository.class.getMethod(name, String.class, String.class);
+		return new CouchbaseQueryMethod(method, new DefaultRepositoryMetadata(UserRepository.class),
+				new SpelAwareProxyProjectionFactory(), converter.getMappingContext());
+	}
+
+	private ParametersParameterAccessor accessor() {
+		return new ParametersParameterAccessor(parameters, new Object[] { "Oliver", "Twist" });
+	}
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.couchbase.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.util.Assert;
+
+import com.couchbase.client.core.error.DecodingFailureException;
+import com.couchbase.client.java.codec.Transcoder;
+
+/**
+ * {@link Transcoder} compressing the values encoded by another transcoder once they reach a size threshold.
+ * <p>
+ * Compressed documents keep the common flags of the delegate, the compression is recorded in the compression bits of
+ * the flags (bits 29 to 31). Documents written without compression, for example before the transcoder was configured,
+ * are still decoded by the delegate.
+ *
+ * @since 6.2
+ * @see CouchbaseCacheConfiguration#compressValuesAbove(int)
+ */
+public class CompressingTranscoder implements Transcoder {
+
+	static final int COMPRESSION_MASK = 0b111 << 29;
+	static final int DEFLATE_FLAGS = 1 << 29;
+
+	private final Transcoder delegate;
+	private final int threshold;
+
+	/**
+	 * Creates a new {@link CompressingTranscoder}.
+	 *
+	 * @param delegate encodes and decodes the uncompressed values, must not be {@literal null}.
+	 * @param threshold the size in bytes from which an encoded value is compressed.
+	 */
+	public CompressingTranscoder(final Transcoder delegate, final int threshold) {
+		Assert.notNull(delegate, "Transcoder must not be null!");
+		Assert.isTrue(threshold >= 0, "threshold must not be negative!");
+		this.delegate = delegate;
+		this.threshold = threshold;
+	}
+
+	@Override
+	public EncodedValue encode(final Object input) {
+		EncodedValue encoded = delegate.encode(input);
+		byte[] content = encoded.encoded();
+		if (content.length < threshold || (encoded.flags() & COMPRESSION_MASK) != 0) {
+			return encoded;
+		}
+		byte[] compressed = deflate(content);
+		// content that does not shrink is stored as is, it would only cost decompression on every read
+		return compressed.length < content.length ? new EncodedValue(compressed, encoded.flags() | DEFLATE_FLAGS)
+				: encoded;
+	}
+
+	@Override
+	public <T> T decode(final Class<T> target, final byte[] input, final int flags) {
+		int compression = flags & COMPRESSION_MASK;
+		if (compression == 0) {
+			return delegate.decode(target, input, flags);
+		}
+		if (compression != DEFLATE_FLAGS) {
+			throw new DecodingFailureException("Unsupported compression in flags " + Integer.toHexString(flags));
+		}
+		return delegate.decode(target, inflate(input), flags & ~COMPRESSION_MASK);
+	}
+
+	private static byte[] deflate(byte[] content) {
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(content);
+			deflater.finish();
+			ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+			byte[] buffer = new byte[8192];
+			while (!deflater.finished()) {
+				out.write(buffer, 0, deflater.deflate(buffer));
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] inflate(byte[] compressed) {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(compressed);
+			ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+			byte[] buffer = new byte[8192];
+			while (!inflater.finished()) {
+				int inflated = inflater.inflate(buffer);
+				if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new DecodingFailureException("Compressed cache value is truncated");
+				}
+				out.write(buffer, 0, inflated);
+			}
+			return out.toByteArray();
+		} catch (DataFormatException ex) {
+			throw new DecodingFailureException("Could not decompress cache value", ex);
+		} finally {
+			inflater.end();
+		}
+	}
+
+}
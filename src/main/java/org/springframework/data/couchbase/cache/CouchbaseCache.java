@@ -17,13 +17,27 @@ package org.springframework.data.couchbase.cache;
 
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
 import java.util.concurrent.Callable;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
 import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.SimpleValueWrapper;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
@@ -31,6 +45,8 @@ import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 
+import com.couchbase.client.java.codec.RawStringTranscoder;
+
 /**
  * Couchbase-backed Cache Methods that take a Class return non-wrapped objects - cache-miss cannot be distinguished from
  * cached null - this is what AbstractValueAdaptingCache does Methods that do not take a Class return wrapped objects -
@@ -40,10 +56,16 @@ import org.springframework.util.ReflectionUtils;
  */
 public class CouchbaseCache extends AbstractValueAdaptingCache {
 
+	private static final String LOAD_LOCK_SUFFIX = "::loading";
+	private static final long LOAD_LOCK_POLL_MILLIS = 50;
+
 	private final String name;
 	private final CouchbaseCacheWriter cacheWriter;
 	private final CouchbaseCacheConfiguration cacheConfig;
 	private final ConversionService conversionService;
+	private final @Nullable NearCache nearCache;
+	private final @Nullable WriteBehindBuffer writeBehind;
+	private final ConcurrentMap<String, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
 
 	protected CouchbaseCache(final String name, final CouchbaseCacheWriter cacheWriter,
 			final CouchbaseCacheConfiguration cacheConfig) {
@@ -57,6 +79,18 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 		this.cacheWriter = cacheWriter;
 		this.cacheConfig = cacheConfig;
 		this.conversionService = cacheConfig.getConversionService();
+		this.nearCache = cacheConfig.getNearCacheMaximumSize() > 0
+				? new NearCache(cacheConfig.getNearCacheMaximumSize(), cacheConfig.getNearCacheTimeToLive())
+				: null;
+		if (cacheConfig.getWriteBehindBufferSize() > 0) {
+			this.writeBehind = new WriteBehindBuffer(cacheConfig.getWriteBehindBufferSize(),
+					batch -> cacheWriter.putAll(cacheConfig.getCollectionName(), batch, cacheConfig.getExpiry(),
+							cacheConfig.getValueTranscoder()),
+					System::nanoTime);
+			this.writeBehind.start(name, cacheConfig.getWriteBehindFlushInterval());
+		} else {
+			this.writeBehind = null;
+		}
 	}
 
 	private static <T> T valueFromLoader(Object key, Callable<T> valueLoader) {
@@ -81,8 +115,38 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 	 * same as inherited, but passes clazz for transcoder
 	 */
 	protected Object lookup(final Object key, Class<?> clazz) {
-		return cacheWriter.get(cacheConfig.getCollectionName(), createCacheKey(key), cacheConfig.getValueTranscoder(),
-				clazz);
+		String cacheKey = createCacheKey(key);
+		WriteBehindBuffer.Pending pending = writeBehind != null ? writeBehind.get(cacheKey) : null;
+		if (pending != null) {
+			return pending.value;
+		}
+		if (nearCache != null) {
+			return nearCacheLookup(cacheKey, clazz);
+		}
+		return cacheWriter.get(cacheConfig.getCollectionName(), cacheKey, cacheConfig.getValueTranscoder(), clazz);
+	}
+
+	private Object nearCacheLookup(String cacheKey, Class<?> clazz) {
+		long stamp = nearCache.stamp(cacheKey);
+		NearCache.Entry entry = nearCache.get(cacheKey, clazz);
+		if (entry != null) {
+			if (nearCache.isFresh(entry)) {
+				return entry.value;
+			}
+			// an unchanged CAS proves the local value is still current without transferring it again
+			if (entry.cas != 0 && entry.cas == cacheWriter.getCas(cacheConfig.getCollectionName(), cacheKey)) {
+				nearCache.revalidated(cacheKey, entry);
+				return entry.value;
+			}
+		}
+		CouchbaseCacheWriter.CasValue result = cacheWriter.getWithCas(cacheConfig.getCollectionName(), cacheKey,
+				cacheConfig.getValueTranscoder(), clazz);
+		if (result == null) {
+			nearCache.invalidate(cacheKey);
+			return null;
+		}
+		nearCache.put(cacheKey, result.value(), result.cas(), clazz, stamp);
+		return result.value();
 	}
 
 	@Override
@@ -98,16 +162,14 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 
 	@Override
 	@SuppressWarnings("unchecked")
-	public synchronized <T> T get(final Object key, final Callable<T> valueLoader) {
+	public <T> T get(final Object key, final Callable<T> valueLoader) {
 		ValueWrapper result = get(key);
 
 		if (result != null) {
 			return (T) result.get();
 		}
 
-		T value = valueFromLoader(key, valueLoader);
-		put(key, value);
-		return value;
+		return (T) load(key, valueLoader, () -> get(key));
 	}
 
 	@Override
@@ -121,26 +183,211 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 		}
 	}
 
-	public synchronized <T> T get(final Object key, final Callable<T> valueLoader, Class<T> type) {
+	@SuppressWarnings("unchecked")
+	public <T> T get(final Object key, final Callable<T> valueLoader, Class<T> type) {
 		T value = get(key, type);
-		if (value == null) { // cannot distinguish between cache miss and cached null
-			value = valueFromLoader(key, valueLoader);
-			put(key, value);
+		if (value != null) { // cannot distinguish between cache miss and cached null
+			return value;
+		}
+		return (T) load(key, valueLoader, () -> {
+			T cached = get(key, type);
+			return cached != null ? new SimpleValueWrapper(cached) : null;
+		});
+	}
+
+	/**
+	 * Run the value loader for a missing key and cache its result. Concurrent loads of the same key share a single
+	 * loader invocation, loads of other keys are not blocked.
+	 *
+	 * @param cached reads the value cached in the meantime, {@literal null} on a miss.
+	 */
+	private @Nullable Object load(Object key, Callable<?> valueLoader, Supplier<@Nullable ValueWrapper> cached) {
+		String cacheKey = createCacheKey(key);
+		CompletableFuture<Object> load = new CompletableFuture<>();
+		CompletableFuture<Object> running = loads.putIfAbsent(cacheKey, load);
+		if (running != null) {
+			return awaitLoad(running);
+		}
+		try {
+			// a load that finished between the miss of the caller and the registration above already cached the value
+			ValueWrapper result = cached.get();
+			Object value = result != null ? result.get() : loadExclusively(key, cacheKey, valueLoader, cached);
+			load.complete(value);
+			return value;
+		} catch (RuntimeException | Error ex) {
+			load.completeExceptionally(ex);
+			throw ex;
+		} finally {
+			loads.remove(cacheKey, load);
+		}
+	}
+
+	private static @Nullable Object awaitLoad(CompletableFuture<Object> load) {
+		try {
+			return load.join();
+		} catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (ex.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * Load and put the value, holding the distributed load lock if one is configured. While another process holds the
+	 * lock the cache is polled for its result, the value is loaded here once the lock expired.
+	 */
+	private @Nullable Object loadExclusively(Object key, String cacheKey, Callable<?> valueLoader,
+			Supplier<@Nullable ValueWrapper> cached) {
+		Duration lockTime = cacheConfig.getLoadLockTime();
+		if (lockTime.isZero()) {
+			return loadAndPut(key, valueLoader);
 		}
+
+		String lockKey = cacheKey + LOAD_LOCK_SUFFIX;
+		long deadline = System.nanoTime() + lockTime.toNanos();
+		boolean locked = tryLock(lockKey, lockTime);
+		while (!locked && System.nanoTime() - deadline < 0) {
+			try {
+				TimeUnit.MILLISECONDS.sleep(LOAD_LOCK_POLL_MILLIS);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			ValueWrapper result = cached.get();
+			if (result != null) {
+				return result.get();
+			}
+			locked = tryLock(lockKey, lockTime);
+		}
+
+		try {
+			return loadAndPut(key, valueLoader);
+		} finally {
+			if (locked) {
+				cacheWriter.remove(cacheConfig.getCollectionName(), lockKey);
+			}
+		}
+	}
+
+	private boolean tryLock(String lockKey, Duration lockTime) {
+		return cacheWriter.putIfAbsent(cacheConfig.getCollectionName(), lockKey, name, lockTime,
+				RawStringTranscoder.INSTANCE, String.class) == null;
+	}
+
+	private @Nullable Object loadAndPut(Object key, Callable<?> valueLoader) {
+		Object value = valueFromLoader(key, valueLoader);
+		put(key, value);
 		return value;
 	}
 
+	@Override
+	public CompletableFuture<?> retrieve(final Object key) {
+		return retrieveValue(createCacheKey(key))
+				.thenApply(value -> value == null ? null : isAllowNullValues() ? toValueWrapper(value) : fromStoreValue(value));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> retrieve(final Object key, final Supplier<CompletableFuture<T>> valueLoader) {
+		String cacheKey = createCacheKey(key);
+		return retrieveValue(cacheKey).thenCompose(value -> value != null
+				? CompletableFuture.completedFuture((T) fromStoreValue(value))
+				: (CompletableFuture<T>) loadAsync(cacheKey, valueLoader));
+	}
+
+	/**
+	 * Read a value without blocking, a fresh near cache entry is served directly.
+	 */
+	private CompletableFuture<@Nullable Object> retrieveValue(String cacheKey) {
+		WriteBehindBuffer.Pending pending = writeBehind != null ? writeBehind.get(cacheKey) : null;
+		if (pending != null) {
+			return CompletableFuture.completedFuture(pending.value);
+		}
+		long stamp = nearCache != null ? nearCache.stamp(cacheKey) : 0;
+		if (nearCache != null) {
+			NearCache.Entry entry = nearCache.get(cacheKey, Object.class);
+			if (entry != null && nearCache.isFresh(entry)) {
+				return CompletableFuture.completedFuture(entry.value);
+			}
+		}
+		return cacheWriter.getAsync(cacheConfig.getCollectionName(), cacheKey, cacheConfig.getValueTranscoder(),
+				Object.class).thenApply(result -> {
+					if (result == null) {
+						invalidateNearCache(cacheKey);
+						return null;
+					}
+					if (nearCache != null) {
+						nearCache.put(cacheKey, result.value(), result.cas(), Object.class, stamp);
+					}
+					return result.value();
+				});
+	}
+
+	/**
+	 * Asynchronous counterpart of {@link #load(Object, Callable, Supplier)}, sharing the in-flight loads with it. The
+	 * distributed load lock is not taken, waiting for it would block.
+	 */
+	private CompletableFuture<?> loadAsync(String cacheKey, Supplier<? extends CompletableFuture<?>> valueLoader) {
+		CompletableFuture<Object> load = new CompletableFuture<>();
+		CompletableFuture<Object> running = loads.putIfAbsent(cacheKey, load);
+		if (running != null) {
+			return running;
+		}
+
+		CompletableFuture<?> loaded;
+		try {
+			loaded = valueLoader.get();
+		} catch (RuntimeException ex) {
+			loaded = CompletableFuture.failedFuture(ex);
+		}
+		loaded.thenCompose(value -> putAsync(cacheKey, value).thenApply(written -> value)).whenComplete((value, ex) -> {
+			invalidateNearCache(cacheKey);
+			if (ex != null) {
+				load.completeExceptionally(ex);
+			} else {
+				load.complete(value);
+			}
+			loads.remove(cacheKey, load);
+		});
+		return load;
+	}
+
+	private CompletableFuture<Void> putAsync(String cacheKey, @Nullable Object value) {
+		if (writeBehind != null) {
+			writeBehind.put(cacheKey, toStoreValue(value));
+			return CompletableFuture.completedFuture(null);
+		}
+		return cacheWriter.putAsync(cacheConfig.getCollectionName(), cacheKey, toStoreValue(value),
+				cacheConfig.getExpiry(), cacheConfig.getValueTranscoder());
+	}
+
 	@Override
 	public void put(final Object key, final Object value) {
-		cacheWriter.put(cacheConfig.getCollectionName(), createCacheKey(key), toStoreValue(value), cacheConfig.getExpiry(),
-				cacheConfig.getValueTranscoder());
+		String cacheKey = createCacheKey(key);
+		if (writeBehind != null) {
+			writeBehind.put(cacheKey, toStoreValue(value));
+		} else {
+			cacheWriter.put(cacheConfig.getCollectionName(), cacheKey, toStoreValue(value), cacheConfig.getExpiry(),
+					cacheConfig.getValueTranscoder());
+		}
+		invalidateNearCache(cacheKey);
 	}
 
 	@Override
 	public ValueWrapper putIfAbsent(final Object key, final Object value) {
 
-		Object result = cacheWriter.putIfAbsent(cacheConfig.getCollectionName(), createCacheKey(key), toStoreValue(value),
+		String cacheKey = createCacheKey(key);
+		WriteBehindBuffer.Pending pending = writeBehind != null ? writeBehind.get(cacheKey) : null;
+		if (pending != null) {
+			return toValueWrapper(pending.value);
+		}
+		Object result = cacheWriter.putIfAbsent(cacheConfig.getCollectionName(), cacheKey, toStoreValue(value),
 				cacheConfig.getExpiry(), cacheConfig.getValueTranscoder());
+		invalidateNearCache(cacheKey);
 
 		return toValueWrapper(result);
 	}
@@ -157,30 +404,218 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 	@SuppressWarnings("unchecked")
 	public <T> T putIfAbsent(final Object key, final Object value, final Class<T> clazz) {
 
-		Object result = cacheWriter.putIfAbsent(cacheConfig.getCollectionName(), createCacheKey(key),
+		String cacheKey = createCacheKey(key);
+		WriteBehindBuffer.Pending pending = writeBehind != null ? writeBehind.get(cacheKey) : null;
+		if (pending != null) {
+			return (T) pending.value;
+		}
+		Object result = cacheWriter.putIfAbsent(cacheConfig.getCollectionName(), cacheKey,
 				toStoreValue(value), cacheConfig.getExpiry(), cacheConfig.getValueTranscoder(), clazz);
+		invalidateNearCache(cacheKey);
 
 		return (T) result;
 	}
 
+	/**
+	 * Return the values cached for the given keys. Keys not held by the near cache are read with concurrent requests.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return the values keyed by the keys found, wrapped as by {@link #get(Object)}.
+	 * @throws CouchbaseCacheBulkException if some keys could not be read, holding the values of all others.
+	 * @since 6.2
+	 */
+	public Map<Object, ValueWrapper> getAll(final Collection<?> keys) {
+		Map<String, Object> cacheKeys = toCacheKeys(keys);
+		Map<String, Object> found = new LinkedHashMap<>();
+		List<String> remote = new ArrayList<>();
+		Map<String, Long> stamps = new HashMap<>();
+		cacheKeys.keySet().forEach(cacheKey -> {
+			WriteBehindBuffer.Pending pending = writeBehind != null ? writeBehind.get(cacheKey) : null;
+			NearCache.Entry entry = nearCache != null && pending == null ? nearCache.get(cacheKey, Object.class) : null;
+			if (pending != null) {
+				found.put(cacheKey, pending.value);
+			} else if (entry != null && nearCache.isFresh(entry)) {
+				found.put(cacheKey, entry.value);
+			} else {
+				remote.add(cacheKey);
+				if (nearCache != null) {
+					stamps.put(cacheKey, nearCache.stamp(cacheKey));
+				}
+			}
+		});
+
+		Map<String, CouchbaseCacheWriter.CasValue> read;
+		try {
+			read = remote.isEmpty() ? Map.of()
+					: cacheWriter.getAll(cacheConfig.getCollectionName(), remote, cacheConfig.getValueTranscoder(),
+							Object.class);
+		} catch (CouchbaseCacheBulkException ex) {
+			throw toCacheKeyed(ex, cacheKeys,
+					result -> toValueWrapper(((CouchbaseCacheWriter.CasValue) result).value()));
+		}
+		read.forEach((cacheKey, result) -> {
+			if (nearCache != null) {
+				nearCache.put(cacheKey, result.value(), result.cas(), Object.class, stamps.get(cacheKey));
+			}
+			found.put(cacheKey, result.value());
+		});
+
+		Map<Object, ValueWrapper> values = new LinkedHashMap<>();
+		cacheKeys.forEach((cacheKey, key) -> {
+			if (found.containsKey(cacheKey)) {
+				values.put(key, toValueWrapper(found.get(cacheKey)));
+			}
+		});
+		return values;
+	}
+
+	/**
+	 * Write all given key/value pairs with concurrent requests.
+	 *
+	 * @param values must not be {@literal null}.
+	 * @throws CouchbaseCacheBulkException if some pairs could not be written, holding the keys written.
+	 * @since 6.2
+	 */
+	public void putAll(final Map<?, ?> values) {
+		Map<String, Object> cacheKeys = new LinkedHashMap<>();
+		Map<String, Object> storeValues = new LinkedHashMap<>();
+		values.forEach((key, value) -> {
+			String cacheKey = createCacheKey(key);
+			cacheKeys.put(cacheKey, key);
+			storeValues.put(cacheKey, toStoreValue(value));
+		});
+		if (writeBehind != null) {
+			storeValues.forEach(writeBehind::put);
+			cacheKeys.keySet().forEach(this::invalidateNearCache);
+			return;
+		}
+		try {
+			cacheWriter.putAll(cacheConfig.getCollectionName(), storeValues, cacheConfig.getExpiry(),
+					cacheConfig.getValueTranscoder());
+		} catch (CouchbaseCacheBulkException ex) {
+			throw toCacheKeyed(ex, cacheKeys, Function.identity());
+		} finally {
+			cacheKeys.keySet().forEach(this::invalidateNearCache);
+		}
+	}
+
+	/**
+	 * Evict the given keys with concurrent requests.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return the number of keys that were present.
+	 * @throws CouchbaseCacheBulkException if some keys could not be evicted, holding whether each other key was present.
+	 * @since 6.2
+	 */
+	public long evictAll(final Collection<?> keys) {
+		Map<String, Object> cacheKeys = toCacheKeys(keys);
+		long discarded = 0;
+		if (writeBehind != null) {
+			for (String cacheKey : cacheKeys.keySet()) {
+				discarded += writeBehind.discard(cacheKey) ? 1 : 0;
+			}
+		}
+		try {
+			return discarded + cacheWriter.removeAll(cacheConfig.getCollectionName(), cacheKeys.keySet());
+		} catch (CouchbaseCacheBulkException ex) {
+			throw toCacheKeyed(ex, cacheKeys, Function.identity());
+		} finally {
+			cacheKeys.keySet().forEach(this::invalidateNearCache);
+		}
+	}
+
+	private Map<String, Object> toCacheKeys(Collection<?> keys) {
+		Map<String, Object> cacheKeys = new LinkedHashMap<>();
+		for (Object key : keys) {
+			cacheKeys.put(createCacheKey(key), key);
+		}
+		return cacheKeys;
+	}
+
+	/**
+	 * Report the failures of the writer by the keys of the cache instead of the document keys.
+	 */
+	private static CouchbaseCacheBulkException toCacheKeyed(CouchbaseCacheBulkException ex, Map<String, Object> cacheKeys,
+			Function<Object, ?> resultMapper) {
+		Map<Object, Throwable> failures = new LinkedHashMap<>();
+		ex.getFailures().forEach((cacheKey, failure) -> failures.put(cacheKeys.getOrDefault(cacheKey, cacheKey), failure));
+		Map<Object, Object> results = new LinkedHashMap<>();
+		ex.getResults().forEach(
+				(cacheKey, result) -> results.put(cacheKeys.getOrDefault(cacheKey, cacheKey), resultMapper.apply(result)));
+		return new CouchbaseCacheBulkException(ex.getMessage(), failures, results);
+	}
+
 	@Override
 	public void evict(final Object key) {
-		cacheWriter.remove(cacheConfig.getCollectionName(), createCacheKey(key));
+		evictIfPresent(key);
 	}
 
 	@Override
 	public boolean evictIfPresent(final Object key) {
-		return cacheWriter.remove(cacheConfig.getCollectionName(), createCacheKey(key));
+		String cacheKey = createCacheKey(key);
+		boolean discarded = writeBehind != null && writeBehind.discard(cacheKey);
+		boolean removed = cacheWriter.remove(cacheConfig.getCollectionName(), cacheKey) || discarded;
+		invalidateNearCache(cacheKey);
+		return removed;
 	}
 
 	@Override
 	public boolean invalidate() {
-		return cacheWriter.clear(cacheConfig.getCollectionName(), cacheConfig.getKeyPrefixFor(name)) > 0;
+		if (writeBehind != null) {
+			writeBehind.discardAll();
+		}
+		long cleared = cacheWriter.clear(cacheConfig.getCollectionName(), cacheConfig.getKeyPrefixFor(name));
+		clearNearCache();
+		return cleared > 0;
 	}
 
 	@Override
 	public void clear() {
+		if (writeBehind != null) {
+			writeBehind.discardAll();
+		}
 		cacheWriter.clear( cacheConfig.getCollectionName(), cacheConfig.getKeyPrefixFor(name));
+		clearNearCache();
+	}
+
+	/**
+	 * Write the puts buffered by {@link CouchbaseCacheConfiguration#writeBehind(int, Duration) write-behind} now.
+	 *
+	 * @since 6.2
+	 */
+	public void flush() {
+		if (writeBehind != null) {
+			writeBehind.flush();
+		}
+	}
+
+	/**
+	 * @return the state of the write-behind buffer, {@literal null} if puts are written immediately.
+	 * @since 6.2
+	 */
+	public @Nullable WriteBehindStatistics getWriteBehindStatistics() {
+		return writeBehind != null ? writeBehind.statistics() : null;
+	}
+
+	/**
+	 * Stop flushing in the background and write the remaining buffered puts.
+	 */
+	void close() {
+		if (writeBehind != null) {
+			writeBehind.close();
+		}
+	}
+
+	private void invalidateNearCache(String cacheKey) {
+		if (nearCache != null) {
+			nearCache.invalidate(cacheKey);
+		}
+	}
+
+	private void clearNearCache() {
+		if (nearCache != null) {
+			nearCache.clear();
+		}
 	}
 
 	/**
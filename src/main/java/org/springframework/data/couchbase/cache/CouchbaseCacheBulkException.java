@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.couchbase.cache;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Thrown when some keys of a bulk cache operation failed. The operation was still applied to all other keys, their
+ * results are available from {@link #getResults()}.
+ *
+ * @since 6.2
+ */
+public class CouchbaseCacheBulkException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Map<Object, Throwable> failures;
+	private final Map<Object, ?> results;
+
+	/**
+	 * Constructor for CouchbaseCacheBulkException.
+	 *
+	 * @param msg the detail message
+	 * @param failures the cause of the failure of each failed key
+	 * @param results the results of the keys that succeeded
+	 */
+	public CouchbaseCacheBulkException(final String msg, final Map<?, ? extends Throwable> failures,
+			final Map<?, ?> results) {
+		super(msg, failures.values().stream().findFirst().orElse(null));
+		this.failures = Collections.unmodifiableMap(failures);
+		this.results = Collections.unmodifiableMap(results);
+	}
+
+	/**
+	 * @return the cause of the failure keyed by the failed key.
+	 */
+	public Map<Object, Throwable> getFailures() {
+		return failures;
+	}
+
+	/**
+	 * @return the result of the operation keyed by the succeeded key, for reads only the keys that were found.
+	 */
+	public Map<Object, ?> getResults() {
+		return results;
+	}
+
+}
@@ -38,10 +38,16 @@ public class CouchbaseCacheConfiguration {
 	private final Transcoder valueTranscoder;
 	private final ConversionService conversionService;
 	private final String collectionName;
+	private final int nearCacheMaximumSize;
+	private final Duration nearCacheTimeToLive;
+	private final Duration loadLockTime;
+	private final int writeBehindBufferSize;
+	private final Duration writeBehindFlushInterval;
 
 	private CouchbaseCacheConfiguration(final Duration expiry, final boolean cacheNullValues, final boolean usePrefix,
 			final CacheKeyPrefix keyPrefix, final ConversionService conversionService, final Transcoder valueTranscoder,
-			final String collectionName) {
+			final String collectionName, final int nearCacheMaximumSize, final Duration nearCacheTimeToLive,
+			final Duration loadLockTime, final int writeBehindBufferSize, final Duration writeBehindFlushInterval) {
 		this.expiry = expiry;
 		this.cacheNullValues = cacheNullValues;
 		this.usePrefix = usePrefix;
@@ -49,6 +55,11 @@ public class CouchbaseCacheConfiguration {
 		this.conversionService = conversionService;
 		this.valueTranscoder = valueTranscoder;
 		this.collectionName = collectionName;
+		this.nearCacheMaximumSize = nearCacheMaximumSize;
+		this.nearCacheTimeToLive = nearCacheTimeToLive;
+		this.loadLockTime = loadLockTime;
+		this.writeBehindBufferSize = writeBehindBufferSize;
+		this.writeBehindFlushInterval = writeBehindFlushInterval;
 	}
 
 	public static CouchbaseCacheConfiguration defaultCacheConfig() {
@@ -56,7 +67,7 @@ public class CouchbaseCacheConfiguration {
 		registerDefaultConverters(conversionService);
 
 		return new CouchbaseCacheConfiguration(Duration.ZERO, true, true, CacheKeyPrefix.simple(), conversionService,
-				SerializableTranscoder.INSTANCE, null);
+				SerializableTranscoder.INSTANCE, null, 0, Duration.ZERO, Duration.ZERO, 0, Duration.ZERO);
 	}
 
 	/**
@@ -85,7 +96,8 @@ public class CouchbaseCacheConfiguration {
 	public CouchbaseCacheConfiguration entryExpiry(final Duration expiry) {
 		Assert.notNull(expiry, "Expiry duration must not be null!");
 		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, usePrefix, keyPrefix, conversionService,
-				valueTranscoder, collectionName);
+				valueTranscoder, collectionName, nearCacheMaximumSize, nearCacheTimeToLive, loadLockTime,
+				writeBehindBufferSize, writeBehindFlushInterval);
 	}
 
 	/**
@@ -97,7 +109,8 @@ public class CouchbaseCacheConfiguration {
 	public CouchbaseCacheConfiguration collection(final String collectionName) {
 		Assert.notNull(collectionName, "collectionName must not be null!");
 		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, usePrefix, keyPrefix, conversionService,
-				valueTranscoder, collectionName);
+				valueTranscoder, collectionName, nearCacheMaximumSize, nearCacheTimeToLive, loadLockTime,
+				writeBehindBufferSize, writeBehindFlushInterval);
 	}
 
 	/**
@@ -109,7 +122,22 @@ public class CouchbaseCacheConfiguration {
 	public CouchbaseCacheConfiguration valueTranscoder(final Transcoder valueTranscoder) {
 		Assert.notNull(valueTranscoder, "Transcoder must not be null!");
 		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, usePrefix, keyPrefix, conversionService,
-				valueTranscoder, collectionName);
+				valueTranscoder, collectionName, nearCacheMaximumSize, nearCacheTimeToLive, loadLockTime,
+				writeBehindBufferSize, writeBehindFlushInterval);
+	}
+
+	/**
+	 * Compress values whose encoding by the current {@link #valueTranscoder(Transcoder) transcoder} reaches the given
+	 * size. The compression is recorded in the flags of each document, so entries written before compression was enabled
+	 * are still read.
+	 *
+	 * @param thresholdBytes the encoded size in bytes from which values are compressed.
+	 * @return new {@link CouchbaseCacheConfiguration}.
+	 * @since 6.2
+	 * @see CompressingTranscoder
+	 */
+	public CouchbaseCacheConfiguration compressValuesAbove(final int thresholdBytes) {
+		return valueTranscoder(new CompressingTranscoder(valueTranscoder, thresholdBytes));
 	}
 
 	/**
@@ -126,7 +154,8 @@ public class CouchbaseCacheConfiguration {
 	 */
 	public CouchbaseCacheConfiguration disableCachingNullValues() {
 		return new CouchbaseCacheConfiguration(expiry, false, usePrefix, keyPrefix, conversionService, valueTranscoder,
-				collectionName);
+				collectionName, nearCacheMaximumSize, nearCacheTimeToLive, loadLockTime,
+				writeBehindBufferSize, writeBehindFlushInterval);
 	}
 
 	/**
@@ -156,7 +185,72 @@ public class CouchbaseCacheConfiguration {
 	public CouchbaseCacheConfiguration computePrefixWith(CacheKeyPrefix cacheKeyPrefix) {
 		Assert.notNull(cacheKeyPrefix, "Function for computing prefix must not be null!");
 		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, true, cacheKeyPrefix, conversionService,
-				valueTranscoder, collectionName);
+				valueTranscoder, collectionName, nearCacheMaximumSize, nearCacheTimeToLive, loadLockTime,
+				writeBehindBufferSize, writeBehindFlushInterval);
+	}
+
+	/**
+	 * Keep up to {@code maximumSize} entries of the cache in an in-process near cache in front of Couchbase. A local
+	 * entry is served without a network round trip for {@code timeToLive}, capped at the {@link #entryExpiry(Duration)
+	 * expiry}. After that its CAS is compared with the one of the document and the entry is served again only if the
+	 * document did not change. Puts, evictions and clears through the cache remove the local entries, changes made by
+	 * other processes are seen after the time to live at the latest. Values are shared by all callers reading them
+	 * locally and must not be modified.
+	 *
+	 * @param maximumSize the number of entries held locally, {@literal 0} to disable the near cache.
+	 * @param timeToLive how long a local entry is served without revalidation, must not be {@literal null}.
+	 * @return new {@link CouchbaseCacheConfiguration}.
+	 * @since 6.2
+	 */
+	public CouchbaseCacheConfiguration nearCache(final int maximumSize, final Duration timeToLive) {
+		Assert.isTrue(maximumSize >= 0, "maximumSize must not be negative!");
+		Assert.notNull(timeToLive, "timeToLive must not be null!");
+		Assert.isTrue(maximumSize == 0 || (!timeToLive.isNegative() && !timeToLive.isZero()),
+				"timeToLive must be positive!");
+		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, usePrefix, keyPrefix, conversionService,
+				valueTranscoder, collectionName, maximumSize, timeToLive, loadLockTime,
+				writeBehindBufferSize, writeBehindFlushInterval);
+	}
+
+	/**
+	 * Coordinate the value loaders of {@link CouchbaseCache#get(Object, java.util.concurrent.Callable)} across processes.
+	 * Before loading a missing value, a lock document is inserted next to the entry. Only the process that inserted it
+	 * runs the loader, the others poll the cache until the value appears or the lock expires. Within a process
+	 * concurrent loads of the same key always share one loader invocation.
+	 *
+	 * @param lockTime how long a lock document is held at most, {@link Duration#ZERO} to load without a lock. Must not
+	 *          be {@literal null}.
+	 * @return new {@link CouchbaseCacheConfiguration}.
+	 * @since 6.2
+	 */
+	public CouchbaseCacheConfiguration distributedLoadLock(final Duration lockTime) {
+		Assert.notNull(lockTime, "lockTime must not be null!");
+		Assert.isTrue(!lockTime.isNegative(), "lockTime must not be negative!");
+		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, usePrefix, keyPrefix, conversionService,
+				valueTranscoder, collectionName, nearCacheMaximumSize, nearCacheTimeToLive, lockTime,
+				writeBehindBufferSize, writeBehindFlushInterval);
+	}
+
+	/**
+	 * Write puts to Couchbase in the background instead of on the calling thread. Puts of the same key are coalesced in
+	 * a buffer of {@code bufferSize} keys that is written as one concurrent batch every {@code flushInterval}. Once the
+	 * buffer is full, a put of another key writes the buffer on the calling thread. Reads through the cache see buffered
+	 * puts, other processes see them after the next flush. Puts that fail to be written are dropped, see
+	 * {@link CouchbaseCache#getWriteBehindStatistics()}.
+	 *
+	 * @param bufferSize the number of keys buffered, {@literal 0} to write puts immediately.
+	 * @param flushInterval the delay between two flushes, must not be {@literal null}.
+	 * @return new {@link CouchbaseCacheConfiguration}.
+	 * @since 6.2
+	 */
+	public CouchbaseCacheConfiguration writeBehind(final int bufferSize, final Duration flushInterval) {
+		Assert.isTrue(bufferSize >= 0, "bufferSize must not be negative!");
+		Assert.notNull(flushInterval, "flushInterval must not be null!");
+		Assert.isTrue(bufferSize == 0 || (!flushInterval.isNegative() && !flushInterval.isZero()),
+				"flushInterval must be positive!");
+		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, usePrefix, keyPrefix, conversionService,
+				valueTranscoder, collectionName, nearCacheMaximumSize, nearCacheTimeToLive, loadLockTime, bufferSize,
+				flushInterval);
 	}
 
 	/**
@@ -215,4 +309,45 @@ public class CouchbaseCacheConfiguration {
 		return collectionName;
 	}
 
+	/**
+	 * @return the number of entries held in the near cache, {@literal 0} if there is none.
+	 * @since 6.2
+	 */
+	public int getNearCacheMaximumSize() {
+		return nearCacheMaximumSize;
+	}
+
+	/**
+	 * @return how long a near cache entry is served without revalidation, never longer than the {@link #getExpiry()
+	 *         expiry}.
+	 * @since 6.2
+	 */
+	public Duration getNearCacheTimeToLive() {
+		return expiry.isZero() || nearCacheTimeToLive.compareTo(expiry) <= 0 ? nearCacheTimeToLive : expiry;
+	}
+
+	/**
+	 * @return how long a distributed load lock is held at most, {@link Duration#ZERO} if loads are not locked.
+	 * @since 6.2
+	 */
+	public Duration getLoadLockTime() {
+		return loadLockTime;
+	}
+
+	/**
+	 * @return the number of keys buffered by write-behind, {@literal 0} if puts are written immediately.
+	 * @since 6.2
+	 */
+	public int getWriteBehindBufferSize() {
+		return writeBehindBufferSize;
+	}
+
+	/**
+	 * @return the delay between two flushes of the write-behind buffer.
+	 * @since 6.2
+	 */
+	public Duration getWriteBehindFlushInterval() {
+		return writeBehindFlushInterval;
+	}
+
 }
@@ -25,13 +25,17 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cache.Cache;
 import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.data.couchbase.CouchbaseClientFactory;
 import org.jspecify.annotations.Nullable;
 import org.springframework.util.Assert;
 
-public class CouchbaseCacheManager extends AbstractTransactionSupportingCacheManager {
+import com.couchbase.client.java.codec.Transcoder;
+
+public class CouchbaseCacheManager extends AbstractTransactionSupportingCacheManager implements DisposableBean {
 
 	private final CouchbaseCacheWriter cacheWriter;
 	private final CouchbaseCacheConfiguration defaultCacheConfig;
@@ -111,6 +115,24 @@ public class CouchbaseCacheManager extends AbstractTransactionSupportingCacheMan
 		return allowInFlightCacheCreation ? createCouchbaseCache(name, defaultCacheConfig) : null;
 	}
 
+	/**
+	 * Write the puts buffered by the write-behind caches and stop flushing them in the background.
+	 *
+	 * @since 6.2
+	 */
+	@Override
+	public void destroy() {
+		for (String name : getCacheNames()) {
+			Cache cache = lookupCache(name);
+			if (cache instanceof TransactionAwareCacheDecorator decorator) {
+				cache = decorator.getTargetCache();
+			}
+			if (cache instanceof CouchbaseCache couchbaseCache) {
+				couchbaseCache.close();
+			}
+		}
+	}
+
 	/**
 	 * Configuration hook for creating {@link CouchbaseCache} with given name and {@code cacheConfig}.
 	 *
@@ -226,6 +248,24 @@ public class CouchbaseCacheManager extends AbstractTransactionSupportingCacheMan
 			return this;
 		}
 
+		/**
+		 * Use the given transcoder for the values of one cache, for example a {@link CompressingTranscoder}. The cache
+		 * keeps its {@link #withCacheConfiguration(String, CouchbaseCacheConfiguration) configuration} if it has one,
+		 * otherwise it is added with the current {@link #cacheDefaults(CouchbaseCacheConfiguration) defaults}.
+		 *
+		 * @param cacheName must not be {@literal null}.
+		 * @param valueTranscoder must not be {@literal null}.
+		 * @return this {@link CouchbaseCacheManagerBuilder}.
+		 * @since 6.2
+		 */
+		public CouchbaseCacheManagerBuilder withCacheValueTranscoder(String cacheName, Transcoder valueTranscoder) {
+
+			Assert.notNull(cacheName, "CacheName must not be null!");
+			CouchbaseCacheConfiguration cacheConfiguration = getCacheConfigurationFor(cacheName)
+					.orElse(defaultCacheConfiguration);
+			return withCacheConfiguration(cacheName, cacheConfiguration.valueTranscoder(valueTranscoder));
+		}
+
 		/**
 		 * Disable in-flight {@link org.springframework.cache.Cache} creation for unconfigured caches.
 		 * <p>
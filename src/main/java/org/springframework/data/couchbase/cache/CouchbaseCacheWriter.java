@@ -17,6 +17,10 @@
 package org.springframework.data.couchbase.cache;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.jspecify.annotations.Nullable;
 
@@ -85,6 +89,77 @@ public interface CouchbaseCacheWriter {
 	@Nullable
 	Object get(String collectionName, String key, @Nullable Transcoder transcoder, @Nullable Class<?> clazz);
 
+	/**
+	 * Get the value stored for the given key together with the CAS of the document.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @param transcoder Optional transcoder to use. Can be {@literal null}.
+	 * @param clazz Optional class for contentAs(clazz)
+	 * @return {@literal null} if key does not exist.
+	 * @since 6.2
+	 */
+	@Nullable
+	default CasValue getWithCas(String collectionName, String key, @Nullable Transcoder transcoder,
+			@Nullable Class<?> clazz) {
+		Object value = get(collectionName, key, transcoder, clazz);
+		return value == null ? null : new CasValue(value, 0);
+	}
+
+	/**
+	 * Get the CAS of the document stored for the given key without reading its value.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @return the CAS, {@literal 0} if key does not exist or the CAS is not known.
+	 * @since 6.2
+	 */
+	default long getCas(String collectionName, String key) {
+		return 0;
+	}
+
+	/**
+	 * Get the value stored for the given key together with the CAS of the document without blocking the caller. The
+	 * default implementation reads through {@link #getWithCas(String, String, Transcoder, Class)} on the calling thread.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @param transcoder Optional transcoder to use. Can be {@literal null}.
+	 * @param clazz Optional class for contentAs(clazz)
+	 * @return a future completing with {@literal null} if key does not exist.
+	 * @since 6.2
+	 */
+	default CompletableFuture<@Nullable CasValue> getAsync(String collectionName, String key,
+			@Nullable Transcoder transcoder, @Nullable Class<?> clazz) {
+		try {
+			return CompletableFuture.completedFuture(getWithCas(collectionName, key, transcoder, clazz));
+		} catch (RuntimeException ex) {
+			return CompletableFuture.failedFuture(ex);
+		}
+	}
+
+	/**
+	 * Write the given key/value pair to Couchbase without blocking the caller. The default implementation writes through
+	 * {@link #put(String, String, Object, Duration, Transcoder)} on the calling thread.
+	 *
+	 * @param collectionName The cache name must not be {@literal null}.
+	 * @param key The key for the cache entry. Must not be {@literal null}.
+	 * @param value The value stored for the key. Must not be {@literal null}.
+	 * @param expiry Optional expiration time. Can be {@literal null}.
+	 * @param transcoder Optional transcoder to use. Can be {@literal null}.
+	 * @return a future completing once the value is written.
+	 * @since 6.2
+	 */
+	default CompletableFuture<Void> putAsync(String collectionName, String key, Object value, @Nullable Duration expiry,
+			@Nullable Transcoder transcoder) {
+		try {
+			put(collectionName, key, value, expiry, transcoder);
+			return CompletableFuture.completedFuture(null);
+		} catch (RuntimeException ex) {
+			return CompletableFuture.failedFuture(ex);
+		}
+	}
+
 	/**
 	 * Remove the given key from Couchbase.
 	 *
@@ -94,6 +169,90 @@ public interface CouchbaseCacheWriter {
 	 */
 	boolean remove(String collectionName, String key);
 
+	/**
+	 * Get the values stored for the given keys together with the CAS of their documents. The default implementation
+	 * reads the keys one after the other.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param keys must not be {@literal null}.
+	 * @param transcoder Optional transcoder to use. Can be {@literal null}.
+	 * @param clazz Optional class for contentAs(clazz)
+	 * @return the values of the keys that exist.
+	 * @throws CouchbaseCacheBulkException if some keys could not be read, holding the values of all others.
+	 * @since 6.2
+	 */
+	default Map<String, CasValue> getAll(String collectionName, Collection<String> keys, @Nullable Transcoder transcoder,
+			@Nullable Class<?> clazz) {
+		Map<String, CasValue> values = new LinkedHashMap<>();
+		Map<String, RuntimeException> failures = new LinkedHashMap<>();
+		for (String key : keys) {
+			try {
+				CasValue value = getWithCas(collectionName, key, transcoder, clazz);
+				if (value != null) {
+					values.put(key, value);
+				}
+			} catch (RuntimeException ex) {
+				failures.put(key, ex);
+			}
+		}
+		if (!failures.isEmpty()) {
+			throw new CouchbaseCacheBulkException("Could not read all cache entries", failures, values);
+		}
+		return values;
+	}
+
+	/**
+	 * Write all given key/value pairs to Couchbase. The default implementation writes the pairs one after the other.
+	 *
+	 * @param collectionName The cache name must not be {@literal null}.
+	 * @param values The values keyed by the key of their cache entry. Must not be {@literal null}.
+	 * @param expiry Optional expiration time. Can be {@literal null}.
+	 * @param transcoder Optional transcoder to use. Can be {@literal null}.
+	 * @throws CouchbaseCacheBulkException if some pairs could not be written, holding the keys written.
+	 * @since 6.2
+	 */
+	default void putAll(String collectionName, Map<String, ?> values, @Nullable Duration expiry,
+			@Nullable Transcoder transcoder) {
+		Map<String, Boolean> written = new LinkedHashMap<>();
+		Map<String, RuntimeException> failures = new LinkedHashMap<>();
+		values.forEach((key, value) -> {
+			try {
+				put(collectionName, key, value, expiry, transcoder);
+				written.put(key, true);
+			} catch (RuntimeException ex) {
+				failures.put(key, ex);
+			}
+		});
+		if (!failures.isEmpty()) {
+			throw new CouchbaseCacheBulkException("Could not write all cache entries", failures, written);
+		}
+	}
+
+	/**
+	 * Remove the given keys from Couchbase. The default implementation removes the keys one after the other.
+	 *
+	 * @param collectionName The cache name must not be {@literal null}.
+	 * @param keys The keys of the cache entries. Must not be {@literal null}.
+	 * @return the number of documents that existed on removal.
+	 * @throws CouchbaseCacheBulkException if some keys could not be removed, holding whether each other key existed.
+	 * @since 6.2
+	 */
+	default long removeAll(String collectionName, Collection<String> keys) {
+		Map<String, Boolean> removed = new LinkedHashMap<>();
+		Map<String, RuntimeException> failures = new LinkedHashMap<>();
+		for (String key : keys) {
+			try {
+				removed.put(key, remove(collectionName, key));
+			} catch (RuntimeException ex) {
+				failures.put(key, ex);
+			}
+		}
+		if (!failures.isEmpty()) {
+			throw new CouchbaseCacheBulkException("Could not remove all cache entries", failures, removed);
+		}
+		return removed.values().stream().filter(Boolean::booleanValue).count();
+	}
+
 	/**
 	 * Clears the cache with the given key pattern prefix.
 	 *
@@ -102,4 +261,13 @@ public interface CouchbaseCacheWriter {
 	 */
 	long clear(String collectionName, String pattern);
 
+	/**
+	 * A cached value and the CAS of the document holding it.
+	 *
+	 * @param value the value.
+	 * @param cas the CAS, {@literal 0} if not known.
+	 * @since 6.2
+	 */
+	record CasValue(Object value, long cas) {}
+
 }
@@ -20,23 +20,37 @@ import static com.couchbase.client.core.io.CollectionIdentifier.DEFAULT_COLLECTI
 import static com.couchbase.client.core.io.CollectionIdentifier.DEFAULT_SCOPE;
 import static com.couchbase.client.java.kv.GetOptions.getOptions;
 import static com.couchbase.client.java.kv.InsertOptions.insertOptions;
+import static com.couchbase.client.java.kv.ScanOptions.scanOptions;
 import static com.couchbase.client.java.kv.UpsertOptions.upsertOptions;
 import static com.couchbase.client.java.query.QueryOptions.queryOptions;
 import static com.couchbase.client.java.query.QueryScanConsistency.REQUEST_PLUS;
 
 import io.micrometer.common.lang.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.springframework.data.couchbase.CouchbaseClientFactory;
+import org.springframework.data.couchbase.core.support.TemplateUtils;
 
 import com.couchbase.client.core.error.DocumentExistsException;
 import com.couchbase.client.core.error.DocumentNotFoundException;
+import com.couchbase.client.core.error.FeatureNotAvailableException;
 import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.ReactiveCollection;
 import com.couchbase.client.java.Scope;
 import com.couchbase.client.java.codec.Transcoder;
 import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.kv.ExistsResult;
+import com.couchbase.client.java.kv.GetResult;
 import com.couchbase.client.java.kv.InsertOptions;
+import com.couchbase.client.java.kv.ScanType;
 import com.couchbase.client.java.kv.UpsertOptions;
 import com.couchbase.client.java.query.QueryMetrics;
 import com.couchbase.client.java.query.QueryResult;
@@ -52,6 +66,17 @@ public class DefaultCouchbaseCacheWriter implements CouchbaseCacheWriter {
 	@Override
 	public void put(final String collectionName, final String key, final Object value, final Duration expiry,
 			final Transcoder transcoder) {
+		getCollection(collectionName).upsert(key, value, upsertOptionsFor(expiry, transcoder));
+	}
+
+	@Override
+	public CompletableFuture<Void> putAsync(final String collectionName, final String key, final Object value,
+			final Duration expiry, final Transcoder transcoder) {
+		return getCollection(collectionName).async().upsert(key, value, upsertOptionsFor(expiry, transcoder))
+				.thenApply(result -> null);
+	}
+
+	private static UpsertOptions upsertOptionsFor(final Duration expiry, final Transcoder transcoder) {
 		UpsertOptions options = upsertOptions();
 
 		if (expiry != null) {
@@ -60,8 +85,7 @@ public class DefaultCouchbaseCacheWriter implements CouchbaseCacheWriter {
 		if (transcoder != null) {
 			options.transcoder(transcoder);
 		}
-
-		getCollection(collectionName).upsert(key, value, options);
+		return options;
 	}
 
 	@Override
@@ -116,6 +140,39 @@ public class DefaultCouchbaseCacheWriter implements CouchbaseCacheWriter {
 		}
 	}
 
+	@Override
+	public CasValue getWithCas(final String collectionName, final String key, final Transcoder transcoder,
+			final Class<?> clazz) {
+		try {
+			GetResult result = getCollection(collectionName).get(key, getOptions().transcoder(transcoder));
+			return new CasValue(result.contentAs(clazz), result.cas());
+		} catch (DocumentNotFoundException ex) {
+			return null;
+		}
+	}
+
+	@Override
+	public CompletableFuture<CasValue> getAsync(final String collectionName, final String key,
+			final Transcoder transcoder, final Class<?> clazz) {
+		return getCollection(collectionName).async().get(key, getOptions().transcoder(transcoder))
+				.handle((result, ex) -> {
+					if (ex == null) {
+						return new CasValue(result.contentAs(clazz), result.cas());
+					}
+					Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+					if (cause instanceof DocumentNotFoundException) {
+						return null;
+					}
+					throw ex instanceof CompletionException completion ? completion : new CompletionException(ex);
+				});
+	}
+
+	@Override
+	public long getCas(final String collectionName, final String key) {
+		ExistsResult result = getCollection(collectionName).exists(key);
+		return result.exists() ? result.cas() : 0;
+	}
+
 	@Override
 	public boolean remove(final String collectionName, final String key) {
 		try {
@@ -126,8 +183,77 @@ public class DefaultCouchbaseCacheWriter implements CouchbaseCacheWriter {
 		}
 	}
 
+	@Override
+	public Map<String, CasValue> getAll(final String collectionName, final java.util.Collection<String> keys,
+			final Transcoder transcoder, final Class<?> clazz) {
+		ReactiveCollection collection = getCollection(collectionName).reactive();
+		return forEachKey(keys, key -> collection.get(key, getOptions().transcoder(transcoder))
+				.map(result -> new CasValue(result.contentAs(clazz), result.cas()))
+				.onErrorResume(DocumentNotFoundException.class, e -> Mono.empty()), "Could not read all cache entries");
+	}
+
+	@Override
+	public void putAll(final String collectionName, final Map<String, ?> values, final Duration expiry,
+			final Transcoder transcoder) {
+		ReactiveCollection collection = getCollection(collectionName).reactive();
+		UpsertOptions options = upsertOptionsFor(expiry, transcoder);
+		forEachKey(values.keySet(), key -> collection.upsert(key, values.get(key), options).thenReturn(true),
+				"Could not write all cache entries");
+	}
+
+	@Override
+	public long removeAll(final String collectionName, final java.util.Collection<String> keys) {
+		ReactiveCollection collection = getCollection(collectionName).reactive();
+		Map<String, Boolean> removed = forEachKey(keys, key -> collection.remove(key).thenReturn(true)
+				.onErrorResume(DocumentNotFoundException.class, e -> Mono.just(false)), "Could not remove all cache entries");
+		return removed.values().stream().filter(Boolean::booleanValue).count();
+	}
+
+	/**
+	 * Run the operation for all keys, keeping up to {@link TemplateUtils#DEFAULT_BULK_CONCURRENCY} of them in flight.
+	 * Failed keys do not stop the others, they are reported together once all keys completed.
+	 */
+	private static <R> Map<String, R> forEachKey(final Iterable<String> keys, final Function<String, Mono<R>> operation,
+			final String failureMessage) {
+		Map<String, R> results = new ConcurrentHashMap<>();
+		Map<String, Throwable> failures = new ConcurrentHashMap<>();
+		Flux.fromIterable(keys)
+				.flatMap(key -> Mono.defer(() -> operation.apply(key)).doOnNext(result -> results.put(key, result))
+						.onErrorResume(ex -> {
+							failures.put(key, ex);
+							return Mono.empty();
+						}), TemplateUtils.DEFAULT_BULK_CONCURRENCY)
+				.blockLast();
+		if (!failures.isEmpty()) {
+			throw new CouchbaseCacheBulkException(failureMessage, failures, results);
+		}
+		return results;
+	}
+
+	/**
+	 * Removes all documents whose key starts with the pattern. Their keys are streamed by a KV prefix range scan and
+	 * removed with pipelined requests, so neither the query service nor an index is involved. Clusters not supporting
+	 * range scans are cleared with a N1QL DELETE instead.
+	 */
 	@Override
 	public long clear(final String collectionName, final String pattern) {
+		ReactiveCollection collection = getCollection(collectionName).reactive();
+		try {
+			Long removed = collection.scan(ScanType.prefixScan(pattern), scanOptions().idsOnly(true))
+					.flatMap(result -> collection.remove(result.id()).thenReturn(1L)
+							.onErrorResume(DocumentNotFoundException.class, e -> Mono.just(0L)),
+							TemplateUtils.DEFAULT_BULK_CONCURRENCY)
+					.reduce(0L, Long::sum).block();
+			return removed != null ? removed : 0;
+		} catch (FeatureNotAvailableException ex) {
+			return clearWithQuery(collectionName, pattern);
+		}
+	}
+
+	/**
+	 * Clear through the query service, which needs an index on the collection and waits for it to catch up.
+	 */
+	private long clearWithQuery(final String collectionName, final String pattern) {
 		QueryResult result;
 		if (getScope() == null
 				|| (DEFAULT_SCOPE.equals(getScope().name()) && DEFAULT_COLLECTION.equals(getCollection(collectionName).name()))) {
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.couchbase.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded in-process tier in front of a {@link CouchbaseCache}.
+ * <p>
+ * Entries are kept in least recently used order. Once the near cache is full a new entry is only admitted if it was
+ * requested more often than the entry it would evict (TinyLFU admission), the frequencies are estimated by a
+ * count-min sketch that is halved periodically so it follows a changing working set. An entry is fresh for the time to
+ * live, after that it is revalidated against the CAS of the document before it is served again.
+ * <p>
+ * Reads do not lock: the entries are held in a concurrent map and a read is only recorded in a lossy ring buffer. The
+ * recorded reads are applied to the sketch and the recency order in batches, by whichever thread holds the lock for a
+ * write or wins it once the buffer is half full. A read value is offered together with the invalidation stamp taken
+ * before it was read, so an invalidation racing with the read keeps the value out.
+ *
+ * @since 6.2
+ */
+final class NearCache {
+
+	private static final int READ_BUFFER_SIZE = 128;
+	private static final int STAMP_STRIPES = 256;
+
+	private final int maximumSize;
+	private final long timeToLiveNanos;
+	private final LongSupplier ticker;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+
+	private final AtomicReferenceArray<String> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+	private final AtomicLong readsRecorded = new AtomicLong();
+	private volatile long readsApplied;
+
+	// guarded by lock
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Map<String, Boolean> recency = new LinkedHashMap<>(16, 0.75f, true);
+	private final FrequencySketch sketch;
+
+	NearCache(int maximumSize, Duration timeToLive) {
+		this(maximumSize, timeToLive, System::nanoTime);
+	}
+
+	NearCache(int maximumSize, Duration timeToLive, LongSupplier ticker) {
+		Assert.isTrue(maximumSize > 0, "maximumSize must be greater than 0");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+		this.maximumSize = maximumSize;
+		this.timeToLiveNanos = timeToLive.toNanos();
+		this.ticker = ticker;
+		this.sketch = new FrequencySketch(maximumSize);
+	}
+
+	/**
+	 * Look up an entry and count the request towards the admission frequency of the key.
+	 *
+	 * @return the entry, possibly stale, or {@literal null} if the key is not held locally.
+	 */
+	@Nullable
+	Entry get(String key, Class<?> type) {
+		recordRead(key);
+		Entry entry = entries.get(key);
+		return entry != null && entry.type == type ? entry : null;
+	}
+
+	/**
+	 * Return the invalidation stamp of a key, to be taken before its value is read from Couchbase and passed to
+	 * {@link #put(String, Object, long, Class, long)}.
+	 */
+	long stamp(String key) {
+		return stamps.get(stripe(key));
+	}
+
+	/**
+	 * Offer a value read from Couchbase. The value is dropped if the key was invalidated since the stamp was taken, or
+	 * if the near cache is full and the key is requested less often than the least recently used key.
+	 */
+	void put(String key, Object value, long cas, Class<?> type, long stamp) {
+		Entry entry = new Entry(value, cas, type, ticker.getAsLong() + timeToLiveNanos);
+		lock.lock();
+		try {
+			applyReads();
+			// an invalidation increments the stamp before it takes the lock, so a later one removes this entry again
+			if (stamps.get(stripe(key)) != stamp) {
+				return;
+			}
+			if (recency.containsKey(key) || recency.size() < maximumSize) {
+				recency.put(key, Boolean.TRUE);
+				entries.put(key, entry);
+				return;
+			}
+			Iterator<String> eldest = recency.keySet().iterator();
+			String victim = eldest.next();
+			if (sketch.frequency(key) > sketch.frequency(victim)) {
+				eldest.remove();
+				entries.remove(victim);
+				recency.put(key, Boolean.TRUE);
+				entries.put(key, entry);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Mark a stale entry as fresh again after its CAS was found unchanged.
+	 */
+	void revalidated(String key, Entry entry) {
+		entries.replace(key, entry, new Entry(entry.value, entry.cas, entry.type, ticker.getAsLong() + timeToLiveNanos));
+	}
+
+	void invalidate(String key) {
+		stamps.incrementAndGet(stripe(key));
+		lock.lock();
+		try {
+			recency.remove(key);
+			entries.remove(key);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	void clear() {
+		for (int i = 0; i < STAMP_STRIPES; i++) {
+			stamps.incrementAndGet(i);
+		}
+		lock.lock();
+		try {
+			recency.clear();
+			entries.clear();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	boolean isFresh(Entry entry) {
+		return ticker.getAsLong() - entry.expiresAt < 0;
+	}
+
+	private void recordRead(String key) {
+		long index = readsRecorded.getAndIncrement();
+		readBuffer.lazySet((int) (index & (READ_BUFFER_SIZE - 1)), key);
+		if (index - readsApplied >= READ_BUFFER_SIZE / 2 && lock.tryLock()) {
+			try {
+				applyReads();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Apply the recorded reads to the sketch and the recency order. Reads overwritten before they were applied are lost,
+	 * which only makes the estimates coarser. Must be called holding the lock.
+	 */
+	private void applyReads() {
+		long recorded = readsRecorded.get();
+		long index = Math.max(readsApplied, recorded - READ_BUFFER_SIZE);
+		for (; index < recorded; index++) {
+			String key = readBuffer.getAndSet((int) (index & (READ_BUFFER_SIZE - 1)), null);
+			if (key != null) {
+				sketch.increment(key);
+				recency.get(key); // moves the key to the most recently used end
+			}
+		}
+		readsApplied = recorded;
+	}
+
+	private static int stripe(String key) {
+		int hash = key.hashCode();
+		return (hash ^ (hash >>> 16)) & (STAMP_STRIPES - 1);
+	}
+
+	/**
+	 * A value held locally together with the CAS it was read with.
+	 */
+	static final class Entry {
+
+		final Object value;
+		final long cas;
+		final Class<?> type;
+		final long expiresAt;
+
+		Entry(Object value, long cas, Class<?> type, long expiresAt) {
+			this.value = value;
+			this.cas = cas;
+			this.type = type;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	/**
+	 * Count-min sketch of 4 rows with counters saturating at 15. All counters are halved after ten increments per
+	 * entry of capacity, so past popularity fades.
+	 */
+	static final class FrequencySketch {
+
+		private static final int ROWS = 4;
+		private static final int MAX_COUNT = 15;
+		private static final int[] SEEDS = { 0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F };
+
+		private final int[][] counters;
+		private final int mask;
+		private final int sampleSize;
+		private int additions;
+
+		FrequencySketch(int maximumSize) {
+			int width = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 24)) * 2 - 1);
+			this.counters = new int[ROWS][width];
+			this.mask = width - 1;
+			this.sampleSize = 10 * Math.max(maximumSize, 16);
+		}
+
+		void increment(Object key) {
+			int hash = spread(key.hashCode());
+			boolean added = false;
+			for (int row = 0; row < ROWS; row++) {
+				int index = index(hash, row);
+				if (counters[row][index] < MAX_COUNT) {
+					counters[row][index]++;
+					added = true;
+				}
+			}
+			if (added && ++additions >= sampleSize) {
+				reset();
+			}
+		}
+
+		int frequency(Object key) {
+			int hash = spread(key.hashCode());
+			int frequency = MAX_COUNT;
+			for (int row = 0; row < ROWS; row++) {
+				frequency = Math.min(frequency, counters[row][index(hash, row)]);
+			}
+			return frequency;
+		}
+
+		private void reset() {
+			for (int[] row : counters) {
+				for (int i = 0; i < row.length; i++) {
+					row[i] >>>= 1;
+				}
+			}
+			additions /= 2;
+		}
+
+		private int index(int hash, int row) {
+			int h = (hash + SEEDS[row]) * SEEDS[row];
+			return (h ^ (h >>> 16)) & mask;
+		}
+
+		private static int spread(int hash) {
+			hash ^= hash >>> 17;
+			hash *= 0xED5AD4BB;
+			return hash ^ (hash >>> 11);
+		}
+	}
+
+}
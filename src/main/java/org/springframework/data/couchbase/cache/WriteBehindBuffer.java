@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.couchbase.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded buffer of cache puts written to Couchbase in the background.
+ * <p>
+ * Puts of the same key are coalesced, only the latest value is written. The buffer is flushed on a fixed interval by a
+ * scheduler thread, each flush writes all pending puts as one concurrent batch. A put of a new key into a full buffer
+ * flushes it on the calling thread, so callers are slowed down to the write rate instead of losing writes. Flushes run
+ * one at a time, which keeps the writes of a key in order. Puts that still fail are dropped and counted.
+ *
+ * @since 6.2
+ */
+final class WriteBehindBuffer {
+
+	private static final Logger LOG = LoggerFactory.getLogger(WriteBehindBuffer.class);
+
+	private final int capacity;
+	private final Consumer<Map<String, Object>> batchWriter;
+	private final LongSupplier ticker;
+	private final Map<String, Pending> pending = new LinkedHashMap<>();
+	private final Map<String, Object> flushing = new HashMap<>();
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private final AtomicLong written = new AtomicLong();
+	private final AtomicLong coalesced = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	private @Nullable ScheduledExecutorService scheduler;
+
+	/**
+	 * @param batchWriter writes a batch of document keys and values, reporting failed keys with a
+	 *          {@link CouchbaseCacheBulkException}.
+	 */
+	WriteBehindBuffer(int capacity, Consumer<Map<String, Object>> batchWriter, LongSupplier ticker) {
+		Assert.isTrue(capacity > 0, "capacity must be greater than 0");
+		this.capacity = capacity;
+		this.batchWriter = batchWriter;
+		this.ticker = ticker;
+	}
+
+	/**
+	 * Start flushing the buffer on the given interval from a daemon thread.
+	 */
+	void start(String name, Duration flushInterval) {
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+				daemonThreadFactory("couchbase-cache-" + name + "-write-behind-"));
+		executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+		long interval = flushInterval.toNanos();
+		executor.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.NANOSECONDS);
+		this.scheduler = executor;
+	}
+
+	void put(String key, Object value) {
+		while (true) {
+			synchronized (this) {
+				Pending previous = pending.get(key);
+				if (previous != null) {
+					pending.put(key, new Pending(value, previous.enqueuedAt));
+					coalesced.incrementAndGet();
+					return;
+				}
+				if (pending.size() < capacity) {
+					pending.put(key, new Pending(value, ticker.getAsLong()));
+					return;
+				}
+			}
+			flush();
+		}
+	}
+
+	/**
+	 * @return the value of a put not yet written to Couchbase, {@literal null} if there is none.
+	 */
+	synchronized @Nullable Pending get(String key) {
+		Pending entry = pending.get(key);
+		if (entry == null && flushing.containsKey(key)) {
+			return new Pending(flushing.get(key), 0);
+		}
+		return entry;
+	}
+
+	/**
+	 * Drop the pending put of the key, waiting for a running flush so it cannot write the key afterwards.
+	 *
+	 * @return whether a put was pending.
+	 */
+	boolean discard(String key) {
+		flushLock.lock();
+		try {
+			synchronized (this) {
+				return pending.remove(key) != null;
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * Drop all pending puts, waiting for a running flush.
+	 */
+	void discardAll() {
+		flushLock.lock();
+		try {
+			synchronized (this) {
+				pending.clear();
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * Write all pending puts.
+	 */
+	void flush() {
+		flushLock.lock();
+		try {
+			Map<String, Object> batch;
+			synchronized (this) {
+				if (pending.isEmpty()) {
+					return;
+				}
+				batch = new LinkedHashMap<>(pending.size());
+				for (Iterator<Map.Entry<String, Pending>> it = pending.entrySet().iterator(); it.hasNext();) {
+					Map.Entry<String, Pending> entry = it.next();
+					batch.put(entry.getKey(), entry.getValue().value);
+					it.remove();
+				}
+				flushing.putAll(batch);
+			}
+			try {
+				batchWriter.accept(batch);
+				written.addAndGet(batch.size());
+			} catch (CouchbaseCacheBulkException ex) {
+				dropped.addAndGet(ex.getFailures().size());
+				written.addAndGet(batch.size() - ex.getFailures().size());
+				LOG.warn("Dropped {} of {} write-behind cache puts", ex.getFailures().size(), batch.size(), ex);
+			} catch (RuntimeException ex) {
+				dropped.addAndGet(batch.size());
+				LOG.warn("Dropped {} write-behind cache puts", batch.size(), ex);
+			} finally {
+				synchronized (this) {
+					flushing.clear();
+				}
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	private void flushQuietly() {
+		try {
+			flush();
+		} catch (RuntimeException ex) {
+			LOG.warn("Flushing write-behind cache puts failed", ex);
+		}
+	}
+
+	/**
+	 * Stop the scheduler and write the remaining puts.
+	 */
+	void close() {
+		if (scheduler != null) {
+			scheduler.shutdown();
+		}
+		flush();
+	}
+
+	synchronized WriteBehindStatistics statistics() {
+		long lag = pending.isEmpty() ? 0 : ticker.getAsLong() - pending.values().iterator().next().enqueuedAt;
+		return new WriteBehindStatistics(pending.size(), written.get(), coalesced.get(), dropped.get(),
+				Duration.ofNanos(lag));
+	}
+
+	private static CustomizableThreadFactory daemonThreadFactory(String prefix) {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+
+	/**
+	 * A value waiting to be written and when its key was first buffered.
+	 */
+	static final class Pending {
+
+		final Object value;
+		final long enqueuedAt;
+
+		Pending(Object value, long enqueuedAt) {
+			this.value = value;
+			this.enqueuedAt = enqueuedAt;
+		}
+	}
+
+}
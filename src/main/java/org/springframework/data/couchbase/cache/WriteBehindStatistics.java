@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.couchbase.cache;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of the write-behind buffer of a {@link CouchbaseCache}.
+ *
+ * @param pending the number of keys waiting to be written.
+ * @param written the number of puts written to Couchbase.
+ * @param coalesced the number of puts replaced by a later put of the same key before being written.
+ * @param dropped the number of puts that failed to be written and were discarded.
+ * @param lag how long the oldest pending put has been waiting.
+ * @since 6.2
+ * @see CouchbaseCacheConfiguration#writeBehind(int, Duration)
+ */
+public record WriteBehindStatistics(long pending, long written, long coalesced, long dropped, Duration lag) {}
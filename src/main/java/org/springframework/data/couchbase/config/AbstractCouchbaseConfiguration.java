@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -42,6 +43,8 @@ import org.springframework.data.convert.SimplePropertyValueConversions;
 import org.springframework.data.couchbase.CouchbaseClientFactory;
 import org.springframework.data.couchbase.SimpleCouchbaseClientFactory;
 import org.springframework.data.couchbase.core.CouchbaseTemplate;
+import org.springframework.data.couchbase.core.DocumentChangeTracker;
+import org.springframework.data.couchbase.core.QueryRowDecoder;
 import org.springframework.data.couchbase.core.ReactiveCouchbaseTemplate;
 import org.springframework.data.couchbase.core.convert.BooleanToEnumConverterFactory;
 import org.springframework.data.couchbase.core.convert.CouchbaseCustomConversions;
@@ -56,6 +59,7 @@ import org.springframework.data.couchbase.core.convert.translation.JacksonTransl
 import org.springframework.data.couchbase.core.convert.translation.TranslationService;
 import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
 import org.springframework.data.couchbase.core.mapping.Document;
+import org.springframework.data.couchbase.core.query.PreparedStatementRegistry;
 import org.springframework.data.couchbase.repository.config.ReactiveRepositoryOperationsMapping;
 import org.springframework.data.couchbase.repository.config.RepositoryOperationsMapping;
 import org.springframework.data.couchbase.transaction.CouchbaseCallbackTransactionManager;
@@ -188,15 +192,23 @@ public abstract class AbstractCouchbaseConfiguration {
 	@Bean(name = BeanNames.COUCHBASE_TEMPLATE)
 	public CouchbaseTemplate couchbaseTemplate(CouchbaseClientFactory couchbaseClientFactory,
 			MappingCouchbaseConverter mappingCouchbaseConverter, TranslationService couchbaseTranslationService) {
-		return new CouchbaseTemplate(couchbaseClientFactory, mappingCouchbaseConverter, couchbaseTranslationService,
-				getDefaultConsistency());
+		CouchbaseTemplate template = new CouchbaseTemplate(couchbaseClientFactory, mappingCouchbaseConverter,
+				couchbaseTranslationService, getDefaultConsistency());
+		template.setPreparedStatementRegistry(preparedStatementRegistry());
+		template.setDocumentChangeTracker(documentChangeTracker());
+		template.setQueryRowDecoder(queryRowDecoder());
+		return template;
 	}
 
 	@Bean(name = BeanNames.REACTIVE_COUCHBASE_TEMPLATE)
 	public ReactiveCouchbaseTemplate reactiveCouchbaseTemplate(CouchbaseClientFactory couchbaseClientFactory,
 			MappingCouchbaseConverter mappingCouchbaseConverter, TranslationService couchbaseTranslationService) {
-		return new ReactiveCouchbaseTemplate(couchbaseClientFactory, mappingCouchbaseConverter, couchbaseTranslationService,
-				getDefaultConsistency());
+		ReactiveCouchbaseTemplate template = new ReactiveCouchbaseTemplate(couchbaseClientFactory,
+				mappingCouchbaseConverter, couchbaseTranslationService, getDefaultConsistency());
+		template.setPreparedStatementRegistry(preparedStatementRegistry());
+		template.setDocumentChangeTracker(documentChangeTracker());
+		template.setQueryRowDecoder(queryRowDecoder());
+		return template;
 	}
 
 	@Bean(name = BeanNames.COUCHBASE_OPERATIONS_MAPPING)
@@ -279,6 +291,7 @@ public abstract class AbstractCouchbaseConfiguration {
 	public MappingCouchbaseConverter mappingCouchbaseConverter(CouchbaseMappingContext couchbaseMappingContext,
 			CouchbaseCustomConversions couchbaseCustomConversions) {
 		MappingCouchbaseConverter converter = new MappingCouchbaseConverter(couchbaseMappingContext, typeKey(), couchbaseCustomConversions);
+		converter.setDirectJsonRead(directJsonRead());
 		couchbaseMappingContext.setSimpleTypeHolder(couchbaseCustomConversions.getSimpleTypeHolder());
 		return converter;
 	}
@@ -292,6 +305,7 @@ public abstract class AbstractCouchbaseConfiguration {
 	public TranslationService couchbaseTranslationService() {
 		final JacksonTranslationService jacksonTranslationService = new JacksonTranslationService();
 		jacksonTranslationService.setObjectMapper(getObjectMapper());
+		jacksonTranslationService.setStreamingWrite(streamingWrite());
 		jacksonTranslationService.afterPropertiesSet();
 		// for sdk3, we need to ask the mapper _it_ uses to ignore extra fields...
 		JacksonTransformers.MAPPER.configure(
@@ -410,6 +424,62 @@ public abstract class AbstractCouchbaseConfiguration {
 		return false;
 	}
 
+	/**
+	 * Configure whether entities are read directly from the JSON returned by the server, without building the
+	 * intermediate {@link org.springframework.data.couchbase.core.mapping.CouchbaseDocument} tree.
+	 *
+	 * @see MappingCouchbaseConverter#setDirectJsonRead(boolean)
+	 * @since 6.2
+	 */
+	protected boolean directJsonRead() {
+		return false;
+	}
+
+	/**
+	 * Configure whether written documents are streamed into UTF-8 JSON bytes and stored with a raw JSON transcoder,
+	 * instead of having the SDK serialize the exported
+	 * {@link org.springframework.data.couchbase.core.mapping.CouchbaseDocument}.
+	 *
+	 * @see JacksonTranslationService#setStreamingWrite(boolean)
+	 * @since 6.2
+	 */
+	protected boolean streamingWrite() {
+		return false;
+	}
+
+	/**
+	 * Creates the {@link PreparedStatementRegistry} of a template, which executes N1QL statements that are run
+	 * repeatedly as prepared statements. Each template gets its own registry. Override to tune the threshold and bound,
+	 * or return {@literal null} to execute all statements adhoc.
+	 *
+	 * @since 6.2
+	 */
+	protected PreparedStatementRegistry preparedStatementRegistry() {
+		return new PreparedStatementRegistry();
+	}
+
+	/**
+	 * Creates the {@link DocumentChangeTracker} of a template, which makes saving an entity that was read by id write
+	 * only its changed fields. Each template gets its own tracker. Disabled by default, override to return a tracker.
+	 *
+	 * @since 6.2
+	 */
+	protected @Nullable DocumentChangeTracker documentChangeTracker() {
+		return null;
+	}
+
+	/**
+	 * Creates the {@link QueryRowDecoder} of the templates, which decodes the rows of large query results on threads of
+	 * its own instead of the I/O threads. Both templates share the decoder, which is disposed with the application
+	 * context. Disabled by default, override to return a decoder.
+	 *
+	 * @since 6.2
+	 */
+	@Bean(destroyMethod = "dispose")
+	protected @Nullable QueryRowDecoder queryRowDecoder() {
+		return null;
+	}
+
 	/**
 	 * Register custom Converters in a {@link CustomConversions} object if required. These {@link CustomConversions} will
 	 * be registered with the {@link #mappingCouchbaseConverter(CouchbaseMappingContext, CouchbaseCustomConversions)} )}
@@ -20,11 +20,13 @@ import java.time.Instant;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
 import org.springframework.data.couchbase.core.convert.join.N1qlJoinResolver;
 import org.springframework.data.couchbase.core.convert.translation.TranslationService;
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
@@ -71,19 +73,42 @@ public abstract class AbstractTemplateSupport {
 
 	public <T> T decodeEntityBase(Object id, String source, Long cas, Instant expiryTime, Class<T> entityClass,
 			String scope, String collection, Object txResultHolder, CouchbaseResourceHolder holder) {
+		return decodeEntityBase(id, source, cas, expiryTime, entityClass, scope, collection, txResultHolder, holder, true);
+	}
+
+	/**
+	 * @param resolveJoins false to leave eager {@link org.springframework.data.couchbase.core.query.N1qlJoin} properties
+	 *          unset, to be resolved for a batch of entities.
+	 * @since 6.2
+	 */
+	public <T> T decodeEntityBase(Object id, String source, Long cas, Instant expiryTime, Class<T> entityClass,
+			String scope, String collection, Object txResultHolder, CouchbaseResourceHolder holder, boolean resolveJoins) {
 		return decodeEntityBase(id, cas, expiryTime, entityClass, scope, collection, txResultHolder, holder,
-				(ts, converted) -> (CouchbaseDocument) ts.decode(source, converted));
+				(ts, converted) -> (CouchbaseDocument) ts.decode(source, converted),
+				mcc -> mcc.readJson(entityClass, source, id, cas), resolveJoins);
 	}
 
 	public <T> T decodeEntityBase(Object id, byte[] source, Long cas, Instant expiryTime, Class<T> entityClass,
 			String scope, String collection, Object txResultHolder, CouchbaseResourceHolder holder) {
+		return decodeEntityBase(id, source, cas, expiryTime, entityClass, scope, collection, txResultHolder, holder, true);
+	}
+
+	/**
+	 * @param resolveJoins false to leave eager {@link org.springframework.data.couchbase.core.query.N1qlJoin} properties
+	 *          unset, to be resolved for a batch of entities.
+	 * @since 6.2
+	 */
+	public <T> T decodeEntityBase(Object id, byte[] source, Long cas, Instant expiryTime, Class<T> entityClass,
+			String scope, String collection, Object txResultHolder, CouchbaseResourceHolder holder, boolean resolveJoins) {
 		return decodeEntityBase(id, cas, expiryTime, entityClass, scope, collection, txResultHolder, holder,
-				(ts, converted) -> (CouchbaseDocument) ts.decode(source, converted));
+				(ts, converted) -> (CouchbaseDocument) ts.decode(source, converted),
+				mcc -> mcc.readJson(entityClass, source, id, cas), resolveJoins);
 	}
 
 	private <T> T decodeEntityBase(Object id, Long cas, Instant expiryTime, Class<T> entityClass, String scope,
 			String collection, Object txResultHolder, CouchbaseResourceHolder holder,
-			BiFunction<TranslationService, CouchbaseDocument, CouchbaseDocument> translatorFn) {
+			BiFunction<TranslationService, CouchbaseDocument, CouchbaseDocument> translatorFn,
+			Function<MappingCouchbaseConverter, T> directReadFn, boolean resolveJoins) {
 		CouchbasePersistentEntity persistentEntity = couldBePersistentEntity(entityClass);
 
 		if (persistentEntity == null) {
@@ -94,8 +119,12 @@ public abstract class AbstractTemplateSupport {
 		}
 
         CouchbaseDocument converted = prepareConvertedDocument(id, cas, persistentEntity);
-		T readEntity = converter.read(entityClass, translatorFn.apply(translationService, converted));
-		return finalizeEntity(readEntity, id, cas, expiryTime, scope, collection, txResultHolder, holder);
+		// when enabled, read straight from the JSON and only build the CouchbaseDocument tree if that is not possible
+		T readEntity = converter instanceof MappingCouchbaseConverter mcc ? directReadFn.apply(mcc) : null;
+		if (readEntity == null) {
+			readEntity = converter.read(entityClass, translatorFn.apply(translationService, converted));
+		}
+		return finalizeEntity(readEntity, id, cas, expiryTime, scope, collection, txResultHolder, holder, resolveJoins);
 	}
 
 	private CouchbaseDocument prepareConvertedDocument(Object id, Long cas,
@@ -151,7 +180,7 @@ public abstract class AbstractTemplateSupport {
     }
 
     private <T> T finalizeEntity(T readEntity, Object id, Long cas, Instant expiryTime, String scope, String collection,
-			Object txResultHolder, CouchbaseResourceHolder holder) {
+			Object txResultHolder, CouchbaseResourceHolder holder, boolean resolveJoins) {
         ConvertingPropertyAccessor<T> accessor = getPropertyAccessor(readEntity);
 
 		CouchbasePersistentEntity persistentEntity = couldBePersistentEntity(readEntity.getClass());
@@ -170,7 +199,7 @@ public abstract class AbstractTemplateSupport {
 		}
 
 		N1qlJoinResolver.handleProperties(persistentEntity, accessor, getReactiveTemplate(), id.toString(), scope,
-				collection);
+				collection, resolveJoins);
 
 		if (holder != null) {
 			holder.transactionResultHolder(txResultHolder, (T) accessor.getBean());
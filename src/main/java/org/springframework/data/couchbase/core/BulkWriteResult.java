@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Outcome of writing one entity of a bulk insert, upsert or replace.
+ *
+ * @param entity the written entity with CAS and version applied, or the entity as passed in if it failed.
+ * @param error the failure, {@literal null} if the entity was written.
+ * @param <T> the entity type.
+ * @since 6.2
+ */
+public record BulkWriteResult<T>(T entity, @Nullable Throwable error) {
+
+	static <T> BulkWriteResult<T> success(T entity) {
+		return new BulkWriteResult<>(entity, null);
+	}
+
+	static <T> BulkWriteResult<T> failure(T entity, Throwable error) {
+		return new BulkWriteResult<>(entity, error);
+	}
+
+	/**
+	 * @return {@literal true} if the entity was written.
+	 */
+	public boolean isSuccess() {
+		return error == null;
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.support.TemplateUtils;
+
+import com.couchbase.client.java.kv.MutationResult;
+
+/**
+ * Pipeline shared by the {@code bulk} writes of the insert, upsert and replace operations.
+ * <p>
+ * Entities are encoded on the parallel scheduler, so conversion overlaps with the writes in flight, and at most
+ * {@code concurrency} writes are outstanding. A failed write is reported as a {@link BulkWriteResult} of its entity
+ * and does not cancel the others.
+ *
+ * @since 6.2
+ * @see TemplateUtils#DEFAULT_BULK_CONCURRENCY
+ */
+final class BulkWrites {
+
+	private BulkWrites() {}
+
+	/**
+	 * @param name the name of the operation, used when it is rejected inside a transaction.
+	 * @param objects the entities to write.
+	 * @param concurrency the maximum number of writes in flight.
+	 * @param template the template converting the exceptions.
+	 * @param support the support encoding the entities and applying the results.
+	 * @param write sends the converted document of an entity.
+	 * @return one result per entity, in completion order.
+	 */
+	static <T> Flux<BulkWriteResult<T>> write(String name, Collection<? extends T> objects, int concurrency,
+			ReactiveCouchbaseTemplate template, ReactiveTemplateSupport support,
+			BiFunction<T, CouchbaseDocument, Mono<MutationResult>> write) {
+		Function<T, Mono<BulkWriteResult<T>>> writeOne = object -> support.encodeEntity(object)
+				.subscribeOn(Schedulers.parallel())
+				.flatMap(converted -> write.apply(object, converted).flatMap(
+						result -> support.applyResult(object, converted, converted.getId(), result.cas(), null, null)))
+				.map(BulkWriteResult::success)
+				.onErrorResume(throwable -> Mono.just(BulkWriteResult.failure(object,
+						throwable instanceof RuntimeException
+								? template.potentiallyConvertRuntimeException((RuntimeException) throwable)
+								: throwable)));
+
+		return TransactionalSupport.verifyNotInTransaction(name)
+				.thenMany(Flux.<T> fromIterable(objects).flatMap(writeOne, concurrency));
+	}
+
+}
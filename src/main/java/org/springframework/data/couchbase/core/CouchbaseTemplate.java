@@ -32,6 +32,7 @@ import org.springframework.data.couchbase.core.index.CouchbasePersistentEntityIn
 import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.couchbase.core.query.PreparedStatementRegistry;
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.mapping.context.MappingContext;
 import org.jspecify.annotations.Nullable;
@@ -100,9 +101,8 @@ public class CouchbaseTemplate implements CouchbaseOperations, ApplicationContex
 
 			String scope = scopeAndCollection.length > 0 ? scopeAndCollection[0] : null;
 			String collection = scopeAndCollection.length > 1 ? scopeAndCollection[1] : null;
-				final CouchbasePersistentEntity<?> mapperEntity = getConverter().getMappingContext()
-						.getPersistentEntity(entity.getClass());
-				final CouchbasePersistentProperty versionProperty = mapperEntity.getVersionProperty();
+				final CouchbasePersistentProperty versionProperty = reactiveCouchbaseTemplate
+						.getVersionProperty(entity.getClass());
 				final boolean versionPresent = versionProperty != null;
 				final Long version = versionProperty == null || versionProperty.getField() == null ? null
 						: (Long) ReflectionUtils.getField(versionProperty.getField(),
@@ -130,6 +130,9 @@ public class CouchbaseTemplate implements CouchbaseOperations, ApplicationContex
 							}).block();
 
 				} else if (existingDocument) { // there is a version property, and it is non-zero
+					if (options == null && getDocumentChangeTracker() != null) {
+						return reactiveCouchbaseTemplate.saveChanges(entity, version, scope, collection).block();
+					}
 					// Updating existing document with cas
 					return (T)replaceById(clazz).inScope(scope)
 							.inCollection(collection)
@@ -246,6 +249,61 @@ public class CouchbaseTemplate implements CouchbaseOperations, ApplicationContex
 		return scanConsistency;
 	}
 
+	/**
+	 * Set the registry that switches frequently executed N1QL statements to prepared execution.
+	 *
+	 * @param preparedStatementRegistry the registry, {@literal null} to execute all statements adhoc.
+	 * @since 6.2
+	 */
+	public void setPreparedStatementRegistry(@Nullable PreparedStatementRegistry preparedStatementRegistry) {
+		reactiveCouchbaseTemplate.setPreparedStatementRegistry(preparedStatementRegistry);
+	}
+
+	/**
+	 * @return the registry of prepared statements, {@literal null} if statements are executed adhoc.
+	 * @since 6.2
+	 */
+	public @Nullable PreparedStatementRegistry getPreparedStatementRegistry() {
+		return reactiveCouchbaseTemplate.getPreparedStatementRegistry();
+	}
+
+	/**
+	 * Set the tracker that makes {@link #save(Object, String...)} write only the changed fields of entities that were
+	 * read by id through this template.
+	 *
+	 * @param changeTracker the tracker, {@literal null} to always replace whole documents.
+	 * @since 6.2
+	 */
+	public void setDocumentChangeTracker(@Nullable DocumentChangeTracker changeTracker) {
+		reactiveCouchbaseTemplate.setDocumentChangeTracker(changeTracker);
+	}
+
+	/**
+	 * @return the tracker of loaded documents, {@literal null} if saves replace whole documents.
+	 * @since 6.2
+	 */
+	public @Nullable DocumentChangeTracker getDocumentChangeTracker() {
+		return reactiveCouchbaseTemplate.getDocumentChangeTracker();
+	}
+
+	/**
+	 * Set the decoder that decodes the rows of query results into entities off the I/O threads.
+	 *
+	 * @param queryRowDecoder the decoder, {@literal null} to decode rows on the threads that receive them.
+	 * @since 6.2
+	 */
+	public void setQueryRowDecoder(@Nullable QueryRowDecoder queryRowDecoder) {
+		reactiveCouchbaseTemplate.setQueryRowDecoder(queryRowDecoder);
+	}
+
+	/**
+	 * @return the decoder of query rows, {@literal null} if rows are decoded on the threads that receive them.
+	 * @since 6.2
+	 */
+	public @Nullable QueryRowDecoder getQueryRowDecoder() {
+		return reactiveCouchbaseTemplate.getQueryRowDecoder();
+	}
+
 	/**
 	 * Provides access to a {@link Collection} on the configured {@link CouchbaseClientFactory}.
 	 *
@@ -70,12 +70,31 @@ class CouchbaseTemplateSupport extends AbstractTemplateSupport implements Applic
 		return decodeEntityBase(id, source, cas, expiryTime, entityClass, scope, collection, txHolder, holder);
 	}
 
+	@Override
+	public <T> T decodeEntity(Object id, String source, Long cas, Instant expiryTime, Class<T> entityClass,
+			String scope, String collection, Object txHolder, CouchbaseResourceHolder holder, boolean resolveJoins) {
+		return decodeEntityBase(id, source, cas, expiryTime, entityClass, scope, collection, txHolder, holder,
+				resolveJoins);
+	}
+
 	@Override
 	public <T> T decodeEntity(Object id, byte[] source, Long cas, Instant expiryTime, Class<T> entityClass,
 			String scope, String collection, Object txHolder, CouchbaseResourceHolder holder) {
 		return decodeEntityBase(id, source, cas, expiryTime, entityClass, scope, collection, txHolder, holder);
 	}
 
+	@Override
+	public <T> T decodeEntity(Object id, byte[] source, Long cas, Instant expiryTime, Class<T> entityClass,
+			String scope, String collection, Object txHolder, CouchbaseResourceHolder holder, boolean resolveJoins) {
+		return decodeEntityBase(id, source, cas, expiryTime, entityClass, scope, collection, txHolder, holder,
+				resolveJoins);
+	}
+
+	@Override
+	public boolean defersJoins() {
+		return true;
+	}
+
 	@Override
 	public <T> T applyResult(T entity, CouchbaseDocument converted, Object id, long cas,
 			Object txResultHolder, CouchbaseResourceHolder holder) {
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Remembers the stored form of loaded entities so that saving them again only writes the properties that changed.
+ * <p>
+ * When an entity with a version property is read by id through a template, its encoded content is kept together with
+ * the CAS it was read with. Entities read by queries are not tracked. Snapshots are kept per scope, collection and
+ * document id. Saving an entity whose version still matches that CAS compares the top-level fields of the
+ * newly encoded content with the snapshot and writes the changed fields with a sub-document {@code mutateIn} guarded
+ * by the CAS. A save without changes rewrites one unchanged field, so the CAS is still checked and the expiry is
+ * refreshed. The whole document is replaced instead if there is no snapshot, or if so many fields changed that a
+ * partial update does not pay off.
+ * <p>
+ * Snapshots hold a copy of the document content, the number of documents tracked is bounded and the least recently
+ * used snapshot is evicted first.
+ *
+ * @since 6.2
+ */
+public class DocumentChangeTracker {
+
+	/**
+	 * Number of documents tracked.
+	 */
+	public static final int DEFAULT_MAX_DOCUMENTS = 10_000;
+
+	/**
+	 * Maximum number of operations the server accepts in one {@code mutateIn}.
+	 */
+	static final int MAX_MUTATIONS = 16;
+
+	private final Map<Key, Snapshot> snapshots;
+	private final LongAdder partialUpdates = new LongAdder();
+	private final LongAdder fullUpdates = new LongAdder();
+
+	public DocumentChangeTracker() {
+		this(DEFAULT_MAX_DOCUMENTS);
+	}
+
+	/**
+	 * @param maxDocuments number of documents tracked.
+	 */
+	public DocumentChangeTracker(int maxDocuments) {
+		Assert.isTrue(maxDocuments > 0, "maxDocuments must be greater than 0");
+		this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Snapshot> eldest) {
+				return size() > maxDocuments;
+			}
+		};
+	}
+
+	/**
+	 * Remember the content of a document as read or written with the given CAS.
+	 *
+	 * @param scope the scope of the document, {@literal null} for the default scope.
+	 * @param collection the collection of the document, {@literal null} for the default collection.
+	 */
+	void record(@Nullable String scope, @Nullable String collection, String id, long cas, Map<String, Object> content) {
+		synchronized (snapshots) {
+			snapshots.put(new Key(scope, collection, id), new Snapshot(cas, content));
+		}
+	}
+
+	/**
+	 * Compare the content about to be saved with the snapshot of the document.
+	 *
+	 * @param scope the scope of the document, {@literal null} for the default scope.
+	 * @param collection the collection of the document, {@literal null} for the default collection.
+	 * @param id the document id.
+	 * @param cas the CAS of the entity being saved.
+	 * @param content the encoded content of the entity being saved.
+	 * @return the changed fields, {@literal null} if the whole document has to be replaced.
+	 */
+	@Nullable
+	Changes changes(@Nullable String scope, @Nullable String collection, String id, long cas,
+			Map<String, Object> content) {
+		Snapshot snapshot;
+		synchronized (snapshots) {
+			snapshot = snapshots.get(new Key(scope, collection, id));
+		}
+		Changes changes = snapshot == null || snapshot.cas != cas ? null : diff(snapshot.content, content);
+		if (changes == null) {
+			fullUpdates.increment();
+		} else if (!changes.isEmpty()) {
+			partialUpdates.increment();
+		}
+		return changes;
+	}
+
+	/**
+	 * Forget the snapshot of a document.
+	 */
+	void discard(@Nullable String scope, @Nullable String collection, String id) {
+		synchronized (snapshots) {
+			snapshots.remove(new Key(scope, collection, id));
+		}
+	}
+
+	private static @Nullable Changes diff(Map<String, Object> previous, Map<String, Object> current) {
+		List<String> upserts = new ArrayList<>();
+		List<String> removals = new ArrayList<>();
+		for (Map.Entry<String, Object> field : current.entrySet()) {
+			if (!previous.containsKey(field.getKey()) || !Objects.equals(previous.get(field.getKey()), field.getValue())) {
+				upserts.add(field.getKey());
+			}
+		}
+		for (String field : previous.keySet()) {
+			if (!current.containsKey(field)) {
+				removals.add(field);
+			}
+		}
+		int changed = upserts.size() + removals.size();
+		// past half of the fields the full document is about as large as the changes
+		if (changed > MAX_MUTATIONS || changed * 2 > Math.max(current.size(), 1)) {
+			return null;
+		}
+		for (String field : upserts) {
+			if (!isPlainField(field)) {
+				return null;
+			}
+		}
+		for (String field : removals) {
+			if (!isPlainField(field)) {
+				return null;
+			}
+		}
+		return new Changes(upserts, removals);
+	}
+
+	/**
+	 * Choose a field to write back unchanged, so that a save without changes still checks the CAS and refreshes the
+	 * expiry of the document. Scalar fields are preferred as they are the cheapest to send.
+	 *
+	 * @return the field, {@literal null} if no field can be written as a sub-document path.
+	 */
+	static @Nullable String unchangedField(Map<String, Object> content) {
+		String fallback = null;
+		for (Map.Entry<String, Object> field : content.entrySet()) {
+			if (!isPlainField(field.getKey())) {
+				continue;
+			}
+			if (!(field.getValue() instanceof Map) && !(field.getValue() instanceof Collection)) {
+				return field.getKey();
+			}
+			if (fallback == null) {
+				fallback = field.getKey();
+			}
+		}
+		return fallback;
+	}
+
+	// names that would be read as a nested path or array index by the sub-document API
+	private static boolean isPlainField(String field) {
+		return !field.isEmpty() && field.indexOf('.') < 0 && field.indexOf('[') < 0 && field.indexOf('`') < 0;
+	}
+
+	/**
+	 * @return saves that wrote only the changed fields.
+	 */
+	public long getPartialUpdates() {
+		return partialUpdates.sum();
+	}
+
+	/**
+	 * @return saves of tracked entity types that replaced the whole document.
+	 */
+	public long getFullUpdates() {
+		return fullUpdates.sum();
+	}
+
+	/**
+	 * @return the number of documents currently tracked.
+	 */
+	public int size() {
+		synchronized (snapshots) {
+			return snapshots.size();
+		}
+	}
+
+	private record Key(@Nullable String scope, @Nullable String collection, String id) {}
+
+	private record Snapshot(long cas, Map<String, Object> content) {}
+
+	/**
+	 * Top-level fields to write and to remove.
+	 */
+	record Changes(List<String> upserts, List<String> removals) {
+
+		boolean isEmpty() {
+			return upserts.isEmpty() && removals.isEmpty();
+		}
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.couchbase.core.convert.translation.TranslationService;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+
+import com.couchbase.client.java.codec.RawJsonTranscoder;
+import com.couchbase.client.java.codec.Transcoder;
+
+/**
+ * Content handed to the SDK by the key-value write operations.
+ * <p>
+ * The document is streamed into JSON bytes when the translation service supports it and the write can go through the
+ * {@link RawJsonTranscoder}: either the caller asked for it, or the options were created by the template and can be
+ * switched to it. Options passed in by the caller are never changed, so their writes fall back to the exported
+ * document and the transcoder the caller configured.
+ *
+ * @since 6.2
+ */
+final class EncodedContent {
+
+	private EncodedContent() {}
+
+	/**
+	 * @param translationService the service streaming the document into bytes.
+	 * @param converted the converted document.
+	 * @param callerOptions whether the options of the write were passed in by the caller.
+	 * @param transcoder the transcoder currently set on the options of the write.
+	 * @param useTranscoder sets the transcoder on template created options.
+	 * @return the JSON bytes or the exported document.
+	 */
+	static Object encode(TranslationService translationService, CouchbaseDocument converted, boolean callerOptions,
+			@Nullable Transcoder transcoder, Consumer<Transcoder> useTranscoder) {
+		boolean raw = transcoder == RawJsonTranscoder.INSTANCE;
+		if (!raw && (callerOptions || transcoder != null)) {
+			return converted.export();
+		}
+		byte[] encoded = translationService.encodeToBytes(converted);
+		if (encoded == null) {
+			return converted.export();
+		}
+		if (!raw) {
+			useTranscoder.accept(RawJsonTranscoder.INSTANCE);
+		}
+		return encoded;
+	}
+
+}
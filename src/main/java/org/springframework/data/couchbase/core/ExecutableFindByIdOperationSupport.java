@@ -77,6 +77,11 @@ public class ExecutableFindByIdOperationSupport implements ExecutableFindByIdOpe
 			return reactiveSupport.all(ids).collectList().block();
 		}
 
+		@Override
+		public Collection<? extends T> all(final Collection<String> ids, final int concurrency, final boolean ordered) {
+			return reactiveSupport.all(ids, concurrency, ordered).collectList().block();
+		}
+
 		@Override
 		public TerminatingFindById<T> withOptions(final GetOptions options) {
 			return new ExecutableFindByIdSupport<>(template, domainType, scope, collection,
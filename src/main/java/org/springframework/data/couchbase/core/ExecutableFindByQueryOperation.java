@@ -32,6 +32,9 @@ import org.springframework.data.couchbase.core.support.WithConsistency;
 import org.springframework.data.couchbase.core.support.WithDistinct;
 import org.springframework.data.couchbase.core.support.WithQuery;
 import org.springframework.data.couchbase.core.support.WithQueryOptions;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.jspecify.annotations.Nullable;
 
 import com.couchbase.client.java.query.QueryOptions;
@@ -107,13 +110,27 @@ public interface ExecutableFindByQueryOperation {
 		List<T> all();
 
 		/**
-		 * Stream all matching elements.
+		 * Stream all matching elements. Rows are read as the stream is consumed, see {@link #stream(int)}.
 		 *
 		 * @return a {@link Stream} of results. Never {@literal null}.
 		 */
 		@Override
 		Stream<T> stream();
 
+		/**
+		 * Stream all matching elements without reading the whole result first. At most {@code prefetch} rows are read
+		 * from the query service and decoded ahead of the consumer, so the memory used does not grow with the size of the
+		 * result. The stream must be closed, closing it before the last element cancels the query. The default
+		 * implementation ignores {@code prefetch} and returns {@link #stream()}.
+		 *
+		 * @param prefetch the number of rows read ahead of the consumer, greater than 0.
+		 * @return a {@link Stream} of results. Never {@literal null}.
+		 * @since 6.2
+		 */
+		default Stream<T> stream(int prefetch) {
+			return stream();
+		}
+
 		/**
 		 * Get the number of matching elements.
 		 *
@@ -122,6 +139,25 @@ public interface ExecutableFindByQueryOperation {
 		@Override
 		long count();
 
+		/**
+		 * Get one page of the matching elements together with the total number of matching elements. The total is
+		 * counted by the statement that reads the page where possible, otherwise a count query is run after it. The default
+		 * implementation skips to the page in {@link #stream()} and counts with {@link #count()}.
+		 *
+		 * @param pageable the page to read.
+		 * @return the page, never {@literal null}.
+		 * @since 6.2
+		 */
+		default Page<T> page(Pageable pageable) {
+			if (pageable.isUnpaged()) {
+				return PageableExecutionUtils.getPage(all(), pageable, this::count);
+			}
+			try (Stream<T> stream = stream()) {
+				List<T> content = stream.skip(pageable.getOffset()).limit(pageable.getPageSize()).toList();
+				return PageableExecutionUtils.getPage(content, pageable, this::count);
+			}
+		}
+
 		/**
 		 * Check for the presence of matching elements.
 		 *
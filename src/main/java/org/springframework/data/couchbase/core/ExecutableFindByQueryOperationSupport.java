@@ -16,12 +16,16 @@
 package org.springframework.data.couchbase.core;
 
 import org.springframework.data.core.TypedPropertyPath;
+import reactor.util.concurrent.Queues;
+
 import java.util.List;
 import java.util.stream.Stream;
 
 import org.springframework.data.couchbase.core.ReactiveFindByQueryOperationSupport.ReactiveFindByQuerySupport;
 import org.springframework.data.couchbase.core.query.OptionsBuilder;
 import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.java.query.QueryOptions;
@@ -164,7 +168,13 @@ public class ExecutableFindByQueryOperationSupport implements ExecutableFindByQu
 
 		@Override
 		public Stream<T> stream() {
-			return reactiveSupport.all().toStream();
+			return stream(Queues.SMALL_BUFFER_SIZE);
+		}
+
+		@Override
+		public Stream<T> stream(int prefetch) {
+			Assert.isTrue(prefetch > 0, "prefetch must be greater than 0");
+			return reactiveSupport.all(prefetch).toStream(prefetch);
 		}
 
 		@Override
@@ -176,6 +186,11 @@ public class ExecutableFindByQueryOperationSupport implements ExecutableFindByQu
 			return l;
 		}
 
+		@Override
+		public Page<T> page(Pageable pageable) {
+			return reactiveSupport.page(pageable).block();
+		}
+
 		@Override
 		public boolean exists() {
 			return count() > 0;
@@ -199,6 +199,17 @@ public interface ExecutableFindBySearchOperation {
 	interface FindBySearchWithFields<T> extends FindBySearchWithFacets<T> {
 		FindBySearchWithFacets<T> withFields(String... fields);
 
+		/**
+		 * Read the entities from the given stored fields instead of fetching the documents from KV. The default only
+		 * requests the fields, as {@link #withFields(String...)} does, and still fetches the documents.
+		 *
+		 * @see ReactiveFindBySearchOperation.FindBySearchWithFields#withStoredFields(String...)
+		 * @since 6.2
+		 */
+		default FindBySearchWithFacets<T> withStoredFields(String... fields) {
+			return withFields(fields);
+		}
+
 		<P> FindBySearchWithFacets<T> withFields(TypedPropertyPath<P, ?> field,
 				TypedPropertyPath<P, ?>... additionalFields);
 	}
@@ -50,7 +50,7 @@ public class ExecutableFindBySearchOperationSupport implements ExecutableFindByS
 	public <T> ExecutableFindBySearch<T> findBySearch(final Class<T> domainType) {
 		return new ExecutableFindBySearchSupport<>(template, domainType, domainType, null, null, null,
 				OptionsBuilder.getScopeFrom(domainType), OptionsBuilder.getCollectionFrom(domainType), null,
-				null, null, null, null, null, null);
+				null, null, null, null, null, null, false);
 	}
 
 	static class ExecutableFindBySearchSupport<T> implements ExecutableFindBySearch<T> {
@@ -70,6 +70,7 @@ public class ExecutableFindBySearchOperationSupport implements ExecutableFindByS
 		private final Map<String, SearchFacet> facets;
 		private final String[] fields;
 		private final Integer[] limitSkip;
+		private final boolean storedFieldsOnly;
 		private final ReactiveFindBySearchSupport<T> reactiveSupport;
 
 		ExecutableFindBySearchSupport(final CouchbaseTemplate template, final Class<?> domainType,
@@ -77,7 +78,7 @@ public class ExecutableFindBySearchOperationSupport implements ExecutableFindByS
 				final SearchScanConsistency scanConsistency, final String scope, final String collection,
 				final SearchOptions options, final SearchSort[] sort, final HighlightStyle highlightStyle,
 				final String[] highlightFields, final Map<String, SearchFacet> facets, final String[] fields,
-				final Integer[] limitSkip) {
+				final Integer[] limitSkip, final boolean storedFieldsOnly) {
 			this.template = template;
 			this.domainType = domainType;
 			this.returnType = returnType;
@@ -93,9 +94,10 @@ public class ExecutableFindBySearchOperationSupport implements ExecutableFindByS
 			this.facets = facets;
 			this.fields = fields;
 			this.limitSkip = limitSkip;
+			this.storedFieldsOnly = storedFieldsOnly;
 			this.reactiveSupport = new ReactiveFindBySearchSupport<>(template.reactive(), domainType, returnType,
 					indexName, searchRequest, scanConsistency, scope, collection, options, sort, highlightStyle,
-					highlightFields, facets, fields, limitSkip,
+					highlightFields, facets, fields, limitSkip, storedFieldsOnly,
 					new NonReactiveSupportWrapper(template.support()));
 		}
 
@@ -148,7 +150,7 @@ public class ExecutableFindBySearchOperationSupport implements ExecutableFindByS
 			Assert.notNull(searchRequest, "SearchRequest must not be null!");
 			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets,
-					fields, limitSkip);
+					fields, limitSkip, storedFieldsOnly);
 		}
 
 		@Override
@@ -156,7 +158,7 @@ public class ExecutableFindBySearchOperationSupport implements ExecutableFindByS
 			Assert.notNull(indexName, "Index name must not be null!");
 			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets,
-					fields, limitSkip);
+					fields, limitSkip, storedFieldsOnly);
 		}
 
 		@Override
@@ -164,35 +166,35 @@ public class ExecutableFindBySearchOperationSupport implements ExecutableFindByS
 			Assert.notNull(returnType, "returnType must not be null!");
 			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets,
-					fields, limitSkip);
+					fields, limitSkip, storedFieldsOnly);
 		}
 
 		@Override
 		public FindBySearchInScope<T> withConsistency(SearchScanConsistency scanConsistency) {
 			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets,
-					fields, limitSkip);
+					fields, limitSkip, storedFieldsOnly);
 		}
 
 		@Override
 		public FindBySearchInCollection<T> inScope(final String scope) {
 			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope != null ? scope : this.scope, collection, options, sort, highlightStyle,
-					highlightFields, facets, fields, limitSkip);
+					highlightFields, facets, fields, limitSkip, storedFieldsOnly);
 		}
 
 		@Override
 		public FindBySearchWithOptions<T> inCollection(final String collection) {
 			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection != null ? collection : this.collection, options, sort,
-					highlightStyle, highlightFields, facets, fields, limitSkip);
+					highlightStyle, highlightFields, facets, fields, limitSkip, storedFieldsOnly);
 		}
 
 		@Override
 		public FindBySearchWithQuery<T> withOptions(final SearchOptions options) {
 			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options != null ? options : this.options, sort, highlightStyle,
-					highlightFields, facets, fields, limitSkip);
+					highlightFields, facets, fields, limitSkip, storedFieldsOnly);
 		}
 
 		@Override
@@ -201,7 +203,7 @@ public class ExecutableFindBySearchOperationSupport implements ExecutableFindByS
 			ls[0] = limit;
 			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets,
-					fields, ls);
+					fields, ls, storedFieldsOnly);
 		}
 
 		@Override
@@ -210,14 +212,14 @@ public class ExecutableFindBySearchOperationSupport implements ExecutableFindByS
 			ls[1] = skip;
 			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets,
-					fields, ls);
+					fields, ls, storedFieldsOnly);
 		}
 
 		@Override
 		public FindBySearchWithSkip<T> withSort(SearchSort... sort) {
 			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets,
-					fields, limitSkip);
+					fields, limitSkip, storedFieldsOnly);
 		}
 
 		@Override
@@ -229,7 +231,7 @@ public class ExecutableFindBySearchOperationSupport implements ExecutableFindByS
 		@Override
 		public FindBySearchWithSort<T> withHighlight(HighlightStyle style, String... fields) {
 			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
-					scanConsistency, scope, collection, options, sort, style, fields, facets, this.fields, limitSkip);
+					scanConsistency, scope, collection, options, sort, style, fields, facets, this.fields, limitSkip, storedFieldsOnly);
 		}
 
 		@Override
@@ -243,14 +245,22 @@ public class ExecutableFindBySearchOperationSupport implements ExecutableFindByS
 		public FindBySearchWithHighlight<T> withFacets(Map<String, SearchFacet> facets) {
 			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets,
-					fields, limitSkip);
+					fields, limitSkip, storedFieldsOnly);
 		}
 
 		@Override
 		public FindBySearchWithFacets<T> withFields(String... fields) {
 			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets,
-					fields, limitSkip);
+					fields, limitSkip, false);
+		}
+
+		@Override
+		public FindBySearchWithFacets<T> withStoredFields(String... fields) {
+			Assert.notEmpty(fields, "Stored fields must not be empty");
+			return new ExecutableFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
+					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets,
+					fields, limitSkip, true);
 		}
 
 		@Override
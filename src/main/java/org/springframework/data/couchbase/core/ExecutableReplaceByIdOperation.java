@@ -16,11 +16,14 @@
 package org.springframework.data.couchbase.core;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.springframework.data.couchbase.core.support.InCollection;
 import org.springframework.data.couchbase.core.support.InScope;
 import org.springframework.data.couchbase.core.support.OneAndAllEntity;
+import org.springframework.data.couchbase.core.support.TemplateUtils;
 import org.springframework.data.couchbase.core.support.WithDurability;
 import org.springframework.data.couchbase.core.support.WithExpiry;
 import org.springframework.data.couchbase.core.support.WithReplaceOptions;
@@ -66,6 +69,41 @@ public interface ExecutableReplaceByIdOperation {
 		@Override
 		Collection<? extends T> all(Collection<? extends T> objects);
 
+		/**
+		 * Replace a collection of entities with up to {@link TemplateUtils#DEFAULT_BULK_CONCURRENCY} writes in flight.
+		 *
+		 * @return the result of each entity, in completion order.
+		 * @since 6.2
+		 * @see #bulk(Collection, int)
+		 */
+		default List<BulkWriteResult<T>> bulk(Collection<? extends T> objects) {
+			return bulk(objects, TemplateUtils.DEFAULT_BULK_CONCURRENCY);
+		}
+
+		/**
+		 * Replace a collection of entities with up to {@code concurrency} writes in flight. A failed entity does not end
+		 * the operation, it is reported in its result and the remaining entities are still replaced.
+		 * <p>
+		 * The default writes the entities one after the other with {@link #one(Object)} and ignores
+		 * {@code concurrency}.
+		 *
+		 * @param objects the entities to replace.
+		 * @param concurrency the maximum number of writes in flight.
+		 * @return the result of each entity, in completion order.
+		 * @since 6.2
+		 */
+		default List<BulkWriteResult<T>> bulk(Collection<? extends T> objects, int concurrency) {
+			List<BulkWriteResult<T>> results = new ArrayList<>(objects.size());
+			for (T object : objects) {
+				try {
+					results.add(BulkWriteResult.success(one(object)));
+				} catch (RuntimeException ex) {
+					results.add(BulkWriteResult.failure(object, ex));
+				}
+			}
+			return results;
+		}
+
 	}
 
 	/**
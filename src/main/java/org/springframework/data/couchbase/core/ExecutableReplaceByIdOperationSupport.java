@@ -17,6 +17,7 @@ package org.springframework.data.couchbase.core;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 
 import org.springframework.data.couchbase.core.ReactiveReplaceByIdOperationSupport.ReactiveReplaceByIdSupport;
 import org.springframework.data.couchbase.core.query.OptionsBuilder;
@@ -83,6 +84,11 @@ public class ExecutableReplaceByIdOperationSupport implements ExecutableReplaceB
 			return reactiveSupport.all(objects).collectList().block();
 		}
 
+		@Override
+		public List<BulkWriteResult<T>> bulk(Collection<? extends T> objects, int concurrency) {
+			return reactiveSupport.bulk(objects, concurrency).collectList().block();
+		}
+
 		@Override
 		public ReplaceByIdWithOptions<T> inCollection(final String collection) {
 			return new ExecutableReplaceByIdSupport<>(template, domainType, scope,
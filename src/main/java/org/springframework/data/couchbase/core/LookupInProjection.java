@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+import com.couchbase.client.java.ReactiveCollection;
+import com.couchbase.client.java.kv.LookupInOptions;
+import com.couchbase.client.java.kv.LookupInResult;
+import com.couchbase.client.java.kv.LookupInSpec;
+
+/**
+ * Reads a projection of a document with sub-document lookups instead of a full get.
+ * <p>
+ * The lookup specs are built once per list of fields. A server accepts at most 16 specs per {@code lookupIn}, longer
+ * projections are split into several lookups that run concurrently and are retried if the document changed in between,
+ * a document that keeps changing is read with a get instead.
+ * The fetched values are copied as raw JSON into one document, which is decoded like the result of a get.
+ *
+ * @since 6.2
+ */
+final class LookupInProjection {
+
+	/**
+	 * Maximum number of specs the server accepts in one {@code lookupIn}.
+	 */
+	static final int MAX_SPECS = 16;
+
+	private static final int MAX_ATTEMPTS = 3;
+
+	private final List<String> paths;
+	private final List<List<LookupInSpec>> chunks;
+
+	private LookupInProjection(List<String> paths) {
+		this.paths = paths;
+		List<List<LookupInSpec>> chunks = new ArrayList<>();
+		for (int from = 0; from < paths.size(); from += MAX_SPECS) {
+			List<LookupInSpec> chunk = new ArrayList<>();
+			for (String path : paths.subList(from, Math.min(from + MAX_SPECS, paths.size()))) {
+				chunk.add(LookupInSpec.get(path));
+			}
+			chunks.add(Collections.unmodifiableList(chunk));
+		}
+		this.chunks = Collections.unmodifiableList(chunks);
+	}
+
+	/**
+	 * @param fields the projected field paths.
+	 * @return the projection, {@literal null} if a path addresses array elements or needs escaping and the projection
+	 *         has to be left to a get.
+	 */
+	static @Nullable LookupInProjection of(List<String> fields) {
+		if (fields.isEmpty()) {
+			return null;
+		}
+		for (String field : fields) {
+			if (field.isEmpty() || field.indexOf('[') >= 0 || field.indexOf('`') >= 0 || field.startsWith(".")
+					|| field.endsWith(".") || field.contains("..")) {
+				return null;
+			}
+		}
+		return new LookupInProjection(List.copyOf(fields));
+	}
+
+	/**
+	 * Look up the projected fields of a document.
+	 *
+	 * @return the CAS of the document and its projected content, empty if the lookups of a split projection did not see
+	 *         the same revision of the document in any attempt and it has to be read with a get.
+	 */
+	Mono<Projected> lookup(ReactiveCollection collection, String id, LookupInOptions options) {
+		return lookup(chunk -> collection.lookupIn(id, chunk, options));
+	}
+
+	Mono<Projected> lookup(Function<List<LookupInSpec>, Mono<LookupInResult>> lookupIn) {
+		Mono<List<LookupInResult>> lookups = chunks.size() == 1 ? lookupIn.apply(chunks.get(0)).map(List::of)
+				: Flux.fromIterable(chunks).flatMapSequential(lookupIn).collectList();
+		// the lookups of a split projection only belong together if they saw the same revision of the document
+		return lookups.repeat(MAX_ATTEMPTS - 1).filter(LookupInProjection::sameRevision).next()
+				.map(results -> new Projected(results.get(0).cas(), toJson(results)));
+	}
+
+	private static boolean sameRevision(List<LookupInResult> results) {
+		long cas = results.get(0).cas();
+		for (LookupInResult result : results) {
+			if (result.cas() != cas) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	byte[] toJson(List<LookupInResult> results) {
+		Map<String, Object> root = new LinkedHashMap<>();
+		int index = 0;
+		for (int chunk = 0; chunk < results.size(); chunk++) {
+			LookupInResult result = results.get(chunk);
+			for (int spec = 0; spec < chunks.get(chunk).size(); spec++, index++) {
+				if (result.exists(spec)) {
+					put(root, paths.get(index), result.contentAsBytes(spec));
+				}
+			}
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		write(root, out);
+		return out.toByteArray();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void put(Map<String, Object> root, String path, byte[] value) {
+		String[] names = path.split("\\.");
+		Map<String, Object> node = root;
+		for (int i = 0; i < names.length - 1; i++) {
+			Object child = node.get(names[i]);
+			if (child instanceof byte[]) {
+				return; // the enclosing object is already projected as a whole
+			}
+			if (child == null) {
+				child = new LinkedHashMap<String, Object>();
+				node.put(names[i], child);
+			}
+			node = (Map<String, Object>) child;
+		}
+		node.put(names[names.length - 1], value);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void write(Map<String, Object> node, ByteArrayOutputStream out) {
+		out.write('{');
+		boolean first = true;
+		for (Map.Entry<String, Object> entry : node.entrySet()) {
+			if (!first) {
+				out.write(',');
+			}
+			first = false;
+			writeName(entry.getKey(), out);
+			out.write(':');
+			if (entry.getValue() instanceof byte[] raw) {
+				out.writeBytes(raw);
+			} else {
+				write((Map<String, Object>) entry.getValue(), out);
+			}
+		}
+		out.write('}');
+	}
+
+	private static void writeName(String name, ByteArrayOutputStream out) {
+		StringBuilder quoted = new StringBuilder(name.length() + 2).append('"');
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (c == '"' || c == '\\') {
+				quoted.append('\\').append(c);
+			} else if (c < 0x20) {
+				quoted.append(String.format("\\u%04x", (int) c));
+			} else {
+				quoted.append(c);
+			}
+		}
+		out.writeBytes(quoted.append('"').toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * The projected content of a document as JSON and the CAS it was read with.
+	 */
+	record Projected(long cas, byte[] content) {}
+
+}
@@ -51,6 +51,13 @@ public class NonReactiveSupportWrapper implements ReactiveTemplateSupport {
 				txResultHolder, holder));
 	}
 
+	@Override
+	public <T> Mono<T> decodeEntity(Object id, String source, Long cas, Instant expiryTime, Class<T> entityClass,
+			String scope, String collection, Object txResultHolder, CouchbaseResourceHolder holder, boolean resolveJoins) {
+		return Mono.fromSupplier(() -> support.decodeEntity(id, source, cas, expiryTime, entityClass, scope, collection,
+				txResultHolder, holder, resolveJoins));
+	}
+
 	@Override
 	public <T> Mono<T> decodeEntity(Object id, byte[] source, Long cas, Instant expiryTime, Class<T> entityClass,
 			String scope, String collection, Object txResultHolder, CouchbaseResourceHolder holder) {
@@ -58,6 +65,18 @@ public class NonReactiveSupportWrapper implements ReactiveTemplateSupport {
 				txResultHolder, holder));
 	}
 
+	@Override
+	public <T> Mono<T> decodeEntity(Object id, byte[] source, Long cas, Instant expiryTime, Class<T> entityClass,
+			String scope, String collection, Object txResultHolder, CouchbaseResourceHolder holder, boolean resolveJoins) {
+		return Mono.fromSupplier(() -> support.decodeEntity(id, source, cas, expiryTime, entityClass, scope, collection,
+				txResultHolder, holder, resolveJoins));
+	}
+
+	@Override
+	public boolean defersJoins() {
+		return support.defersJoins();
+	}
+
 	@Override
 	public <T> Mono<T> applyResult(T entity, CouchbaseDocument converted, Object id, Long cas,
 								   Object txResultHolder, CouchbaseResourceHolder holder) {
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+
+/**
+ * Decodes the rows of N1QL query results into entities on a scheduler of its own, instead of on the I/O threads that
+ * receive the rows.
+ * <p>
+ * Rows are decoded concurrently, up to the number of rows requested ahead of the subscriber, and the entities are
+ * emitted in the order of the rows. Only rows of {@code findByQuery(...).all()} and {@code stream()} outside of
+ * transactions are decoded this way. Decoding must not block: eager
+ * {@link org.springframework.data.couchbase.core.query.N1qlJoin} properties are still resolved in batches after the
+ * rows are decoded, and entity callbacks run on the decoding threads.
+ *
+ * @since 6.2
+ */
+public class QueryRowDecoder {
+
+	/**
+	 * Number of threads decoding rows, one per CPU.
+	 */
+	public static final int DEFAULT_PARALLELISM = Schedulers.DEFAULT_POOL_SIZE;
+
+	private final Scheduler scheduler;
+	private final boolean ownsScheduler;
+
+	public QueryRowDecoder() {
+		this(DEFAULT_PARALLELISM);
+	}
+
+	/**
+	 * @param parallelism number of threads decoding rows.
+	 */
+	public QueryRowDecoder(int parallelism) {
+		Assert.isTrue(parallelism > 0, "parallelism must be greater than 0");
+		this.scheduler = Schedulers.newParallel("couchbase-row-decoder", parallelism, true);
+		this.ownsScheduler = true;
+	}
+
+	/**
+	 * @param scheduler the scheduler rows are decoded on, its lifecycle is left to the caller.
+	 */
+	public QueryRowDecoder(Scheduler scheduler) {
+		Assert.notNull(scheduler, "scheduler must not be null");
+		this.scheduler = scheduler;
+		this.ownsScheduler = false;
+	}
+
+	/**
+	 * Decode rows on the scheduler of this decoder.
+	 *
+	 * @param rows the rows as received.
+	 * @param decoder decodes one row.
+	 * @param prefetch the number of rows decoded ahead of the subscriber.
+	 * @return the decoded rows, in the order of the rows.
+	 */
+	<R, T> Flux<T> decode(Flux<R> rows, Function<R, Mono<T>> decoder, int prefetch) {
+		return rows.flatMapSequential(row -> Mono.defer(() -> decoder.apply(row)).subscribeOn(scheduler), prefetch, 1);
+	}
+
+	/**
+	 * Release the threads of this decoder, unless it was created with a scheduler of the caller.
+	 */
+	public void dispose() {
+		if (ownsScheduler) {
+			scheduler.dispose();
+		}
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.io.IOException;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.couchbase.core.support.TemplateUtils;
+
+import com.couchbase.client.core.error.DecodingFailureException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * The document id and CAS selected into a row of an entity query, and the total of a page query, read from the raw
+ * JSON of the row so that the row can be handed to the entity decoder as is. The remaining fields of the row are
+ * skipped without being materialized.
+ *
+ * @since 6.2
+ */
+record QueryRowMeta(@Nullable String id, @Nullable Long cas, @Nullable Long total) {
+
+	private static final JsonFactory FACTORY = new JsonFactory();
+
+	static QueryRowMeta of(byte[] row) {
+		return of(row, false);
+	}
+
+	/**
+	 * @param row the raw JSON of the row.
+	 * @param withTotal whether to read the {@link TemplateUtils#SELECT_TOTAL} of a page query as well.
+	 */
+	static QueryRowMeta of(byte[] row, boolean withTotal) {
+		String id = null;
+		String id3x = null;
+		Long cas = null;
+		Long cas3x = null;
+		Long total = null;
+		try (JsonParser parser = FACTORY.createParser(row)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new DecodingFailureException("Query row is not a JSON object");
+			}
+			for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+				String name = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if (TemplateUtils.SELECT_ID.equals(name)) {
+					id = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+				} else if (TemplateUtils.SELECT_ID_3x.equals(name)) {
+					id3x = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+				} else if (TemplateUtils.SELECT_CAS.equals(name)) {
+					cas = value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null;
+				} else if (TemplateUtils.SELECT_CAS_3x.equals(name)) {
+					cas3x = value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null;
+				} else if (withTotal && TemplateUtils.SELECT_TOTAL.equals(name)) {
+					total = value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null;
+				} else {
+					parser.skipChildren();
+				}
+				if (id != null && cas != null && (total != null || !withTotal)) {
+					break;
+				}
+			}
+		} catch (IOException e) {
+			throw new DecodingFailureException("Could not read the id and cas of a query row", e);
+		}
+		return new QueryRowMeta(id != null ? id : id3x, cas != null ? cas : cas3x, total);
+	}
+
+}
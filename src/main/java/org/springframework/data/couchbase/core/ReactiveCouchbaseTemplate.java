@@ -18,6 +18,12 @@ package org.springframework.data.couchbase.core;
 
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -27,14 +33,17 @@ import org.springframework.data.couchbase.CouchbaseClientFactory;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
 import org.springframework.data.couchbase.core.convert.translation.JacksonTranslationService;
 import org.springframework.data.couchbase.core.convert.translation.TranslationService;
-import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.core.query.PreparedStatementRegistry;
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
 import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.query.QueryOptions;
 import com.couchbase.client.java.query.QueryScanConsistency;
 
 /**
@@ -49,12 +58,19 @@ import com.couchbase.client.java.query.QueryScanConsistency;
  */
 public class ReactiveCouchbaseTemplate implements ReactiveCouchbaseOperations, ApplicationContextAware {
 
+	private static final int MAX_LOOKUP_IN_PROJECTIONS = 1024;
+
 	private final CouchbaseClientFactory clientFactory;
 	private final CouchbaseConverter converter;
 	private final PersistenceExceptionTranslator exceptionTranslator;
 	private final ReactiveCouchbaseTemplateSupport templateSupport;
 	private final ThreadLocal<PseudoArgs<?>> threadLocalArgs = new ThreadLocal<>();
 	private final QueryScanConsistency scanConsistency;
+	private final Map<Class<?>, Optional<CouchbasePersistentProperty>> versionProperties = new ConcurrentHashMap<>();
+	private final Map<List<String>, Optional<LookupInProjection>> lookupInProjections = new ConcurrentHashMap<>();
+	private @Nullable PreparedStatementRegistry preparedStatementRegistry;
+	private @Nullable DocumentChangeTracker changeTracker;
+	private @Nullable QueryRowDecoder queryRowDecoder;
 
 	public ReactiveCouchbaseTemplate(final CouchbaseClientFactory clientFactory, final CouchbaseConverter converter) {
 		this(clientFactory, converter, new JacksonTranslationService(), null);
@@ -81,9 +97,7 @@ public class ReactiveCouchbaseTemplate implements ReactiveCouchbaseOperations, A
 		String scope = scopeAndCollection.length > 0 ? scopeAndCollection[0] : null;
 		String collection = scopeAndCollection.length > 1 ? scopeAndCollection[1] : null;
 		return Mono.deferContextual( ctx1 -> {
-			final CouchbasePersistentEntity<?> mapperEntity = getConverter().getMappingContext()
-					.getPersistentEntity(entity.getClass());
-			final CouchbasePersistentProperty versionProperty = mapperEntity.getVersionProperty();
+			final CouchbasePersistentProperty versionProperty = getVersionProperty(entity.getClass());
 			final boolean versionPresent = versionProperty != null;
 			final Long version = versionProperty == null || versionProperty.getField() == null ? null
 					: (Long) ReflectionUtils.getField(versionProperty.getField(),
@@ -108,6 +122,9 @@ public class ReactiveCouchbaseTemplate implements ReactiveCouchbaseOperations, A
 							}
 						});
 			} else if (existingDocument) { // there is a version property, and it is non-zero
+				if (changeTracker != null) {
+					return saveChanges(entity, version, scope, collection);
+				}
 				// Updating existing document with cas
 				return (Mono<T>) replaceById(clazz).inScope(scope)
 						.inCollection(collection)
@@ -121,6 +138,95 @@ public class ReactiveCouchbaseTemplate implements ReactiveCouchbaseOperations, A
 		});
 	}
 
+	/**
+	 * Sub-document lookups of a findById projection, built once per list of fields.
+	 *
+	 * @return the lookups, {@literal null} if the fields cannot be projected with lookups.
+	 */
+	@Nullable
+	LookupInProjection getLookupInProjection(List<String> fields) {
+		Optional<LookupInProjection> projection = lookupInProjections.get(fields);
+		if (projection == null) {
+			projection = Optional.ofNullable(LookupInProjection.of(fields));
+			// fields assembled at runtime must not grow the cache without bound
+			if (lookupInProjections.size() < MAX_LOOKUP_IN_PROJECTIONS) {
+				lookupInProjections.putIfAbsent(List.copyOf(fields), projection);
+			}
+		}
+		return projection.orElse(null);
+	}
+
+	/**
+	 * Update an existing document with only the fields that changed since it was read, see
+	 * {@link DocumentChangeTracker}. Inside a transaction the whole document is replaced. The entity is encoded once, the
+	 * same document is compared with the snapshot, written and recorded.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> Mono<T> saveChanges(T entity, long cas, @Nullable String scope, @Nullable String collection) {
+		DocumentChangeTracker tracker = changeTracker;
+		Class<T> clazz = (Class<T>) entity.getClass();
+		return TransactionalSupport.checkForTransactionInThreadLocalStorage().flatMap(ctx -> {
+			if (ctx.isPresent() || tracker == null) {
+				return replaceById(clazz).inScope(scope).inCollection(collection).one(entity);
+			}
+			return templateSupport.encodeEntity(entity).flatMap(converted -> {
+				// snapshots are kept under the resolved scope and collection, resolve them as the write will. Resolving
+				// consumes the arguments of a repository, they are put back for the write.
+				PseudoArgs<?> threadLocal = getPseudoArgs();
+				PseudoArgs<?> pArgs = new PseudoArgs<>(this, scope != null ? scope : OptionsBuilder.getScopeFrom(clazz),
+						collection != null ? collection : OptionsBuilder.getCollectionFrom(clazz), null, clazz);
+				setPseudoArgs(threadLocal);
+				String id = converted.getId().toString();
+				Map<String, Object> content = converted.export();
+				DocumentChangeTracker.Changes changes = tracker.changes(pArgs.getScope(), pArgs.getCollection(), id, cas,
+						content);
+				if (changes != null && changes.isEmpty()) {
+					String unchanged = DocumentChangeTracker.unchangedField(content);
+					changes = unchanged != null ? new DocumentChangeTracker.Changes(List.of(unchanged), List.of()) : null;
+				}
+				Mono<T> saved;
+				if (changes == null) {
+					saved = ((ReactiveReplaceByIdOperationSupport.ReactiveReplaceByIdSupport<T>) replaceById(clazz)
+							.inScope(scope).inCollection(collection)).one(entity, converted);
+				} else {
+					saved = ((ReactiveMutateInByIdOperationSupport.ReactiveMutateInByIdSupport<T>) mutateInById(clazz)
+							.inScope(scope).inCollection(collection).withUpsertPaths(changes.upserts().toArray(new String[0]))
+							.withRemovePaths(changes.removals().toArray(new String[0])).withCasProvided()).one(entity, converted);
+				}
+				return saved
+						.doOnNext(result -> tracker.record(pArgs.getScope(), pArgs.getCollection(), id,
+								templateSupport.getCas(result), content))
+						.doOnError(error -> tracker.discard(pArgs.getScope(), pArgs.getCollection(), id));
+			});
+		});
+	}
+
+	/**
+	 * Remember the stored form of an entity read by id, see {@link DocumentChangeTracker}. Only entities with a version
+	 * property are tracked.
+	 *
+	 * @return the entity.
+	 */
+	<T> T trackChanges(T entity, String id, long cas, @Nullable String scope, @Nullable String collection) {
+		DocumentChangeTracker tracker = changeTracker;
+		if (tracker != null && cas != 0 && getVersionProperty(entity.getClass()) != null) {
+			CouchbaseDocument snapshot = new CouchbaseDocument();
+			converter.write(entity, snapshot);
+			tracker.record(scope, collection, id, cas, snapshot.export());
+		}
+		return entity;
+	}
+
+	/**
+	 * Version property of the entity type, resolved once per type as save() runs for every entity of a saveAll.
+	 */
+	@Nullable
+	CouchbasePersistentProperty getVersionProperty(Class<?> entityType) {
+		return versionProperties.computeIfAbsent(entityType, type -> Optional
+				.ofNullable(getConverter().getMappingContext().getRequiredPersistentEntity(type).getVersionProperty()))
+				.orElse(null);
+	}
+
 	public <T> Mono<Long> count(Query query, Class<T> domainType) {
 		return findByQuery(domainType).matching(query).all().count();
 	}
@@ -273,4 +379,71 @@ public class ReactiveCouchbaseTemplate implements ReactiveCouchbaseOperations, A
 		return scanConsistency;
 	}
 
+	/**
+	 * Set the registry that switches frequently executed N1QL statements to prepared execution.
+	 *
+	 * @param preparedStatementRegistry the registry, {@literal null} to execute all statements adhoc.
+	 * @since 6.2
+	 */
+	public void setPreparedStatementRegistry(@Nullable PreparedStatementRegistry preparedStatementRegistry) {
+		this.preparedStatementRegistry = preparedStatementRegistry;
+	}
+
+	/**
+	 * @return the registry of prepared statements, {@literal null} if statements are executed adhoc.
+	 * @since 6.2
+	 */
+	public @Nullable PreparedStatementRegistry getPreparedStatementRegistry() {
+		return preparedStatementRegistry;
+	}
+
+	/**
+	 * Set the tracker that makes {@link #save(Object, String...)} write only the changed fields of entities that were
+	 * read by id through this template.
+	 *
+	 * @param changeTracker the tracker, {@literal null} to always replace whole documents.
+	 * @since 6.2
+	 */
+	public void setDocumentChangeTracker(@Nullable DocumentChangeTracker changeTracker) {
+		this.changeTracker = changeTracker;
+	}
+
+	/**
+	 * @return the tracker of loaded documents, {@literal null} if saves replace whole documents.
+	 * @since 6.2
+	 */
+	public @Nullable DocumentChangeTracker getDocumentChangeTracker() {
+		return changeTracker;
+	}
+
+	/**
+	 * Set the decoder that decodes the rows of query results into entities off the I/O threads.
+	 *
+	 * @param queryRowDecoder the decoder, {@literal null} to decode rows on the threads that receive them.
+	 * @since 6.2
+	 */
+	public void setQueryRowDecoder(@Nullable QueryRowDecoder queryRowDecoder) {
+		this.queryRowDecoder = queryRowDecoder;
+	}
+
+	/**
+	 * @return the decoder of query rows, {@literal null} if rows are decoded on the threads that receive them.
+	 * @since 6.2
+	 */
+	public @Nullable QueryRowDecoder getQueryRowDecoder() {
+		return queryRowDecoder;
+	}
+
+	/**
+	 * Record the execution of a N1QL statement with the {@link PreparedStatementRegistry}, if any.
+	 *
+	 * @param statement the statement about to be executed.
+	 * @param options the options it is executed with.
+	 * @return the options, prepared if the statement is hot.
+	 */
+	QueryOptions prepareIfHot(String statement, QueryOptions options) {
+		PreparedStatementRegistry registry = preparedStatementRegistry;
+		return registry == null ? options : registry.apply(statement, options);
+	}
+
 }
@@ -79,6 +79,13 @@ class ReactiveCouchbaseTemplateSupport extends AbstractTemplateSupport
 						txResultHolder, holder));
 	}
 
+	@Override
+	public <T> Mono<T> decodeEntity(Object id, String source, Long cas, Instant expiryTime, Class<T> entityClass,
+			String scope, String collection, Object txResultHolder, CouchbaseResourceHolder holder, boolean resolveJoins) {
+		return Mono.fromSupplier(() -> decodeEntityBase(id, source, cas, expiryTime, entityClass, scope, collection,
+				txResultHolder, holder, resolveJoins));
+	}
+
 	@Override
 	public <T> Mono<T> decodeEntity(Object id, byte[] source, Long cas, Instant expiryTime, Class<T> entityClass,
 			String scope, String collection, Object txResultHolder, CouchbaseResourceHolder holder) {
@@ -87,6 +94,18 @@ class ReactiveCouchbaseTemplateSupport extends AbstractTemplateSupport
 						txResultHolder, holder));
 	}
 
+	@Override
+	public <T> Mono<T> decodeEntity(Object id, byte[] source, Long cas, Instant expiryTime, Class<T> entityClass,
+			String scope, String collection, Object txResultHolder, CouchbaseResourceHolder holder, boolean resolveJoins) {
+		return Mono.fromSupplier(() -> decodeEntityBase(id, source, cas, expiryTime, entityClass, scope, collection,
+				txResultHolder, holder, resolveJoins));
+	}
+
+	@Override
+	public boolean defersJoins() {
+		return true;
+	}
+
 	@Override
 	public <T> Mono<T> applyResult(T entity, CouchbaseDocument converted, Object id, Long cas,
 			Object txResultHolder, CouchbaseResourceHolder holder) {
@@ -73,6 +73,22 @@ public interface ReactiveFindByIdOperation {
 		 */
 		Flux<? extends T> all(Collection<String> ids);
 
+		/**
+		 * Finds a list of documents based on the given IDs as one pipelined bulk get. Scope, collection and options are
+		 * resolved once for the whole batch and at most {@code concurrency} gets are in flight at any time. IDs that do
+		 * not exist are skipped. The default ignores {@code concurrency} and {@code ordered} and calls
+		 * {@link #all(Collection)}.
+		 *
+		 * @param ids the document ID ids.
+		 * @param concurrency the maximum number of gets in flight.
+		 * @param ordered if true the entities are emitted in the order of the ids, otherwise as they arrive.
+		 * @return the found entities.
+		 * @since 6.2
+		 */
+		default Flux<? extends T> all(Collection<String> ids, int concurrency, boolean ordered) {
+			return all(ids);
+		}
+
 	}
 
 	/**
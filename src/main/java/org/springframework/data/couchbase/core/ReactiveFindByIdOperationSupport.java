@@ -22,19 +22,23 @@ import static com.couchbase.client.java.transactions.internal.ConverterUtil.make
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
 
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
 import org.springframework.data.couchbase.core.query.OptionsBuilder;
 import org.springframework.data.couchbase.core.support.PseudoArgs;
+import org.springframework.data.couchbase.transaction.CouchbaseResourceHolder;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.core.error.DocumentNotFoundException;
@@ -43,6 +47,7 @@ import com.couchbase.client.java.ReactiveCollection;
 import com.couchbase.client.java.kv.GetAndLockOptions;
 import com.couchbase.client.java.kv.GetAndTouchOptions;
 import com.couchbase.client.java.kv.GetOptions;
+import com.couchbase.client.java.kv.LookupInOptions;
 
 /**
  * {@link ReactiveFindByIdOperation} implementations for Couchbase.
@@ -96,46 +101,17 @@ public class ReactiveFindByIdOperationSupport implements ReactiveFindByIdOperati
 		@Override
 		public Mono<T> one(final Object id) {
 
-			PseudoArgs<?> testPargs = new PseudoArgs(template, scope, collection, null, domainType);
-			CommonOptions<?> gOptions = testPargs.getOptions() != null ? (CommonOptions<?>) testPargs.getOptions()
-					: initGetOptions();
-			PseudoArgs<?> pArgs = new PseudoArgs(template, testPargs.getScope(), testPargs.getCollection(), gOptions,
-					domainType);
+			PseudoArgs<?> pArgs = resolveArgs();
 			if (LOG.isDebugEnabled()) {
 				LOG.debug("findById key={} {}", id, pArgs);
 			}
-			ReactiveCollection rc = template.getCouchbaseClientFactory().withScope(pArgs.getScope())
-					.getCollection(pArgs.getCollection()).reactive();
+			ReactiveCollection rc = getReactiveCollection(pArgs);
 
 			Mono<T> reactiveEntity = TransactionalSupport.checkForTransactionInThreadLocalStorage().flatMap(ctxOpt -> {
-				if (!ctxOpt.isPresent()) {
-					if (pArgs.getOptions() instanceof GetAndTouchOptions options) {
-						return rc
-								.getAndTouch(id.toString(), expiryToUse,
-										buildOptions((GetAndTouchOptions) pArgs.getOptions()))
-								.flatMap(result -> support.decodeEntity(id, result.contentAsBytes(),
-										result.cas(), result.expiryTime().orElse(null), domainType, pArgs.getScope(),
-										pArgs.getCollection(), null, null));
-					} else if (pArgs.getOptions() instanceof GetAndLockOptions options) {
-						return rc
-								.getAndLock(id.toString(), Optional.of(lockDuration).orElse(Duration.ZERO),
-										buildOptions((GetAndLockOptions) pArgs.getOptions()))
-								.flatMap(result -> support.decodeEntity(id, result.contentAsBytes(),
-										result.cas(), result.expiryTime().orElse(null), domainType, pArgs.getScope(),
-										pArgs.getCollection(), null, null));
-					} else {
-						return rc.get(id.toString(), buildOptions((GetOptions) pArgs.getOptions()))
-								.flatMap(result -> support.decodeEntity(id, result.contentAsBytes(),
-										result.cas(), result.expiryTime().orElse(null), domainType,
-										pArgs.getScope(), pArgs.getCollection(), null, null));
-					}
-				} else {
+				if (ctxOpt.isPresent()) {
 					rejectInvalidTransactionalOptions();
-					return ctxOpt.get().getCore().getReactive(makeCollectionIdentifier(rc.async()), id.toString())
-							.flatMap(result -> support.decodeEntity(id, result.contentAsBytes(),
-									result.cas(), null, domainType, pArgs.getScope(), pArgs.getCollection(), null,
-									null));
 				}
+				return get(pArgs, rc, ctxOpt, id);
 			});
 
 			return reactiveEntity.onErrorResume(throwable -> {
@@ -143,14 +119,71 @@ public class ReactiveFindByIdOperationSupport implements ReactiveFindByIdOperati
 					return Mono.empty();
 				}
 				return Mono.error(throwable);
-			}).onErrorMap(throwable -> {
-				if (throwable instanceof RuntimeException) {
-					return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+			}).onErrorMap(this::translateError);
+
+		}
+
+		/**
+		 * Resolves scope, collection and options from the fluent api, the repository (via the template threadLocal) and
+		 * the entity annotations. This consumes the template threadLocal, so it must be called only once per operation.
+		 */
+		private PseudoArgs<?> resolveArgs() {
+			PseudoArgs<?> testPargs = new PseudoArgs(template, scope, collection, null, domainType);
+			CommonOptions<?> gOptions = testPargs.getOptions() != null ? (CommonOptions<?>) testPargs.getOptions()
+					: initGetOptions();
+			return new PseudoArgs(template, testPargs.getScope(), testPargs.getCollection(), gOptions, domainType);
+		}
+
+		private ReactiveCollection getReactiveCollection(PseudoArgs<?> pArgs) {
+			return template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getCollection(pArgs.getCollection())
+					.reactive();
+		}
+
+		private Mono<T> get(PseudoArgs<?> pArgs, ReactiveCollection rc, Optional<CouchbaseResourceHolder> ctxOpt,
+				Object id) {
+			if (!ctxOpt.isPresent()) {
+				if (pArgs.getOptions() instanceof GetAndTouchOptions options) {
+					return rc.getAndTouch(id.toString(), expiryToUse, buildOptions(options)).flatMap(
+							result -> decode(id, result.contentAsBytes(), result.cas(), result.expiryTime().orElse(null), pArgs));
+				} else if (pArgs.getOptions() instanceof GetAndLockOptions options) {
+					return rc.getAndLock(id.toString(), Optional.of(lockDuration).orElse(Duration.ZERO), buildOptions(options))
+							.flatMap(result -> decode(id, result.contentAsBytes(), result.cas(), result.expiryTime().orElse(null),
+									pArgs));
 				} else {
-					return throwable;
+					GetOptions.Built getOptions = buildOptions((GetOptions) pArgs.getOptions()).build();
+					Mono<T> get = Mono.defer(() -> rc.get(id.toString(), buildOptions((GetOptions) pArgs.getOptions()))
+							.flatMap(result -> decode(id, result.contentAsBytes(), result.cas(),
+									result.expiryTime().orElse(null), pArgs)));
+					LookupInProjection projection = fields == null ? null : template.getLookupInProjection(fields);
+					if (projection != null && !getOptions.withExpiry() && getOptions.transcoder() == null) {
+						return projection.lookup(rc, id.toString(), lookupInOptions(getOptions))
+								.flatMap(result -> decode(id, result.content(), result.cas(), null, pArgs)).switchIfEmpty(get);
+					}
+					return get;
 				}
-			});
+			} else {
+				return ctxOpt.get().getCore().getReactive(makeCollectionIdentifier(rc.async()), id.toString())
+						.flatMap(result -> support.decodeEntity(id, result.contentAsBytes(), result.cas(), null, domainType,
+								pArgs.getScope(), pArgs.getCollection(), null, null));
+			}
+		}
+
+		/**
+		 * Decode an entity read outside of a transaction and remember its stored form for the
+		 * {@link DocumentChangeTracker}, as entities read by id are the ones usually saved again.
+		 */
+		private Mono<T> decode(Object id, byte[] content, long cas, Instant expiryTime, PseudoArgs<?> pArgs) {
+			return support
+					.decodeEntity(id, content, cas, expiryTime, domainType, pArgs.getScope(), pArgs.getCollection(), null, null)
+					.map(entity -> template.trackChanges(entity, id.toString(), cas, pArgs.getScope(), pArgs.getCollection()));
+		}
 
+		private Throwable translateError(Throwable throwable) {
+			if (throwable instanceof RuntimeException) {
+				return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+			} else {
+				return throwable;
+			}
 		}
 
 		private void rejectInvalidTransactionalOptions() {
@@ -170,13 +203,52 @@ public class ReactiveFindByIdOperationSupport implements ReactiveFindByIdOperati
 
 		@Override
 		public Flux<? extends T> all(final Collection<String> ids) {
-			return Flux.fromIterable(ids).flatMap(this::one);
+			return all(ids, Queues.SMALL_BUFFER_SIZE, false);
+		}
+
+		@Override
+		public Flux<? extends T> all(final Collection<String> ids, final int concurrency, final boolean ordered) {
+			Assert.notNull(ids, "Ids must not be null");
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+			if (ids.isEmpty()) {
+				return Flux.empty();
+			}
+
+			// resolve scope, collection and options once for the whole batch instead of once per id
+			PseudoArgs<?> pArgs = resolveArgs();
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("findById keys={} concurrency={} ordered={} {}", ids.size(), concurrency, ordered, pArgs);
+			}
+			ReactiveCollection rc = getReactiveCollection(pArgs);
+
+			Flux<T> reactiveEntities = TransactionalSupport.checkForTransactionInThreadLocalStorage()
+					.flatMapMany(ctxOpt -> {
+						if (ctxOpt.isPresent()) {
+							rejectInvalidTransactionalOptions();
+						}
+						// the SDK already routes each get to the node owning its vBucket, so the ids are only pipelined here.
+						// Results are decoded on the thread completing each get, which spreads decoding over the event loops.
+						Function<String, Mono<T>> fetch = id -> get(pArgs, rc, ctxOpt, id)
+								.onErrorResume(DocumentNotFoundException.class, e -> Mono.empty());
+						Flux<String> keys = Flux.fromIterable(ids);
+						return ordered ? keys.flatMapSequential(fetch, concurrency) : keys.flatMap(fetch, concurrency);
+					});
+
+			return reactiveEntities.onErrorMap(this::translateError);
 		}
 
 		public GetOptions buildOptions(GetOptions options) {
 			return OptionsBuilder.buildGetOptions(options);
 		}
 
+		private static LookupInOptions lookupInOptions(GetOptions.Built getOptions) {
+			LookupInOptions options = LookupInOptions.lookupInOptions().clientContext(getOptions.clientContext());
+			getOptions.timeout().ifPresent(options::timeout);
+			getOptions.retryStrategy().ifPresent(options::retryStrategy);
+			getOptions.parentSpan().ifPresent(options::parentSpan);
+			return options;
+		}
+
 		public GetAndTouchOptions buildOptions(GetAndTouchOptions options) {
 			return OptionsBuilder.buildGetAndTouchOptions(options);
 		}
@@ -31,6 +31,9 @@ import org.springframework.data.couchbase.core.support.WithConsistency;
 import org.springframework.data.couchbase.core.support.WithDistinct;
 import org.springframework.data.couchbase.core.support.WithQuery;
 import org.springframework.data.couchbase.core.support.WithQueryOptions;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import com.couchbase.client.java.query.QueryOptions;
 import com.couchbase.client.java.query.QueryScanConsistency;
@@ -86,6 +89,20 @@ public interface ReactiveFindByQueryOperation {
 		 */
 		Mono<Long> count();
 
+		/**
+		 * Get one page of the matching elements together with the total number of matching elements. The total is
+		 * counted by the statement that reads the page where possible, otherwise a count query is run after it. The default
+		 * implementation skips to the page in {@link #all()} and counts with {@link #count()}.
+		 *
+		 * @param pageable the page to read.
+		 * @return the page, never {@literal null}.
+		 * @since 6.2
+		 */
+		default Mono<Page<T>> page(Pageable pageable) {
+			Flux<T> content = pageable.isPaged() ? all().skip(pageable.getOffset()).take(pageable.getPageSize()) : all();
+			return content.collectList().zipWith(count(), (list, total) -> new PageImpl<>(list, pageable, total));
+		}
+
 		/**
 		 * Check for the presence of matching elements.
 		 *
@@ -15,23 +15,37 @@
  */
 package org.springframework.data.couchbase.core;
 
+import java.lang.reflect.InaccessibleObjectException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.springframework.data.core.TypedPropertyPath;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.couchbase.CouchbaseClientFactory;
+import org.springframework.data.couchbase.core.convert.join.N1qlJoinResolver;
 import org.springframework.data.couchbase.core.query.OptionsBuilder;
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.data.couchbase.core.support.TemplateUtils;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 import com.couchbase.client.core.api.query.CoreQueryContext;
 import com.couchbase.client.core.api.query.CoreQueryOptions;
 import com.couchbase.client.java.ReactiveScope;
 import com.couchbase.client.java.codec.JsonSerializer;
+import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.query.QueryOptions;
 import com.couchbase.client.java.query.QueryScanConsistency;
 import com.couchbase.client.java.query.ReactiveQueryResult;
@@ -191,17 +205,125 @@ public class ReactiveFindByQueryOperationSupport implements ReactiveFindByQueryO
 
 		@Override
 		public Flux<T> all() {
+			return all(Queues.SMALL_BUFFER_SIZE);
+		}
+
+		/**
+		 * Get all matching documents, decoding at most {@code prefetch} rows ahead of the subscriber. Rows are read from
+		 * the query service as they are requested, so a slow subscriber holds back the response instead of having it
+		 * buffered.
+		 *
+		 * @param prefetch the number of rows requested and decoded ahead of the subscriber.
+		 */
+		Flux<T> all(int prefetch) {
 			PseudoArgs<QueryOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType);
 			String statement = assembleEntityQuery(false, distinctFields, pArgs.getScope(), pArgs.getCollection());
 			if (LOG.isDebugEnabled()) {
 				LOG.debug("findByQuery {} statement: {}", pArgs, statement);
 			}
+			return execute(statement, pArgs).flatMapMany(o -> decodeResult(o, pArgs, prefetch, null));
+		}
+
+		/**
+		 * Decode the entities of a query result. Outside a transaction the eager joins of all rows are resolved by one
+		 * query per batch.
+		 *
+		 * @param total receives the {@link TemplateUtils#SELECT_TOTAL} of the rows of a page statement, {@literal null}
+		 *          for other statements.
+		 */
+		private Flux<T> decodeResult(Object o, PseudoArgs<QueryOptions> pArgs, int prefetch, @Nullable AtomicLong total) {
+			if (o instanceof ReactiveQueryResult result) {
+				boolean batchJoins = support.defersJoins()
+						&& N1qlJoinResolver.hasEagerJoins(template.getConverter().getMappingContext(), returnType);
+				Flux<Tuple2<String, T>> entities = decodeRows(result, pArgs, !batchJoins, prefetch, total);
+				return batchJoins
+						? N1qlJoinResolver.resolveJoins(template, entities, pArgs.getScope(), pArgs.getCollection())
+						: entities.map(Tuple2::getT2);
+			}
+			return Flux.fromIterable(((TransactionQueryResult) o).rowsAsObject())
+					.flatMap(row -> decodeRow(row, pArgs, true, total).map(Tuple2::getT2), prefetch);
+		}
+
+		/**
+		 * Decode the rows of a query result, with the {@link QueryRowDecoder} of the template if there is one. Rows of
+		 * entities are handed to the decoder as raw JSON, other rows are read as {@link JsonObject} first.
+		 */
+		private Flux<Tuple2<String, T>> decodeRows(ReactiveQueryResult result, PseudoArgs<QueryOptions> pArgs,
+				boolean resolveJoins, int prefetch, @Nullable AtomicLong total) {
+			QueryRowDecoder decoder = template.getQueryRowDecoder();
+			if (readsEntities()) {
+				// the serializers of the SDK hand out the row bytes as received
+				Flux<byte[]> rows = result.rowsAs(byte[].class);
+				return decoder == null ? rows.flatMap(row -> decodeRow(row, pArgs, resolveJoins, total), prefetch)
+						: decoder.decode(rows, row -> decodeRow(row, pArgs, resolveJoins, total), prefetch);
+			}
+			Flux<JsonObject> rows = result.rowsAsObject();
+			return decoder == null ? rows.flatMap(row -> decodeRow(row, pArgs, resolveJoins, total), prefetch)
+					: decoder.decode(rows, row -> decodeRow(row, pArgs, resolveJoins, total), prefetch);
+		}
+
+		// rows of entities can be decoded with the selected id and cas left in, other rows are decoded from their content
+		private boolean readsEntities() {
+			if (query.isDistinct() || distinctFields != null || ClassUtils.isPrimitiveOrWrapper(returnType)
+					|| returnType == String.class) {
+				return false;
+			}
+			try {
+				return template.getConverter().getMappingContext().getPersistentEntity(returnType) != null;
+			} catch (InaccessibleObjectException e) {
+				return false;
+			}
+		}
+
+		@Override
+		public Mono<Page<T>> page(Pageable pageable) {
+			// the skip and limit of the page are set on a copy, the query of the caller can be reused
+			Query pageQuery = query.copy();
+			if (pageQuery == null) {
+				Flux<T> content = pageable.isPaged() ? all().skip(pageable.getOffset()).take(pageable.getPageSize()) : all();
+				return content.collectList().zipWith(count(), (list, count) -> new PageImpl<>(list, pageable, count));
+			}
+			if (pageable.isPaged()) {
+				pageQuery.skip(pageable.getOffset()).limit(pageable.getPageSize());
+			}
+			PseudoArgs<QueryOptions> pArgs = new PseudoArgs<>(template, scope, collection, options, domainType);
+			// the pseudo args are consumed, the statements of this page run with the resolved ones
+			ReactiveFindByQuerySupport<T> resolved = new ReactiveFindByQuerySupport<>(template, domainType, returnType,
+					pageQuery, scanConsistency, pArgs.getScope(), pArgs.getCollection(), pArgs.getOptions(), distinctFields,
+					fields, support);
+			String statement = pageQuery.toN1qlPageSelectString(template.getConverter(), template.getBucketName(),
+					pArgs.getScope(), pArgs.getCollection(), domainType, returnType,
+					pageQuery.getDistinctFields() != null ? pageQuery.getDistinctFields() : distinctFields, fields);
+			if (statement == null) {
+				return resolved.all().collectList().flatMap(content -> resolved.countAll(content, pageable));
+			}
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("findByQuery {} statement: {}", pArgs, statement);
+			}
+			AtomicLong total = new AtomicLong();
+			return resolved.execute(statement, pArgs)
+					.flatMapMany(o -> resolved.decodeResult(o, pArgs, Queues.SMALL_BUFFER_SIZE, total)).collectList()
+					.flatMap(content -> content.isEmpty() && pageable.isPaged() && pageable.getOffset() > 0
+							// no row carries the total when the page is beyond the last match
+							? resolved.countAll(content, pageable)
+							: Mono.just(new PageImpl<>(content, pageable, total.get())));
+		}
+
+		private Mono<Page<T>> countAll(List<T> content, Pageable pageable) {
+			Query countQuery = query.copy();
+			countQuery.skip(-1).limit(-1).withoutSort();
+			return new ReactiveFindByQuerySupport<>(template, domainType, returnType, countQuery, scanConsistency, scope,
+					collection, options, distinctFields, fields, support).count()
+					.map(count -> new PageImpl<>(content, pageable, count));
+		}
+
+		private Mono<Object> execute(String statement, PseudoArgs<QueryOptions> pArgs) {
 			CouchbaseClientFactory clientFactory = template.getCouchbaseClientFactory();
 			ReactiveScope rs = clientFactory.withScope(pArgs.getScope()).getScope().reactive();
 
 			Mono<Object> allResult = TransactionalSupport.checkForTransactionInThreadLocalStorage().flatMap(s -> {
 				if (!s.isPresent()) {
-					QueryOptions opts = buildOptions(pArgs.getOptions());
+					QueryOptions opts = template.prepareIfHot(statement, buildOptions(pArgs.getOptions()));
 					return pArgs.getScope() == null ? clientFactory.getCluster().reactive().query(statement, opts)
 							: rs.query(statement, opts);
 				} else {
@@ -214,7 +336,6 @@ public class ReactiveFindByQueryOperationSupport implements ReactiveFindByQueryO
 											: CoreQueryContext.of(rs.bucketName(), pArgs.getScope()),
 									opts, false)
 							.map(response -> new TransactionQueryResult(response, jSer));
-
 				}
 			});
 
@@ -224,27 +345,46 @@ public class ReactiveFindByQueryOperationSupport implements ReactiveFindByQueryO
 				} else {
 					return throwable;
 				}
-			}).flatMapMany(o -> o instanceof ReactiveQueryResult ? ((ReactiveQueryResult) o).rowsAsObject()
-					: Flux.fromIterable(((TransactionQueryResult) o).rowsAsObject())).flatMap(row -> {
-						String id = "";
-						Long cas = Long.valueOf(0);
-						if (!query.isDistinct() && distinctFields == null) {
-							id = row.getString(TemplateUtils.SELECT_ID);
-							if (id == null) {
-								id = row.getString(TemplateUtils.SELECT_ID_3x);
-								row.removeKey(TemplateUtils.SELECT_ID_3x);
-							}
-							cas = row.getLong(TemplateUtils.SELECT_CAS);
-							if (cas == null) {
-								cas = row.getLong(TemplateUtils.SELECT_CAS_3x);
-								row.removeKey(TemplateUtils.SELECT_CAS_3x);
-							}
-							row.removeKey(TemplateUtils.SELECT_ID);
-							row.removeKey(TemplateUtils.SELECT_CAS);
-						}
-						return support.decodeEntity(id, row.toString(), cas, null /* expiry from query */, returnType,
-								pArgs.getScope(), pArgs.getCollection(), null, null);
-					});
+			});
+		}
+
+		private Mono<Tuple2<String, T>> decodeRow(JsonObject row, PseudoArgs<QueryOptions> pArgs, boolean resolveJoins,
+				@Nullable AtomicLong total) {
+			if (total != null && row.containsKey(TemplateUtils.SELECT_TOTAL)) {
+				total.set(row.getLong(TemplateUtils.SELECT_TOTAL));
+				row.removeKey(TemplateUtils.SELECT_TOTAL);
+			}
+			String id = "";
+			Long cas = Long.valueOf(0);
+			if (!query.isDistinct() && distinctFields == null) {
+				id = row.getString(TemplateUtils.SELECT_ID);
+				if (id == null) {
+					id = row.getString(TemplateUtils.SELECT_ID_3x);
+					row.removeKey(TemplateUtils.SELECT_ID_3x);
+				}
+				cas = row.getLong(TemplateUtils.SELECT_CAS);
+				if (cas == null) {
+					cas = row.getLong(TemplateUtils.SELECT_CAS_3x);
+					row.removeKey(TemplateUtils.SELECT_CAS_3x);
+				}
+				row.removeKey(TemplateUtils.SELECT_ID);
+				row.removeKey(TemplateUtils.SELECT_CAS);
+			}
+			String rowId = id;
+			return support.decodeEntity(id, row.toString(), cas, null /* expiry from query */, returnType,
+					pArgs.getScope(), pArgs.getCollection(), null, null, resolveJoins).map(entity -> Tuples.of(rowId, entity));
+		}
+
+		private Mono<Tuple2<String, T>> decodeRow(byte[] row, PseudoArgs<QueryOptions> pArgs, boolean resolveJoins,
+				@Nullable AtomicLong total) {
+			QueryRowMeta meta = QueryRowMeta.of(row, total != null);
+			if (total != null && meta.total() != null) {
+				// the row is decoded with the total left in, like the selected id and cas
+				total.set(meta.total());
+			}
+			return support.decodeEntity(meta.id(), row, meta.cas(), null /* expiry from query */, returnType,
+					pArgs.getScope(), pArgs.getCollection(), null, null, resolveJoins)
+					.map(entity -> Tuples.of(meta.id(), entity));
 		}
 
 		public QueryOptions buildOptions(QueryOptions options) {
@@ -264,36 +404,9 @@ public class ReactiveFindByQueryOperationSupport implements ReactiveFindByQueryO
 			if (LOG.isDebugEnabled()) {
 				LOG.debug("findByQuery {} statement: {}", pArgs, statement);
 			}
-
-			CouchbaseClientFactory clientFactory = template.getCouchbaseClientFactory();
-			ReactiveScope rs = clientFactory.withScope(pArgs.getScope()).getScope().reactive();
-
-			Mono<Object> allResult = TransactionalSupport.checkForTransactionInThreadLocalStorage().flatMap(s -> {
-				if (!s.isPresent()) {
-					QueryOptions opts = buildOptions(pArgs.getOptions());
-					return pArgs.getScope() == null ? clientFactory.getCluster().reactive().query(statement, opts)
-							: rs.query(statement, opts);
-				} else {
-					TransactionQueryOptions options = buildTransactionOptions(pArgs.getOptions());
-					JsonSerializer jSer = clientFactory.getCluster().environment().jsonSerializer();
-					CoreQueryOptions opts = options != null ? options.builder().build() : null;
-					return s.get().getCore()
-							.queryReactive(statement,
-									pArgs.getScope() == null ? null
-											: CoreQueryContext.of(rs.bucketName(), pArgs.getScope()),
-									opts, false)
-							.map(response -> new TransactionQueryResult(response, jSer));
-				}
-			});
-
-			return allResult.onErrorMap(throwable -> {
-				if (throwable instanceof RuntimeException) {
-					return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
-				} else {
-					return throwable;
-				}
-			}).flatMapMany(o -> o instanceof ReactiveQueryResult ? ((ReactiveQueryResult) o).rowsAsObject()
-					: Flux.fromIterable(((TransactionQueryResult) o).rowsAsObject()))
+			return execute(statement, pArgs)
+					.flatMapMany(o -> o instanceof ReactiveQueryResult ? ((ReactiveQueryResult) o).rowsAsObject()
+							: Flux.fromIterable(((TransactionQueryResult) o).rowsAsObject()))
 					.map(row -> row.getLong(row.getNames().iterator().next())).next();
 		}
 
@@ -257,6 +257,21 @@ public interface ReactiveFindBySearchOperation {
 		 */
 		FindBySearchWithFacets<T> withFields(String... fields);
 
+		/**
+		 * Specify stored fields and read the entities from them instead of fetching the documents from KV. The fields
+		 * must hold every property of a flat result type without version or expiry.
+		 * <p>
+		 * The entities reflect the index rather than the documents: documents deleted or changed since they were indexed
+		 * are returned as indexed, and numbers are stored as doubles, so {@code long} values beyond 2^53 lose precision.
+		 * The default only requests the fields, as {@link #withFields(String...)} does, and still fetches the documents.
+		 *
+		 * @param fields the field names.
+		 * @since 6.2
+		 */
+		default FindBySearchWithFacets<T> withStoredFields(String... fields) {
+			return withFields(fields);
+		}
+
 		<P> FindBySearchWithFacets<T> withFields(TypedPropertyPath<P, ?> field,
 				TypedPropertyPath<P, ?>... additionalFields);
 	}
@@ -19,14 +19,25 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.core.TypedPropertyPath;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.couchbase.core.query.N1qlJoin;
 import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.core.support.TemplateUtils;
+import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
+import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.search.HighlightStyle;
 import com.couchbase.client.java.search.SearchMetaData;
 import com.couchbase.client.java.search.SearchOptions;
@@ -55,6 +66,11 @@ public class ReactiveFindBySearchOperationSupport implements ReactiveFindBySearc
 	 */
 	static final int DEFAULT_LIMIT = 10_000;
 
+	/**
+	 * Number of search hits hydrated by one bulk get.
+	 */
+	static final int HYDRATION_BATCH_SIZE = 1_000;
+
 	public ReactiveFindBySearchOperationSupport(final ReactiveCouchbaseTemplate template) {
 		this.template = template;
 	}
@@ -63,7 +79,7 @@ public class ReactiveFindBySearchOperationSupport implements ReactiveFindBySearc
 	public <T> ReactiveFindBySearch<T> findBySearch(final Class<T> domainType) {
 		return new ReactiveFindBySearchSupport<>(template, domainType, domainType, null, null, null,
 				OptionsBuilder.getScopeFrom(domainType), OptionsBuilder.getCollectionFrom(domainType), null,
-				null, null, null, null, null, null, template.support());
+				null, null, null, null, null, null, false, template.support());
 	}
 
 	static class ReactiveFindBySearchSupport<T> implements ReactiveFindBySearch<T> {
@@ -83,6 +99,7 @@ public class ReactiveFindBySearchOperationSupport implements ReactiveFindBySearc
 		private final Map<String, SearchFacet> facets;
 		private final String[] fields;
 		private final Integer[] limitSkip; // [0]=limit, [1]=skip; null means unset
+		private final boolean storedFieldsOnly;
 		private final ReactiveTemplateSupport support;
 
 		ReactiveFindBySearchSupport(final ReactiveCouchbaseTemplate template, final Class<?> domainType,
@@ -90,7 +107,7 @@ public class ReactiveFindBySearchOperationSupport implements ReactiveFindBySearc
 				final SearchScanConsistency scanConsistency, final String scope, final String collection,
 				final SearchOptions options, final SearchSort[] sort, final HighlightStyle highlightStyle,
 				final String[] highlightFields, final Map<String, SearchFacet> facets, final String[] fields,
-				final Integer[] limitSkip, final ReactiveTemplateSupport support) {
+				final Integer[] limitSkip, final boolean storedFieldsOnly, final ReactiveTemplateSupport support) {
 			this.template = template;
 			this.domainType = domainType;
 			this.returnType = returnType;
@@ -106,6 +123,7 @@ public class ReactiveFindBySearchOperationSupport implements ReactiveFindBySearc
 			this.facets = facets;
 			this.fields = fields;
 			this.limitSkip = limitSkip;
+			this.storedFieldsOnly = storedFieldsOnly;
 			this.support = support;
 		}
 
@@ -114,7 +132,7 @@ public class ReactiveFindBySearchOperationSupport implements ReactiveFindBySearc
 			Assert.notNull(searchRequest, "SearchRequest must not be null");
 			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets, fields,
-					limitSkip, support);
+					limitSkip, storedFieldsOnly, support);
 		}
 
 		@Override
@@ -122,7 +140,7 @@ public class ReactiveFindBySearchOperationSupport implements ReactiveFindBySearc
 			Assert.notNull(indexName, "Index name must not be null!");
 			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets, fields,
-					limitSkip, support);
+					limitSkip, storedFieldsOnly, support);
 		}
 
 		@Override
@@ -130,35 +148,35 @@ public class ReactiveFindBySearchOperationSupport implements ReactiveFindBySearc
 			Assert.notNull(returnType, "returnType must not be null");
 			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets,
-					fields, limitSkip, support);
+					fields, limitSkip, storedFieldsOnly, support);
 		}
 
 		@Override
 		public FindBySearchInScope<T> withConsistency(SearchScanConsistency scanConsistency) {
 			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets, fields,
-					limitSkip, support);
+					limitSkip, storedFieldsOnly, support);
 		}
 
 		@Override
 		public FindBySearchInCollection<T> inScope(final String scope) {
 			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope != null ? scope : this.scope, collection, options, sort, highlightStyle,
-					highlightFields, facets, fields, limitSkip, support);
+					highlightFields, facets, fields, limitSkip, storedFieldsOnly, support);
 		}
 
 		@Override
 		public FindBySearchWithOptions<T> inCollection(final String collection) {
 			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection != null ? collection : this.collection, options, sort,
-					highlightStyle, highlightFields, facets, fields, limitSkip, support);
+					highlightStyle, highlightFields, facets, fields, limitSkip, storedFieldsOnly, support);
 		}
 
 		@Override
 		public FindBySearchWithQuery<T> withOptions(final SearchOptions options) {
 			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options != null ? options : this.options, sort, highlightStyle,
-					highlightFields, facets, fields, limitSkip, support);
+					highlightFields, facets, fields, limitSkip, storedFieldsOnly, support);
 		}
 
 		@Override
@@ -167,7 +185,7 @@ public class ReactiveFindBySearchOperationSupport implements ReactiveFindBySearc
 			ls[0] = limit;
 			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets,
-					fields, ls, support);
+					fields, ls, storedFieldsOnly, support);
 		}
 
 		@Override
@@ -176,14 +194,14 @@ public class ReactiveFindBySearchOperationSupport implements ReactiveFindBySearc
 			ls[1] = skip;
 			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets,
-					fields, ls, support);
+					fields, ls, storedFieldsOnly, support);
 		}
 
 		@Override
 		public FindBySearchWithSkip<T> withSort(SearchSort... sort) {
 			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets,
-					fields, limitSkip, support);
+					fields, limitSkip, storedFieldsOnly, support);
 		}
 
 		@Override
@@ -195,7 +213,7 @@ public class ReactiveFindBySearchOperationSupport implements ReactiveFindBySearc
 		@Override
 		public FindBySearchWithSort<T> withHighlight(HighlightStyle style, String... fields) {
 			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
-					scanConsistency, scope, collection, options, sort, style, fields, facets, this.fields, limitSkip,
+					scanConsistency, scope, collection, options, sort, style, fields, facets, this.fields, limitSkip, storedFieldsOnly,
 					support);
 		}
 
@@ -210,14 +228,22 @@ public class ReactiveFindBySearchOperationSupport implements ReactiveFindBySearc
 		public FindBySearchWithHighlight<T> withFacets(Map<String, SearchFacet> facets) {
 			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets,
-					fields, limitSkip, support);
+					fields, limitSkip, storedFieldsOnly, support);
 		}
 
 		@Override
 		public FindBySearchWithFacets<T> withFields(String... fields) {
 			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
 					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets,
-					fields, limitSkip, support);
+					fields, limitSkip, false, support);
+		}
+
+		@Override
+		public FindBySearchWithFacets<T> withStoredFields(String... fields) {
+			Assert.notEmpty(fields, "Stored fields must not be empty");
+			return new ReactiveFindBySearchSupport<>(template, domainType, returnType, indexName, searchRequest,
+					scanConsistency, scope, collection, options, sort, highlightStyle, highlightFields, facets,
+					fields, limitSkip, true, support);
 		}
 
 		@Override
@@ -247,9 +273,8 @@ public class ReactiveFindBySearchOperationSupport implements ReactiveFindBySearc
 				}
 
 				return TransactionalSupport.verifyNotInTransaction("findBySearch")
-						.thenMany(executeSearch()
-								.flatMapMany(ReactiveSearchResult::rows))
-						.flatMapSequential(this::hydrateRow)
+						.thenMany(hydrate(executeSearch()
+								.flatMapMany(ReactiveSearchResult::rows)))
 						.onErrorMap(throwable -> {
 							if (throwable instanceof RuntimeException) {
 								return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
@@ -335,32 +360,83 @@ public class ReactiveFindBySearchOperationSupport implements ReactiveFindBySearc
 						SearchMetaData metaData = tuple.getT2();
 						java.util.Map<String, SearchFacetResult> facetResults = tuple.getT3();
 
-						return Flux.fromIterable(searchRows)
-								.flatMapSequential(this::hydrateRow)
+						return hydrate(Flux.fromIterable(searchRows))
 								.collectList()
 								.map(entities -> new SearchResult<>(entities, searchRows, metaData, facetResults));
 					});
 		}
 
 		/**
-		 * Hydrates a SearchRow into an entity via KV GET, skipping documents that have been
-		 * deleted between the FTS index update and the KV fetch (stale index entries).
+		 * Hydrates search rows into entities, keeping the score order. The hits are fetched by one pipelined bulk get per
+		 * {@link #HYDRATION_BATCH_SIZE} rows, skipping documents that have been deleted between the FTS index update and
+		 * the KV fetch (stale index entries). With {@code withStoredFields} the entities are built from the rows instead.
 		 * <p>
-		 * Misses are logged at WARN so operators can detect index staleness; persistent or high-volume
-		 * misses typically indicate an out-of-sync FTS index.
+		 * Misses are logged at WARN so operators can detect index staleness; persistent or high-volume misses typically
+		 * indicate an out-of-sync FTS index.
 		 */
-		private Mono<T> hydrateRow(SearchRow row) {
-			// findById already maps DocumentNotFoundException to an empty Mono, so misses surface as emptiness
-			return template.findById(returnType)
-					.inScope(scope)
-					.inCollection(collection)
-					.one(row.id())
-					.switchIfEmpty(Mono.defer(() -> {
-						LOG.warn("Skipping stale FTS result for document id '{}': document not found in KV "
-								+ "(index '{}' may be out of sync)", row.id(), indexName);
-						return Mono.empty();
-					}));
+		private Flux<T> hydrate(Flux<SearchRow> rows) {
+			if (storedFieldsOnly) {
+				Assert.isTrue(storedFieldsCoverReturnType(), () -> "Stored fields " + Arrays.toString(fields)
+						+ " do not hold every property of " + returnType.getName()
+						+ "; only flat types without version or expiry can be read from stored fields");
+				return rows.concatMap(this::decodeStoredFields);
+			}
+			return rows.map(SearchRow::id).buffer(HYDRATION_BATCH_SIZE).concatMap(this::fetchAll);
+		}
+
+		private Flux<T> fetchAll(List<String> ids) {
+			AtomicInteger found = new AtomicInteger();
+			// findById skips documents that do not exist, so misses surface as fewer entities than ids
+			return Flux.<T> from(template.findById(returnType).inScope(scope).inCollection(collection).all(ids,
+					TemplateUtils.DEFAULT_BULK_CONCURRENCY, true)).doOnNext(entity -> found.incrementAndGet())
+					.doOnComplete(() -> {
+						int missing = ids.size() - found.get();
+						if (missing > 0) {
+							LOG.warn("Skipping {} stale FTS results: documents not found in KV (index '{}' may be out of sync)",
+									missing, indexName);
+						}
+					});
 		}
+
+		private Mono<T> decodeStoredFields(SearchRow row) {
+			JsonObject stored = row.fieldsAs(JsonObject.class);
+			return support.decodeEntity(row.id(), stored != null ? stored.toString() : "{}", null, null, returnType, scope,
+					collection, null, null);
+		}
+
+		/**
+		 * Whether the stored fields requested with {@code withStoredFields} hold every property of the return type, so the
+		 * entities can be read from the search rows. Only flat entities without a version qualify, as the index returns
+		 * neither nested structures nor the cas.
+		 */
+		private boolean storedFieldsCoverReturnType() {
+			if (fields == null || fields.length == 0 || ClassUtils.isPrimitiveOrWrapper(returnType)
+					|| returnType == String.class) {
+				return false;
+			}
+			CouchbasePersistentEntity<?> entity;
+			try {
+				entity = template.getConverter().getMappingContext().getPersistentEntity(returnType);
+			} catch (RuntimeException e) {
+				return false;
+			}
+			if (entity == null || entity.getVersionProperty() != null || entity.getExpiryProperty() != null) {
+				return false;
+			}
+			Set<String> stored = new HashSet<>(Arrays.asList(fields));
+			boolean[] covered = { true };
+			entity.doWithProperties((PropertyHandler<CouchbasePersistentProperty>) prop -> {
+				if (prop.isIdProperty()) {
+					return;
+				}
+				if (prop.isEntity() || prop.isCollectionLike() || prop.isMap() || prop.isAnnotationPresent(N1qlJoin.class)
+						|| !stored.contains(prop.getFieldName())) {
+					covered[0] = false;
+				}
+			});
+			return covered[0];
+		}
+
 		private Mono<ReactiveSearchResult> executeSearch() {
 			return executeSearch(false);
 		}
@@ -382,7 +458,7 @@ public class ReactiveFindBySearchOperationSupport implements ReactiveFindBySearc
 			if (options != null) {
 				if (hasFluentOptions()) {
 					throw new IllegalArgumentException("withOptions() cannot be combined with withConsistency(), withSort(), "
-							+ "withHighlight(), withFacets(), withFields(), withLimit() or withSkip(); "
+							+ "withHighlight(), withFacets(), withFields(), withStoredFields(), withLimit() or withSkip(); "
 							+ "set those directly on the SearchOptions instead");
 				}
 				if (collection != null) {
@@ -24,6 +24,7 @@ import java.util.Collection;
 import org.springframework.data.couchbase.core.support.InCollection;
 import org.springframework.data.couchbase.core.support.InScope;
 import org.springframework.data.couchbase.core.support.OneAndAllEntityReactive;
+import org.springframework.data.couchbase.core.support.TemplateUtils;
 import org.springframework.data.couchbase.core.support.WithDurability;
 import org.springframework.data.couchbase.core.support.WithExpiry;
 import org.springframework.data.couchbase.core.support.WithInsertOptions;
@@ -69,6 +70,34 @@ public interface ReactiveInsertByIdOperation {
 		@Override
 		Flux<? extends T> all(Collection<? extends T> objects);
 
+		/**
+		 * Insert a collection of entities with up to {@link TemplateUtils#DEFAULT_BULK_CONCURRENCY} writes in flight.
+		 *
+		 * @return the result of each entity, in completion order.
+		 * @since 6.2
+		 * @see #bulk(Collection, int)
+		 */
+		default Flux<BulkWriteResult<T>> bulk(Collection<? extends T> objects) {
+			return bulk(objects, TemplateUtils.DEFAULT_BULK_CONCURRENCY);
+		}
+
+		/**
+		 * Insert a collection of entities with up to {@code concurrency} writes in flight. The scope, collection and
+		 * options are resolved once for all entities. A failed entity does not end the operation, it is reported in its
+		 * result and the remaining entities are still inserted.
+		 * <p>
+		 * The default writes each entity with {@link #one(Object)}.
+		 *
+		 * @param objects the entities to insert.
+		 * @param concurrency the maximum number of writes in flight.
+		 * @return the result of each entity, in completion order.
+		 * @since 6.2
+		 */
+		default Flux<BulkWriteResult<T>> bulk(Collection<? extends T> objects, int concurrency) {
+			return Flux.<T> fromIterable(objects).flatMap(object -> one(object).map(BulkWriteResult::success)
+					.onErrorResume(throwable -> Mono.just(BulkWriteResult.failure(object, throwable))), concurrency);
+		}
+
 	}
 
 	/**
@@ -36,6 +36,7 @@ import com.couchbase.client.core.cnc.RequestSpan;
 import com.couchbase.client.core.msg.kv.DurabilityLevel;
 import com.couchbase.client.core.transaction.CoreTransactionAttemptContext;
 import com.couchbase.client.core.transaction.support.SpanWrapper;
+import com.couchbase.client.java.ReactiveCollection;
 import com.couchbase.client.java.kv.InsertOptions;
 import com.couchbase.client.java.kv.PersistTo;
 import com.couchbase.client.java.kv.ReplicateTo;
@@ -104,9 +105,9 @@ public class ReactiveInsertByIdOperationSupport implements ReactiveInsertByIdOpe
 					.flatMap(collection -> support.encodeEntity(object)
 							.flatMap(converted -> TransactionalSupport.checkForTransactionInThreadLocalStorage().flatMap(ctxOpt -> {
 								if (!ctxOpt.isPresent()) {
+									InsertOptions insertOptions = buildOptions(pArgs.getOptions(), converted);
 									return collection.reactive()
-											.insert(converted.getId().toString(), converted.export(),
-													buildOptions(pArgs.getOptions(), converted))
+											.insert(converted.getId().toString(), encodeContent(converted, pArgs, insertOptions), insertOptions)
 											.flatMap(result -> this.support.applyResult(object, converted, converted.getId(), result.cas(),
 													null, null));
 								} else {
@@ -154,10 +155,33 @@ public class ReactiveInsertByIdOperationSupport implements ReactiveInsertByIdOpe
 			return Flux.fromIterable(objects).flatMap(this::one);
 		}
 
+		@Override
+		public Flux<BulkWriteResult<T>> bulk(Collection<? extends T> objects, int concurrency) {
+			Assert.notNull(objects, "Objects must not be null");
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+			// resolve scope, collection and options once for the whole batch instead of once per entity
+			PseudoArgs<InsertOptions> pArgs = new PseudoArgs<>(template, scope, collection, options, domainType);
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("insertById bulk objects={} concurrency={} {}", objects.size(), concurrency, pArgs);
+			}
+			ReactiveCollection rc = template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+					.getCollection(pArgs.getCollection()).reactive();
+
+			return BulkWrites.write("insertById bulk", objects, concurrency, template, support, (object, converted) -> {
+				InsertOptions insertOptions = buildOptions(pArgs.getOptions(), converted);
+				return rc.insert(converted.getId().toString(), encodeContent(converted, pArgs, insertOptions), insertOptions);
+			});
+		}
+
 		public InsertOptions buildOptions(InsertOptions options, CouchbaseDocument doc) { // CouchbaseDocument converted
 			return OptionsBuilder.buildInsertOptions(options, persistTo, replicateTo, durabilityLevel, expiry, doc);
 		}
 
+		private Object encodeContent(CouchbaseDocument converted, PseudoArgs<InsertOptions> pArgs, InsertOptions options) {
+			return EncodedContent.encode(support.getTranslationService(), converted, pArgs.getOptions() != null,
+					options.build().transcoder(), options::transcoder);
+		}
+
 		@Override
 		public TerminatingInsertById<T> withOptions(final InsertOptions options) {
 			return new ReactiveInsertByIdSupport<>(template, domainType, scope, collection,
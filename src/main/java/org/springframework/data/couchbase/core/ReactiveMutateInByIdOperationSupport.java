@@ -106,29 +106,41 @@ public class ReactiveMutateInByIdOperationSupport implements ReactiveMutateInByI
 
 		@Override
 		public Mono<T> one(T object) {
+			PseudoArgs<MutateInOptions> pArgs = pseudoArgs(object);
+			return TransactionalSupport.verifyNotInTransaction("mutateInById").then(support.encodeEntity(object))
+					.flatMap(converted -> mutateIn(object, converted, pArgs)).onErrorMap(this::translate);
+		}
+
+		/**
+		 * Mutate the document of an entity that was already converted, so it is not encoded a second time.
+		 */
+		Mono<T> one(T object, CouchbaseDocument converted) {
+			PseudoArgs<MutateInOptions> pArgs = pseudoArgs(object);
+			return TransactionalSupport.verifyNotInTransaction("mutateInById").then(mutateIn(object, converted, pArgs))
+					.onErrorMap(this::translate);
+		}
+
+		private PseudoArgs<MutateInOptions> pseudoArgs(T object) {
 			PseudoArgs<MutateInOptions> pArgs = new PseudoArgs(template, scope, collection, options, domainType);
 			if (LOG.isDebugEnabled()) {
 				LOG.debug("upsertById object={} {}", object, pArgs);
 			}
-			
-			Mono<T> reactiveEntity = TransactionalSupport.verifyNotInTransaction("mutateInById")
-					.then(support.encodeEntity(object)).flatMap(converted -> {
-						return Mono
-								.just(template.getCouchbaseClientFactory().withScope(pArgs.getScope())
-										.getCollection(pArgs.getCollection()))
-								.flatMap(collection -> collection.reactive()
-										.mutateIn(converted.getId().toString(), getMutations(converted), buildMutateInOptions(pArgs.getOptions(), object, converted))
-										.flatMap(
-												result -> support.applyResult(object, converted, converted.getId(), result.cas(), null, null)));
-					});
-
-			return reactiveEntity.onErrorMap(throwable -> {
-				if (throwable instanceof RuntimeException) {
-					return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
-				} else {
-					return throwable;
-				}
-			});
+			return pArgs;
+		}
+
+		private Mono<T> mutateIn(T object, CouchbaseDocument converted, PseudoArgs<MutateInOptions> pArgs) {
+			return Mono
+					.just(template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getCollection(pArgs.getCollection()))
+					.flatMap(collection -> collection.reactive()
+							.mutateIn(converted.getId().toString(), getMutations(converted),
+									buildMutateInOptions(pArgs.getOptions(), object, converted))
+							.flatMap(result -> support.applyResult(object, converted, converted.getId(), result.cas(), null, null)));
+		}
+
+		private Throwable translate(Throwable throwable) {
+			return throwable instanceof RuntimeException
+					? template.potentiallyConvertRuntimeException((RuntimeException) throwable)
+					: throwable;
 		}
 
 		@Override
@@ -91,7 +91,7 @@ public class ReactiveRemoveByQueryOperationSupport implements ReactiveRemoveByQu
 			return TransactionalSupport.checkForTransactionInThreadLocalStorage().flatMapMany(transactionContext -> {
 
 				if (!transactionContext.isPresent()) {
-					QueryOptions opts = buildQueryOptions(pArgs.getOptions());
+					QueryOptions opts = template.prepareIfHot(statement, buildQueryOptions(pArgs.getOptions()));
 					return (pArgs.getScope() == null ? clientFactory.getCluster().reactive().query(statement, opts)
 							: rs.query(statement, opts)).flatMapMany(ReactiveQueryResult::rowsAsObject)
 									.map(row -> new RemoveResult(row.getString(TemplateUtils.SELECT_ID),
@@ -39,6 +39,7 @@ import com.couchbase.client.core.transaction.CoreTransactionAttemptContext;
 import com.couchbase.client.core.transaction.CoreTransactionGetResult;
 import com.couchbase.client.core.transaction.support.SpanWrapper;
 import com.couchbase.client.core.transaction.util.DebugUtil;
+import com.couchbase.client.java.ReactiveCollection;
 import com.couchbase.client.java.kv.PersistTo;
 import com.couchbase.client.java.kv.ReplaceOptions;
 import com.couchbase.client.java.kv.ReplicateTo;
@@ -98,54 +99,70 @@ public class ReactiveReplaceByIdOperationSupport implements ReactiveReplaceByIdO
 
 		@Override
 		public Mono<T> one(T object) {
+			PseudoArgs<ReplaceOptions> pArgs = pseudoArgs(object);
+			return support.encodeEntity(object).flatMap(converted -> replace(object, converted, pArgs))
+					.onErrorMap(this::translate);
+		}
+
+		/**
+		 * Replace the document of an entity that was already converted, so it is not encoded a second time.
+		 */
+		Mono<T> one(T object, CouchbaseDocument converted) {
+			return replace(object, converted, pseudoArgs(object)).onErrorMap(this::translate);
+		}
+
+		private PseudoArgs<ReplaceOptions> pseudoArgs(T object) {
 			PseudoArgs<ReplaceOptions> pArgs = new PseudoArgs<>(template, scope, collection, options, domainType);
 			if (LOG.isDebugEnabled()) {
 				LOG.debug("replaceById object={} {}", object, pArgs);
 			}
+			return pArgs;
+		}
+
+		private Mono<T> replace(T object, CouchbaseDocument converted, PseudoArgs<ReplaceOptions> pArgs) {
 			return Mono
 					.just(template.getCouchbaseClientFactory().withScope(pArgs.getScope()).getCollection(pArgs.getCollection()))
-					.flatMap(collection -> support.encodeEntity(object)
-							.flatMap(converted -> TransactionalSupport.checkForTransactionInThreadLocalStorage().flatMap(ctxOpt -> {
-								if (!ctxOpt.isPresent()) {
-									return collection.reactive()
-											.replace(converted.getId().toString(), converted.export(),
-													buildReplaceOptions(pArgs.getOptions(), object, converted))
-											.flatMap(result -> support.applyResult(object, converted, converted.getId(), result.cas(), null,
-													null));
-								} else {
-									rejectInvalidTransactionalOptions();
-
-									Long cas = support.getCas(object);
-									if (cas == null || cas == 0) {
-										throw new IllegalArgumentException(
-												"cas must be supplied in object for tx replace. object=" + object);
-									}
-
-									CollectionIdentifier collId = makeCollectionIdentifier(collection.async());
-									CoreTransactionAttemptContext ctx = ctxOpt.get().getCore();
-									ctx.logger().info(ctx.attemptId(), "refetching %s for Spring replace",
-											DebugUtil.docId(collId, converted.getId().toString()));
-									Mono<CoreTransactionGetResult> gr = ctx.getReactive(collId, converted.getId().toString());
-
-									return gr.flatMap(getResult -> {
-										if (getResult.cas() != cas) {
-											return Mono.error(TransactionalSupport.retryTransactionOnCasMismatch(ctx, getResult.cas(), cas));
-										}
-										CoreTransactionAttemptContext internal = ctxOpt.get().getCore();
-										RequestSpan span = CbTracing.newSpan(internal.core().context(), TRANSACTION_OP_REPLACE,
-												internal.span());
-										return ctx.replace(getResult, template.getCouchbaseClientFactory().getCluster().environment()
-												.transcoder().encode(converted.export()).encoded(), new SpanWrapper(span));
-									}).flatMap(
-											result -> support.applyResult(object, converted, converted.getId(), result.cas(), null, null));
-								}
-							})).onErrorMap(throwable -> {
-								if (throwable instanceof RuntimeException) {
-									return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
-								} else {
-									return throwable;
+					.flatMap(collection -> TransactionalSupport.checkForTransactionInThreadLocalStorage().flatMap(ctxOpt -> {
+						if (!ctxOpt.isPresent()) {
+							ReplaceOptions replaceOptions = buildReplaceOptions(pArgs.getOptions(), object, converted);
+							return collection.reactive()
+									.replace(converted.getId().toString(), encodeContent(converted, pArgs, replaceOptions), replaceOptions)
+									.flatMap(result -> support.applyResult(object, converted, converted.getId(), result.cas(), null,
+											null));
+						} else {
+							rejectInvalidTransactionalOptions();
+
+							Long cas = support.getCas(object);
+							if (cas == null || cas == 0) {
+								throw new IllegalArgumentException(
+										"cas must be supplied in object for tx replace. object=" + object);
+							}
+
+							CollectionIdentifier collId = makeCollectionIdentifier(collection.async());
+							CoreTransactionAttemptContext ctx = ctxOpt.get().getCore();
+							ctx.logger().info(ctx.attemptId(), "refetching %s for Spring replace",
+									DebugUtil.docId(collId, converted.getId().toString()));
+							Mono<CoreTransactionGetResult> gr = ctx.getReactive(collId, converted.getId().toString());
+
+							return gr.flatMap(getResult -> {
+								if (getResult.cas() != cas) {
+									return Mono.error(TransactionalSupport.retryTransactionOnCasMismatch(ctx, getResult.cas(), cas));
 								}
-							}));
+								CoreTransactionAttemptContext internal = ctxOpt.get().getCore();
+								RequestSpan span = CbTracing.newSpan(internal.core().context(), TRANSACTION_OP_REPLACE,
+										internal.span());
+								return ctx.replace(getResult, template.getCouchbaseClientFactory().getCluster().environment()
+										.transcoder().encode(converted.export()).encoded(), new SpanWrapper(span));
+							}).flatMap(
+									result -> support.applyResult(object, converted, converted.getId(), result.cas(), null, null));
+						}
+					}));
+		}
+
+		private Throwable translate(Throwable throwable) {
+			return throwable instanceof RuntimeException
+					? template.potentiallyConvertRuntimeException((RuntimeException) throwable)
+					: throwable;
 		}
 
 		private void rejectInvalidTransactionalOptions() {
@@ -170,11 +187,34 @@ public class ReactiveReplaceByIdOperationSupport implements ReactiveReplaceByIdO
 			return Flux.fromIterable(objects).flatMap(this::one);
 		}
 
+		@Override
+		public Flux<BulkWriteResult<T>> bulk(Collection<? extends T> objects, int concurrency) {
+			Assert.notNull(objects, "Objects must not be null");
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+			// resolve scope, collection and options once for the whole batch instead of once per entity
+			PseudoArgs<ReplaceOptions> pArgs = new PseudoArgs<>(template, scope, collection, options, domainType);
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("replaceById bulk objects={} concurrency={} {}", objects.size(), concurrency, pArgs);
+			}
+			ReactiveCollection rc = template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+					.getCollection(pArgs.getCollection()).reactive();
+
+			return BulkWrites.write("replaceById bulk", objects, concurrency, template, support, (object, converted) -> {
+				ReplaceOptions replaceOptions = buildReplaceOptions(pArgs.getOptions(), object, converted);
+				return rc.replace(converted.getId().toString(), encodeContent(converted, pArgs, replaceOptions), replaceOptions);
+			});
+		}
+
 		private ReplaceOptions buildReplaceOptions(ReplaceOptions options, T object, CouchbaseDocument doc) {
 			return OptionsBuilder.buildReplaceOptions(options, persistTo, replicateTo, durabilityLevel, expiry,
 					support.getCas(object), doc);
 		}
 
+		private Object encodeContent(CouchbaseDocument converted, PseudoArgs<ReplaceOptions> pArgs, ReplaceOptions options) {
+			return EncodedContent.encode(support.getTranslationService(), converted, pArgs.getOptions() != null,
+					options.build().transcoder(), options::transcoder);
+		}
+
 		@Override
 		public TerminatingReplaceById<T> withOptions(final ReplaceOptions options) {
 			return new ReactiveReplaceByIdSupport<>(template, domainType, scope, collection,
@@ -29,6 +29,7 @@ import org.springframework.data.couchbase.core.support.PseudoArgs;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import com.couchbase.client.java.ReactiveCollection;
 import com.couchbase.client.java.kv.PersistTo;
 import com.couchbase.client.java.kv.ReplicateTo;
 import com.couchbase.client.java.kv.UpsertOptions;
@@ -96,10 +97,13 @@ public class ReactiveUpsertByIdOperationSupport implements ReactiveUpsertByIdOpe
 						return Mono
 								.just(template.getCouchbaseClientFactory().withScope(pArgs.getScope())
 										.getCollection(pArgs.getCollection()))
-								.flatMap(collection -> collection.reactive()
-										.upsert(converted.getId().toString(), converted.export(), buildUpsertOptions(pArgs.getOptions(), converted))
-										.flatMap(
-												result -> support.applyResult(object, converted, converted.getId(), result.cas(), null, null)));
+								.flatMap(collection -> {
+									UpsertOptions upsertOptions = buildUpsertOptions(pArgs.getOptions(), converted);
+									return collection.reactive()
+											.upsert(converted.getId().toString(), encodeContent(converted, pArgs, upsertOptions), upsertOptions)
+											.flatMap(
+													result -> support.applyResult(object, converted, converted.getId(), result.cas(), null, null));
+								});
 					});
 
 			return reactiveEntity.onErrorMap(throwable -> {
@@ -116,10 +120,33 @@ public class ReactiveUpsertByIdOperationSupport implements ReactiveUpsertByIdOpe
 			return Flux.fromIterable(objects).flatMap(this::one);
 		}
 
+		@Override
+		public Flux<BulkWriteResult<T>> bulk(Collection<? extends T> objects, int concurrency) {
+			Assert.notNull(objects, "Objects must not be null");
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+			// resolve scope, collection and options once for the whole batch instead of once per entity
+			PseudoArgs<UpsertOptions> pArgs = new PseudoArgs<>(template, scope, collection, options, domainType);
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("upsertById bulk objects={} concurrency={} {}", objects.size(), concurrency, pArgs);
+			}
+			ReactiveCollection rc = template.getCouchbaseClientFactory().withScope(pArgs.getScope())
+					.getCollection(pArgs.getCollection()).reactive();
+
+			return BulkWrites.write("upsertById bulk", objects, concurrency, template, support, (object, converted) -> {
+				UpsertOptions upsertOptions = buildUpsertOptions(pArgs.getOptions(), converted);
+				return rc.upsert(converted.getId().toString(), encodeContent(converted, pArgs, upsertOptions), upsertOptions);
+			});
+		}
+
 		private UpsertOptions buildUpsertOptions(UpsertOptions options, CouchbaseDocument doc) {
 			return OptionsBuilder.buildUpsertOptions(options, persistTo, replicateTo, durabilityLevel, expiry, doc);
 		}
 
+		private Object encodeContent(CouchbaseDocument converted, PseudoArgs<UpsertOptions> pArgs, UpsertOptions options) {
+			return EncodedContent.encode(support.getTranslationService(), converted, pArgs.getOptions() != null,
+					options.build().transcoder(), options::transcoder);
+		}
+
 		@Override
 		public TerminatingUpsertById<T> withOptions(final UpsertOptions options) {
 			return new ReactiveUpsertByIdSupport(template, domainType, scope, collection,
@@ -40,6 +40,41 @@ public interface TemplateSupport {
 				collection, txResultHolder, holder);
 	}
 
+	/**
+	 * Decode an entity, optionally leaving its eager {@link org.springframework.data.couchbase.core.query.N1qlJoin}
+	 * properties to be resolved for a batch of entities. The default resolves them, whatever {@code resolveJoins} is.
+	 *
+	 * @since 6.2
+	 * @see #defersJoins()
+	 */
+	default <T> T decodeEntity(Object id, String source, Long cas, Instant expiryTime, Class<T> entityClass,
+			String scope, String collection, Object txResultHolder, CouchbaseResourceHolder holder, boolean resolveJoins) {
+		return decodeEntity(id, source, cas, expiryTime, entityClass, scope, collection, txResultHolder, holder);
+	}
+
+	/**
+	 * Decode an entity from UTF-8 encoded JSON, optionally leaving its eager
+	 * {@link org.springframework.data.couchbase.core.query.N1qlJoin} properties to be resolved for a batch of entities.
+	 *
+	 * @since 6.2
+	 */
+	default <T> T decodeEntity(Object id, byte[] source, Long cas, Instant expiryTime, Class<T> entityClass,
+			String scope, String collection, Object txResultHolder, CouchbaseResourceHolder holder, boolean resolveJoins) {
+		return decodeEntity(id, ByteUtils.getString(source), cas, expiryTime, entityClass, scope, collection,
+				txResultHolder, holder, resolveJoins);
+	}
+
+	/**
+	 * Whether {@code decodeEntity} leaves eager {@link org.springframework.data.couchbase.core.query.N1qlJoin} properties
+	 * unresolved when {@code resolveJoins} is false. Joins are only resolved in batches for supports that do.
+	 *
+	 * @return false, as the default {@code decodeEntity} resolves joins of each entity.
+	 * @since 6.2
+	 */
+	default boolean defersJoins() {
+		return false;
+	}
+
 	<T> T applyResult(T entity, CouchbaseDocument converted, Object id, long cas, Object txResultHolder,
 			CouchbaseResourceHolder holder);
 
@@ -0,0 +1,418 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.convert;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.CollectionFactory;
+import org.springframework.data.core.TypeInformation;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.mapping.CouchbaseList;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.couchbase.core.mapping.id.IdPrefix;
+import org.springframework.data.couchbase.core.mapping.id.IdSuffix;
+import org.springframework.data.couchbase.core.query.N1qlJoin;
+import org.springframework.data.mapping.InstanceCreatorMetadata;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.Parameter;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.SimpleAssociationHandler;
+import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
+import org.springframework.data.mapping.model.PropertyValueProvider;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Reads entities straight from a JSON token stream into the entity instantiator and property accessors, without first
+ * building the {@link CouchbaseDocument} tree that {@link MappingCouchbaseConverter#read(Class, CouchbaseDocument)}
+ * walks.
+ * <p>
+ * Only entities made of plain properties are read this way: entities with a custom read converter, property value
+ * converters (such as {@code @Encrypted}), SpEL expressions, associations or properties of non-static inner classes are
+ * left to the converter. Collections, maps and nested values that cannot be read directly are decoded into
+ * {@link CouchbaseDocument}/{@link CouchbaseList} and handed to the converter, so custom conversions keep their
+ * semantics. If a type key selects a different type than the one being read, the whole document is left to the
+ * converter.
+ *
+ * @since 6.2
+ */
+class JsonEntityReader {
+
+	private static final JsonFactory FACTORY = new JsonFactory();
+
+	/**
+	 * Passed as parent to nested reads, so the converter tells them from the root. It is not an enclosing instance:
+	 * entities with properties of non-static inner classes are read through the {@link CouchbaseDocument} tree.
+	 */
+	private static final Object NESTED = new Object();
+
+	private final MappingCouchbaseConverter converter;
+	private final Map<Class<?>, Optional<ReadPlan>> plans = new ConcurrentHashMap<>();
+
+	JsonEntityReader(MappingCouchbaseConverter converter) {
+		this.converter = converter;
+	}
+
+	/**
+	 * Read a JSON document into an entity.
+	 *
+	 * @param entity the entity to read.
+	 * @param source the UTF-8 encoded JSON document.
+	 * @param id the document id.
+	 * @param cas the cas of the document, used as version.
+	 * @return the entity, or {@literal null} if the document has to be read through the {@link CouchbaseDocument} tree.
+	 */
+	<R> R read(CouchbasePersistentEntity<R> entity, byte[] source, Object id, Long cas) {
+		if (plan(entity) == null) {
+			return null;
+		}
+		try (JsonParser parser = FACTORY.createParser(source)) {
+			return readRoot(parser, entity, id, cas);
+		} catch (IOException ex) {
+			throw new RuntimeException("Could not decode JSON", ex);
+		}
+	}
+
+	/**
+	 * Read a JSON document into an entity.
+	 *
+	 * @param entity the entity to read.
+	 * @param source the JSON document.
+	 * @param id the document id.
+	 * @param cas the cas of the document, used as version.
+	 * @return the entity, or {@literal null} if the document has to be read through the {@link CouchbaseDocument} tree.
+	 */
+	<R> R read(CouchbasePersistentEntity<R> entity, String source, Object id, Long cas) {
+		if (plan(entity) == null) {
+			return null;
+		}
+		try (JsonParser parser = FACTORY.createParser(source)) {
+			return readRoot(parser, entity, id, cas);
+		} catch (IOException ex) {
+			throw new RuntimeException("Could not decode JSON", ex);
+		}
+	}
+
+	private <R> R readRoot(JsonParser parser, CouchbasePersistentEntity<R> entity, Object id, Long cas)
+			throws IOException {
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+			return null;
+		}
+		try {
+			return readEntity(parser, entity, plan(entity), id, cas, null);
+		} catch (TypeMismatch mismatch) {
+			return null;
+		}
+	}
+
+	private <R> R readEntity(JsonParser parser, CouchbasePersistentEntity<R> entity, ReadPlan plan, Object id, Long cas,
+			Object parent) throws IOException {
+
+		Object[] values = new Object[plan.slots.length];
+		boolean[] present = new boolean[plan.slots.length];
+
+		for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+			String fieldName = parser.currentName();
+			JsonToken valueToken = parser.nextToken();
+			if (fieldName.equals(converter.getTypeKey())) {
+				checkType(parser, valueToken, entity);
+				continue;
+			}
+			Slot slot = plan.byFieldName.get(fieldName);
+			if (slot == null) {
+				parser.skipChildren();
+				continue;
+			}
+			values[slot.index] = readValue(parser, valueToken, slot);
+			present[slot.index] = true;
+		}
+
+		CouchbasePersistentProperty versionProperty = entity.getVersionProperty();
+		if (parent == null && versionProperty != null && cas != null && cas != 0) {
+			Slot slot = plan.byProperty.get(versionProperty);
+			values[slot.index] = converter.readValue(cas, versionProperty, NESTED, false);
+			present[slot.index] = true;
+		}
+
+		CouchbasePersistentProperty idProperty = entity.getIdProperty();
+		PropertyValueProvider<CouchbasePersistentProperty> provider = new PropertyValueProvider<>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T getPropertyValue(CouchbasePersistentProperty property) {
+				if (property == idProperty && parent == null) {
+					return converter.readValue(id, property.getTypeInformation(), NESTED);
+				}
+				Slot slot = plan.byProperty.get(property);
+				return slot == null ? null : (T) values[slot.index];
+			}
+		};
+
+		R instance = converter.instantiators.getInstantiatorFor(entity).createInstance(entity,
+				new PersistentEntityParameterValueProvider<>(entity, provider, parent));
+		ConvertingPropertyAccessor<R> accessor = new ConvertingPropertyAccessor<>(entity.getPropertyAccessor(instance),
+				converter.getConversionService());
+
+		for (Slot slot : plan.slots) {
+			if (!slot.settable) {
+				continue;
+			}
+			if (slot.property == idProperty) {
+				accessor.setProperty(slot.property, parent == null ? id : values[slot.index]);
+			} else if (present[slot.index]) {
+				accessor.setProperty(slot.property, values[slot.index]);
+			}
+		}
+
+		return accessor.getBean();
+	}
+
+	private void checkType(JsonParser parser, JsonToken valueToken, CouchbasePersistentEntity<?> entity)
+			throws IOException {
+		if (valueToken != JsonToken.VALUE_STRING) {
+			parser.skipChildren();
+			return;
+		}
+		CouchbaseDocument typeOnly = new CouchbaseDocument().put(converter.getTypeKey(), parser.getText());
+		if (!converter.typeMapper.readType(typeOnly, entity.getTypeInformation()).getType().equals(entity.getType())) {
+			throw TypeMismatch.INSTANCE;
+		}
+	}
+
+	private Object readValue(JsonParser parser, JsonToken token, Slot slot) throws IOException {
+		CouchbasePersistentProperty property = slot.property;
+		switch (token) {
+			case START_OBJECT:
+				ReadPlan nestedPlan = slot.nested == null ? null : plan(slot.nested);
+				if (nestedPlan != null) {
+					return readEntity(parser, slot.nested, nestedPlan, null, null, NESTED);
+				}
+				return converter.readValue(decodeObject(parser, new CouchbaseDocument()), property, NESTED, false);
+			case START_ARRAY:
+				ReadPlan elementPlan = slot.element == null ? null : plan(slot.element);
+				if (elementPlan != null) {
+					return readEntities(parser, slot, elementPlan);
+				}
+				return converter.readValue(decodeArray(parser, new CouchbaseList()), property, NESTED, false);
+			case VALUE_NULL:
+				return null;
+			default:
+				return converter.readValue(decodeScalar(parser, token, property.getType()), property, NESTED, false);
+		}
+	}
+
+	/**
+	 * Reads an array of nested entities into the collection of the property, like the converter reads a
+	 * {@link CouchbaseList} of {@link CouchbaseDocument}s, without building the list first.
+	 */
+	private Object readEntities(JsonParser parser, Slot slot, ReadPlan elementPlan) throws IOException {
+		List<Object> items = new ArrayList<>();
+		for (JsonToken token = parser.nextToken(); token != null
+				&& token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+			if (token == JsonToken.START_OBJECT) {
+				items.add(readEntity(parser, slot.element, elementPlan, null, null, NESTED));
+			} else if (token == JsonToken.VALUE_NULL) {
+				items.add(null);
+			} else {
+				items.add(converter.readValue(decodeAny(parser, token), slot.element.getTypeInformation(), NESTED));
+			}
+		}
+		if (items.isEmpty()) {
+			// the converter decides what an empty collection is read as
+			return converter.readValue(new CouchbaseList(), slot.property, NESTED, false);
+		}
+		Collection<Object> collection = CollectionFactory.createCollection(slot.property.getType(), items.size());
+		collection.addAll(items);
+		return collection;
+	}
+
+	/**
+	 * @return the entity of a property holding a single nested entity, {@literal null} otherwise.
+	 */
+	private CouchbasePersistentEntity<?> nestedEntity(CouchbasePersistentProperty property) {
+		if (!property.isEntity() || property.isCollectionLike() || property.isMap()
+				|| !property.getType().equals(property.getActualType())) {
+			return null;
+		}
+		return converter.getMappingContext().getPersistentEntity(property.getTypeInformation());
+	}
+
+	/**
+	 * @return the entity of the elements of a collection property, {@literal null} if the collection is not read
+	 *         element by element.
+	 */
+	private CouchbasePersistentEntity<?> elementEntity(CouchbasePersistentProperty property) {
+		if (!property.isCollectionLike() || property.isArray() || !Collection.class.isAssignableFrom(property.getType())
+				|| property.getComponentType() == null || !property.isEntity()
+				|| converter.conversions.hasCustomReadTarget(CouchbaseList.class, property.getType())) {
+			return null;
+		}
+		TypeInformation<?> component = property.getTypeInformation().getComponentType();
+		if (component == null || !component.getType().equals(property.getActualType())
+				|| Map.class.isAssignableFrom(component.getType())) {
+			return null;
+		}
+		return converter.getMappingContext().getPersistentEntity(component);
+	}
+
+	/**
+	 * Drop the read plans, which depend on the custom conversions of the converter.
+	 */
+	void clearPlans() {
+		plans.clear();
+	}
+
+	private ReadPlan plan(CouchbasePersistentEntity<?> entity) {
+		return plans.computeIfAbsent(entity.getType(), type -> Optional.ofNullable(createPlan(entity))).orElse(null);
+	}
+
+	/**
+	 * Builds the read plan of an entity, or returns {@literal null} if the entity has to be read through the
+	 * {@link CouchbaseDocument} tree.
+	 */
+	private ReadPlan createPlan(CouchbasePersistentEntity<?> entity) {
+		if (Map.class.isAssignableFrom(entity.getType())
+				|| converter.conversions.hasCustomReadTarget(CouchbaseDocument.class, entity.getType())) {
+			return null;
+		}
+		boolean[] hasAssociations = new boolean[1];
+		entity.doWithAssociations((SimpleAssociationHandler) association -> hasAssociations[0] = true);
+		if (hasAssociations[0]) {
+			return null;
+		}
+		InstanceCreatorMetadata<CouchbasePersistentProperty> creator = entity.getInstanceCreatorMetadata();
+		if (creator != null) {
+			for (Parameter<Object, CouchbasePersistentProperty> parameter : creator.getParameters()) {
+				if (parameter.hasValueExpression()) {
+					return null;
+				}
+			}
+		}
+
+		List<CouchbasePersistentProperty> properties = new ArrayList<>();
+		entity.doWithProperties((PropertyHandler<CouchbasePersistentProperty>) properties::add);
+		Slot[] slots = new Slot[properties.size()];
+		Map<String, Slot> byFieldName = new HashMap<>();
+		Map<CouchbasePersistentProperty, Slot> byProperty = new IdentityHashMap<>();
+		for (int i = 0; i < slots.length; i++) {
+			CouchbasePersistentProperty property = properties.get(i);
+			if (converter.conversions.hasValueConverter(property) || property.getSpelExpression() != null
+					|| ClassUtils.isInnerClass(property.getActualType())) {
+				return null;
+			}
+			boolean settable = !entity.isCreatorArgument(property) && !property.isAnnotationPresent(IdPrefix.class)
+					&& !property.isAnnotationPresent(IdSuffix.class) && !property.isAnnotationPresent(N1qlJoin.class);
+			slots[i] = new Slot(i, property, settable, nestedEntity(property), elementEntity(property));
+			byFieldName.putIfAbsent(property.getFieldName(), slots[i]);
+			byProperty.put(property, slots[i]);
+		}
+		return new ReadPlan(slots, byFieldName, byProperty);
+	}
+
+	/**
+	 * Decodes a scalar like {@code JacksonTranslationService} does, except that floating point numbers read into
+	 * {@code double}/{@code float} properties are not materialized as {@link BigDecimal} first.
+	 */
+	private static Object decodeScalar(JsonParser parser, JsonToken token, Class<?> targetType) throws IOException {
+		switch (token) {
+			case VALUE_TRUE:
+			case VALUE_FALSE:
+				return parser.getBooleanValue();
+			case VALUE_STRING:
+				return parser.getText();
+			case VALUE_NUMBER_INT:
+				return parser.getNumberValue();
+			case VALUE_NUMBER_FLOAT:
+				if (targetType == double.class || targetType == Double.class || targetType == float.class
+						|| targetType == Float.class) {
+					return parser.getDoubleValue();
+				}
+				return parser.getDecimalValue();
+			default:
+				throw new MappingException("Could not decode primitive value " + token);
+		}
+	}
+
+	private static CouchbaseDocument decodeObject(JsonParser parser, CouchbaseDocument target) throws IOException {
+		for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+			String fieldName = parser.currentName();
+			target.put(fieldName, decodeAny(parser, parser.nextToken()));
+		}
+		return target;
+	}
+
+	private static CouchbaseList decodeArray(JsonParser parser, CouchbaseList target) throws IOException {
+		for (JsonToken token = parser.nextToken(); token != null
+				&& token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+			target.put(decodeAny(parser, token));
+		}
+		return target;
+	}
+
+	private static Object decodeAny(JsonParser parser, JsonToken token) throws IOException {
+		switch (token) {
+			case START_OBJECT:
+				return decodeObject(parser, new CouchbaseDocument());
+			case START_ARRAY:
+				return decodeArray(parser, new CouchbaseList());
+			case VALUE_NULL:
+				return null;
+			default:
+				return decodeScalar(parser, token, Object.class);
+		}
+	}
+
+	/**
+	 * The properties of an entity in a flat array, with lookups by stored field name and by property.
+	 */
+	private record ReadPlan(Slot[] slots, Map<String, Slot> byFieldName,
+			Map<CouchbasePersistentProperty, Slot> byProperty) {}
+
+	/**
+	 * A property, its position in the value array, whether it is set through the accessor after instantiation and the
+	 * entity of its nested object or of the elements of its collection, resolved once with the plan.
+	 */
+	private record Slot(int index, CouchbasePersistentProperty property, boolean settable,
+			@Nullable CouchbasePersistentEntity<?> nested, @Nullable CouchbasePersistentEntity<?> element) {}
+
+	/**
+	 * Signals that a type key selects a different type than the one being read.
+	 */
+	private static final class TypeMismatch extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		static final TypeMismatch INSTANCE = new TypeMismatch();
+
+		private TypeMismatch() {
+			super(null, null, false, false);
+		}
+	}
+}
@@ -18,7 +18,6 @@ package org.springframework.data.couchbase.core.convert;
 
 import static org.springframework.data.couchbase.core.mapping.id.GenerationStrategy.*;
 
-import java.beans.Transient;
 import java.lang.reflect.InaccessibleObjectException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -29,6 +28,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.Nullable;
 
@@ -53,10 +53,6 @@ import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
 import org.springframework.data.couchbase.core.mapping.event.AfterConvertCallback;
 import org.springframework.data.couchbase.core.mapping.id.GeneratedValue;
-import org.springframework.data.couchbase.core.mapping.id.IdAttribute;
-import org.springframework.data.couchbase.core.mapping.id.IdPrefix;
-import org.springframework.data.couchbase.core.mapping.id.IdSuffix;
-import org.springframework.data.couchbase.core.query.N1qlJoin;
 import org.springframework.data.mapping.Alias;
 import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.AssociationHandler;
@@ -65,7 +61,6 @@ import org.springframework.data.mapping.Parameter;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
-import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.CachingValueExpressionEvaluatorFactory;
@@ -138,6 +133,18 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 
 	private @Nullable Environment environment;
 
+	/**
+	 * Reads entities straight from JSON when {@link #directJsonRead} is enabled.
+	 */
+	private final JsonEntityReader jsonReader = new JsonEntityReader(this);
+
+	private boolean directJsonRead;
+
+	/**
+	 * Read and write plans, resolved once per entity.
+	 */
+	private final Map<CouchbasePersistentEntity<?>, EntityMappingPlan> mappingPlans = new ConcurrentHashMap<>();
+
 	public MappingCouchbaseConverter() {
 		this(new CouchbaseMappingContext(), null);
 	}
@@ -214,6 +221,18 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		return left.isAssignableFrom(right) && !left.equals(right);
 	}
 
+	/**
+	 * Set the custom conversions and drop the read and write plans resolved with the previous ones.
+	 *
+	 * @param conversions the conversions.
+	 */
+	@Override
+	public void setCustomConversions(final CustomConversions conversions) {
+		super.setCustomConversions(conversions);
+		mappingPlans.clear();
+		jsonReader.clearPlans();
+	}
+
 	@Override
 	public void setEnvironment(Environment environment) {
 		this.environment = environment;
@@ -244,6 +263,66 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		return typeMapper.getTypeAlias(info);
 	}
 
+	/**
+	 * Enables reading entities directly from the JSON token stream through {@link #readJson(Class, byte[], Object, Long)},
+	 * without building the intermediate {@link CouchbaseDocument} tree. Entities that need the tree (custom read
+	 * converters, encrypted properties, SpEL expressions, associations) are still read through it.
+	 *
+	 * @param directJsonRead true to read entities directly from JSON, default is false.
+	 * @since 6.2
+	 */
+	public void setDirectJsonRead(boolean directJsonRead) {
+		this.directJsonRead = directJsonRead;
+	}
+
+	/**
+	 * @return true if entities are read directly from JSON.
+	 * @since 6.2
+	 */
+	public boolean isDirectJsonRead() {
+		return directJsonRead;
+	}
+
+	/**
+	 * Read a JSON document directly into an entity of the given type, bypassing the {@link CouchbaseDocument} tree.
+	 *
+	 * @param clazz the entity type.
+	 * @param source the UTF-8 encoded JSON document.
+	 * @param id the document id.
+	 * @param cas the cas of the document, used as version.
+	 * @return the entity, or {@literal null} if direct reads are disabled or the document must be read through
+	 *         {@link #read(Class, CouchbaseDocument)}.
+	 * @since 6.2
+	 */
+	@SuppressWarnings("unchecked")
+	public <R> @Nullable R readJson(final Class<R> clazz, final byte[] source, final Object id, final Long cas) {
+		if (!directJsonRead) {
+			return null;
+		}
+		CouchbasePersistentEntity<R> entity = (CouchbasePersistentEntity<R>) mappingContext.getPersistentEntity(clazz);
+		return entity == null ? null : jsonReader.read(entity, source, id, cas);
+	}
+
+	/**
+	 * Read a JSON document directly into an entity of the given type, bypassing the {@link CouchbaseDocument} tree.
+	 *
+	 * @param clazz the entity type.
+	 * @param source the JSON document.
+	 * @param id the document id.
+	 * @param cas the cas of the document, used as version.
+	 * @return the entity, or {@literal null} if direct reads are disabled or the document must be read through
+	 *         {@link #read(Class, CouchbaseDocument)}.
+	 * @since 6.2
+	 */
+	@SuppressWarnings("unchecked")
+	public <R> @Nullable R readJson(final Class<R> clazz, final String source, final Object id, final Long cas) {
+		if (!directJsonRead) {
+			return null;
+		}
+		CouchbasePersistentEntity<R> entity = (CouchbasePersistentEntity<R>) mappingContext.getPersistentEntity(clazz);
+		return entity == null ? null : jsonReader.read(entity, source, id, cas);
+	}
+
 	@Override
 	public <R> R read(final Class<R> clazz, final CouchbaseDocument source) {
 		return read(TypeInformation.of(clazz), source, null);
@@ -311,35 +390,17 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		final R instance = instantiator.createInstance(entity, provider);
 		final ConvertingPropertyAccessor accessor = getPropertyAccessor(instance);
 
-		entity.doWithProperties(new PropertyHandler<>() {
-			@Override
-			public void doWithPersistentProperty(final CouchbasePersistentProperty prop) {
-				if (!doesPropertyExistInSource(prop) || entity.isCreatorArgument(prop) || isIdConstructionProperty(prop)
-						|| prop.isAnnotationPresent(N1qlJoin.class)) {
-					return;
-				}
-
-				Object obj = prop == entity.getIdProperty() && parent == null ? source.getId()
-						: getValueInternal(prop, source, instance, entity);
-
-				accessor.setProperty(prop, obj);
+		for (EntityMappingPlan.PropertyPlan plan : getMappingPlan(entity).readProperties()) {
+			// the property could be stored under getFieldName() or mangled(getFieldName())
+			if (!plan.id() && !source.containsKey(plan.fieldName()) && !source.containsKey(plan.storedName())) {
+				continue;
 			}
 
-			/**
-			 * doesPropertyExistInSource. It could have getFieldName() or mangled(getFieldName())
-			 *
-			 * @param property
-			 * @return
-			 */
-			private boolean doesPropertyExistInSource(final CouchbasePersistentProperty property) {
-				return property.isIdProperty() || source.containsKey(property.getFieldName())
-						|| source.containsKey(maybeMangle(property));
-			}
+			CouchbasePersistentProperty prop = plan.property();
+			Object obj = plan.id() && parent == null ? source.getId() : getValueInternal(prop, source, instance, entity);
 
-			private boolean isIdConstructionProperty(final CouchbasePersistentProperty property) {
-				return property.isAnnotationPresent(IdPrefix.class) || property.isAnnotationPresent(IdSuffix.class);
-			}
-		});
+			accessor.setProperty(prop, obj);
+		}
 
 		entity.doWithAssociations((AssociationHandler<CouchbasePersistentProperty>) association -> {
 			CouchbasePersistentProperty inverseProp = association.getInverse();
@@ -581,7 +642,7 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		target.setExpiration((int) (entity.getExpiryDuration().getSeconds()));
 
 		// write all the entity.properties to the target. Does not write the id or version.
-		writeToTargetDocument(target, entity, accessor, idProperty, versionProperty, prefixes, suffixes, idAttributes);
+		writeToTargetDocument(target, entity, accessor, idProperty, prefixes, suffixes, idAttributes);
 
 		if (idProperty != null && target.getId() == null) {
 			String id = accessor.getProperty(idProperty, String.class);
@@ -618,51 +679,43 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 
 	private void writeToTargetDocument(final CouchbaseDocument target, final CouchbasePersistentEntity<?> entity,
 			final ConvertingPropertyAccessor<Object> accessor, final CouchbasePersistentProperty idProperty,
-			final CouchbasePersistentProperty versionProperty, final TreeMap<Integer, String> prefixes,
-			final TreeMap<Integer, String> suffixes, final TreeMap<Integer, String> idAttributes) {
-		entity.doWithProperties(new PropertyHandler<CouchbasePersistentProperty>() {
-			@Override
-			public void doWithPersistentProperty(final CouchbasePersistentProperty prop) {
-				if (prop.equals(idProperty) || (versionProperty != null && prop.equals(versionProperty))) {
-					return;
-				} else if (prop.isAnnotationPresent(N1qlJoin.class)) {
-					return;
-				}
+			final TreeMap<Integer, String> prefixes, final TreeMap<Integer, String> suffixes,
+			final TreeMap<Integer, String> idAttributes) {
+		for (EntityMappingPlan.PropertyPlan plan : getMappingPlan(entity).writeProperties()) {
+			CouchbasePersistentProperty prop = plan.property();
+			if (plan.id() && prop.equals(idProperty)) {
+				continue;
+			}
 
-				Object propertyObj = accessor.getProperty(prop, prop.getType());
-				if (null != propertyObj) {
-					if (prop.isAnnotationPresent(IdPrefix.class)) {
-						IdPrefix prefix = prop.findAnnotation(IdPrefix.class);
-						int order = prefix.order();
-						prefixes.put(order, convertToString(propertyObj));
-						return;
-					}
-
-					if (prop.isAnnotationPresent(IdSuffix.class)) {
-						IdSuffix suffix = prop.findAnnotation(IdSuffix.class);
-						int order = suffix.order();
-						suffixes.put(order, convertToString(propertyObj));
-						return;
-					}
-
-					if (prop.isAnnotationPresent(IdAttribute.class)) {
-						IdAttribute idAttribute = prop.findAnnotation(IdAttribute.class);
-						int order = idAttribute.order();
-						idAttributes.put(order, convertToString(propertyObj));
-					}
-
-					if (prop.isAnnotationPresent(Transient.class)) {
-						return;
-					}
-
-					if (!conversions.isSimpleType(propertyObj.getClass())) {
-						writePropertyInternal(propertyObj, target, prop, accessor);
-					} else {
-						writeSimpleInternal(prop, accessor, target, prop.getFieldName());
-					}
-				}
+			Object propertyObj = accessor.getProperty(prop, prop.getType());
+			if (null == propertyObj) {
+				continue;
 			}
-		});
+
+			if (plan.prefixOrder() != EntityMappingPlan.NO_ORDER) {
+				prefixes.put(plan.prefixOrder(), convertToString(propertyObj));
+				continue;
+			}
+
+			if (plan.suffixOrder() != EntityMappingPlan.NO_ORDER) {
+				suffixes.put(plan.suffixOrder(), convertToString(propertyObj));
+				continue;
+			}
+
+			if (plan.attributeOrder() != EntityMappingPlan.NO_ORDER) {
+				idAttributes.put(plan.attributeOrder(), convertToString(propertyObj));
+			}
+
+			if (plan.isTransient()) {
+				continue;
+			}
+
+			if (!conversions.isSimpleType(propertyObj.getClass())) {
+				writePropertyInternal(propertyObj, target, prop, accessor);
+			} else {
+				writeSimpleInternal(prop, accessor, target, plan.fieldName());
+			}
+		}
 	}
 
 	/**
@@ -974,7 +1027,7 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 	 * @return the converted object.
 	 */
 	@SuppressWarnings("unchecked")
-	private <R> R readValue(Object value, TypeInformation type, Object parent) {
+	<R> R readValue(Object value, TypeInformation type, Object parent) {
 		Class<?> rawType = type.getType();
 
 		if (conversions.hasCustomReadTarget(value.getClass(), rawType)) {
@@ -1022,6 +1075,16 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 
 	}
 
+	/**
+	 * Returns the read and write plan of the entity, resolving it on first use.
+	 *
+	 * @param entity the persistent entity.
+	 * @return the mapping plan.
+	 */
+	EntityMappingPlan getMappingPlan(final CouchbasePersistentEntity<?> entity) {
+		return mappingPlans.computeIfAbsent(entity, it -> EntityMappingPlan.of(it, this));
+	}
+
 	private ConvertingPropertyAccessor<Object> getPropertyAccessor(Object source) {
 
 		CouchbasePersistentEntity<?> entity = null;
@@ -22,7 +22,18 @@ import static org.springframework.data.couchbase.core.support.TemplateUtils.*;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,16 +48,23 @@ import org.springframework.data.couchbase.core.query.N1QLExpression;
 import org.springframework.data.couchbase.core.query.N1QLQuery;
 import org.springframework.data.couchbase.core.query.N1qlJoin;
 import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.couchbase.core.query.PreparedStatementRegistry;
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.repository.Collection;
 import org.springframework.data.couchbase.repository.Scope;
 import org.springframework.data.couchbase.repository.query.StringBasedN1qlQueryParser;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 import com.couchbase.client.core.io.CollectionIdentifier;
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.ReactiveQueryResult;
 
 /**
  * N1qlJoinResolver resolves by converting the join definition to query statement and executing using CouchbaseTemplate
@@ -57,10 +75,40 @@ import com.couchbase.client.java.query.QueryOptions;
 public class N1qlJoinResolver {
 	private static final Logger LOGGER = LoggerFactory.getLogger(N1qlJoinResolver.class);
 
+	/**
+	 * Alias of the parent document id in the rows of a batched join.
+	 */
+	public static final String SELECT_LKS_ID = "__lks_id";
+
+	/**
+	 * Name of the query parameter holding the parent document ids of a batched join.
+	 */
+	static final String LKS_IDS_PARAMETER = "lksIds";
+
+	/**
+	 * Number of parent entities whose eager joins are resolved by a single query.
+	 */
+	public static final int JOIN_BATCH_SIZE = 128;
+
 	public static <L, R> String buildQuery(ReactiveCouchbaseTemplate template, String scope, String collection,
 			N1qlJoinResolverParameters parameters) {
+		return buildQuery(template, scope, collection, parameters, false);
+	}
+
+	/**
+	 * Build the join statement for a batch of parent documents. The ids are bound to the {@code $lksIds} parameter and
+	 * each row carries the id of its parent as {@link #SELECT_LKS_ID}.
+	 */
+	static String buildBatchQuery(ReactiveCouchbaseTemplate template, String scope, String collection,
+			N1qlJoinResolverParameters parameters) {
+		return buildQuery(template, scope, collection, parameters, true);
+	}
+
+	private static String buildQuery(ReactiveCouchbaseTemplate template, String scope, String collection,
+			N1qlJoinResolverParameters parameters, boolean batch) {
 		String joinType = "JOIN";
-		String selectEntity = "SELECT META(rks).id AS " + SELECT_ID + ", META(rks).cas AS " + SELECT_CAS + ", (rks).* ";
+		String selectEntity = "SELECT META(rks).id AS " + SELECT_ID + ", META(rks).cas AS " + SELECT_CAS
+				+ (batch ? ", META(lks).id AS " + SELECT_LKS_ID : "") + ", (rks).* ";
 
 		StringBuilder useLKSBuilder = new StringBuilder();
 		if (parameters.getJoinDefinition().index().length() > 0) {
@@ -108,7 +156,8 @@ public class N1qlJoinResolver {
 
 		String on = "ON " + parameters.getJoinDefinition().on().concat(" AND " + onLks).concat(" AND " + onRks);
 
-		String where = "WHERE META(lks).id=\"" + parameters.getLksId() + "\"";
+		String where = batch ? "WHERE META(lks).id IN $" + LKS_IDS_PARAMETER
+				: "WHERE META(lks).id=\"" + parameters.getLksId() + "\"";
 		where += ((parameters.getJoinDefinition().where().length() > 0) ? " AND " + parameters.getJoinDefinition().where()
 				: "");
 
@@ -224,6 +273,19 @@ public class N1qlJoinResolver {
 	public static void handleProperties(CouchbasePersistentEntity<?> persistentEntity,
 			ConvertingPropertyAccessor<?> accessor, ReactiveCouchbaseTemplate template, String id, String scope,
 			String collection) {
+		handleProperties(persistentEntity, accessor, template, id, scope, collection, true);
+	}
+
+	/**
+	 * Set the {@link N1qlJoin} properties of an entity.
+	 *
+	 * @param resolveEager false to leave eagerly fetched joins unset, to be resolved for a batch of entities by
+	 *          {@link #resolveJoins(ReactiveCouchbaseTemplate, Flux, String, String)}.
+	 * @since 6.2
+	 */
+	public static void handleProperties(CouchbasePersistentEntity<?> persistentEntity,
+			ConvertingPropertyAccessor<?> accessor, ReactiveCouchbaseTemplate template, String id, String scope,
+			String collection, boolean resolveEager) {
 		persistentEntity.doWithProperties((PropertyHandler<CouchbasePersistentProperty>) prop -> {
 			if (prop.isAnnotationPresent(N1qlJoin.class)) {
 				N1qlJoin definition = prop.findAnnotation(N1qlJoin.class);
@@ -235,7 +297,7 @@ public class N1qlJoinResolver {
 					N1qlJoinResolver.N1qlJoinProxy proxy = new N1qlJoinResolver.N1qlJoinProxy(template, parameters);
 					accessor.setProperty(prop,
 							java.lang.reflect.Proxy.newProxyInstance(List.class.getClassLoader(), new Class[] { List.class }, proxy));
-				} else {
+				} else if (resolveEager) {
 					// clazz needs to be passes instead of just using
 					// parameters.associatedType.getTypeInformation().getActualType().getType
 					// to keep the compiler happy for the call template.findByQuery(associatedEntityClass)
@@ -245,6 +307,130 @@ public class N1qlJoinResolver {
 		});
 	}
 
+	/**
+	 * Whether entities of the given type have {@link N1qlJoin} properties that are fetched immediately.
+	 *
+	 * @param mappingContext the mapping context.
+	 * @param type the entity type, may be a projection or simple type.
+	 * @return true if the type is an entity with eager joins.
+	 * @since 6.2
+	 */
+	public static boolean hasEagerJoins(
+			MappingContext<? extends CouchbasePersistentEntity<?>, CouchbasePersistentProperty> mappingContext,
+			Class<?> type) {
+		if (type == null || ClassUtils.isPrimitiveOrWrapper(type) || type == String.class) {
+			return false;
+		}
+		CouchbasePersistentEntity<?> entity;
+		try {
+			entity = mappingContext.getPersistentEntity(type);
+		} catch (RuntimeException e) {
+			return false;
+		}
+		return entity != null && !eagerJoins(entity).isEmpty();
+	}
+
+	private static List<CouchbasePersistentProperty> eagerJoins(CouchbasePersistentEntity<?> entity) {
+		List<CouchbasePersistentProperty> joins = new ArrayList<>();
+		entity.doWithProperties((PropertyHandler<CouchbasePersistentProperty>) prop -> {
+			N1qlJoin definition = prop.findAnnotation(N1qlJoin.class);
+			if (definition != null && !isLazyJoin(definition)) {
+				joins.add(prop);
+			}
+		});
+		return joins;
+	}
+
+	/**
+	 * Resolve the eager {@link N1qlJoin} properties of entities decoded without them. The entities are processed in
+	 * batches of {@link #JOIN_BATCH_SIZE}, each join property is fetched with one query per batch and entity type and
+	 * the children are distributed to their parents. Nothing blocks, the order of the entities is kept.
+	 *
+	 * @param template the template.
+	 * @param entities the document ids and the entities decoded from them.
+	 * @param scope the scope the parents were read from.
+	 * @param collection the collection the parents were read from.
+	 * @return the entities with their joins set.
+	 * @since 6.2
+	 */
+	public static <T> Flux<T> resolveJoins(ReactiveCouchbaseTemplate template, Flux<Tuple2<String, T>> entities,
+			String scope, String collection) {
+		return entities.buffer(JOIN_BATCH_SIZE).concatMap(batch -> resolveBatch(template, batch, scope, collection));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Flux<T> resolveBatch(ReactiveCouchbaseTemplate template, List<Tuple2<String, T>> batch,
+			String scope, String collection) {
+		List<String> ids = new ArrayList<>(batch.size());
+		List<Object> beans = new ArrayList<>(batch.size());
+		Map<CouchbasePersistentEntity<?>, List<Integer>> byEntity = new LinkedHashMap<>();
+		for (Tuple2<String, T> entry : batch) {
+			CouchbasePersistentEntity<?> entity = template.getConverter().getMappingContext()
+					.getPersistentEntity(entry.getT2().getClass());
+			if (entity != null) {
+				byEntity.computeIfAbsent(entity, k -> new ArrayList<>()).add(beans.size());
+			}
+			ids.add(entry.getT1());
+			beans.add(entry.getT2());
+		}
+
+		return Flux.fromIterable(byEntity.entrySet())
+				.concatMap(group -> Flux.fromIterable(eagerJoins(group.getKey())).concatMap(prop -> {
+					Set<String> lksIds = new LinkedHashSet<>();
+					for (Integer index : group.getValue()) {
+						lksIds.add(ids.get(index));
+					}
+					return fetchBatch(template, group.getKey(), prop, lksIds, scope, collection).doOnNext(children -> {
+						for (Integer index : group.getValue()) {
+							PersistentPropertyAccessor<?> accessor = group.getKey().getPropertyAccessor(beans.get(index));
+							accessor.setProperty(prop, children.get(ids.get(index)));
+							beans.set(index, accessor.getBean());
+						}
+					});
+				})).thenMany(Flux.defer(() -> Flux.fromIterable((List<T>) beans)));
+	}
+
+	private static Mono<Map<String, List<Object>>> fetchBatch(ReactiveCouchbaseTemplate template,
+			CouchbasePersistentEntity<?> entity, CouchbasePersistentProperty prop, Set<String> lksIds, String scope,
+			String collection) {
+		TypeInformation<?> type = prop.getTypeInformation().getActualType();
+		N1qlJoinResolverParameters parameters = new N1qlJoinResolverParameters(prop.findAnnotation(N1qlJoin.class), null,
+				entity.getTypeInformation(), type, scope, collection);
+		String statement = buildBatchQuery(template, scope, collection, parameters);
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Join query executed for {} parents {}", lksIds.size(), statement);
+		}
+
+		QueryOptions options = QueryOptions.queryOptions()
+				.parameters(JsonObject.create().put(LKS_IDS_PARAMETER, JsonArray.from(new ArrayList<>(lksIds))));
+		if (template.getConsistency() != null) {
+			options.scanConsistency(template.getConsistency());
+		}
+		PreparedStatementRegistry registry = template.getPreparedStatementRegistry();
+		if (registry != null) {
+			options = registry.apply(statement, options);
+		}
+
+		return template.getCouchbaseClientFactory().getCluster().reactive().query(statement, options)
+				.onErrorMap(RuntimeException.class, e -> {
+					RuntimeException translated = template.getCouchbaseClientFactory().getExceptionTranslator()
+							.translateExceptionIfPossible(e);
+					return translated != null ? translated : e;
+				})
+				.flatMapMany(ReactiveQueryResult::rowsAsObject).concatMap(row -> {
+					String lksId = row.getString(SELECT_LKS_ID);
+					String id = row.getString(SELECT_ID);
+					Long cas = row.getLong(SELECT_CAS);
+					row.removeKey(SELECT_LKS_ID);
+					row.removeKey(SELECT_ID);
+					row.removeKey(SELECT_CAS);
+					return template.support()
+							.decodeEntity(id, row.toString(), cas, null, type.getType(), null, null, null, null)
+							.map(child -> Tuples.of(lksId, child));
+				}).collect(HashMap::new, (children, child) -> children
+						.computeIfAbsent(child.getT1(), k -> new ArrayList<>()).add(child.getT2()));
+	}
+
 	static public class N1qlJoinProxy implements InvocationHandler {
 		private final ReactiveCouchbaseTemplate reactiveTemplate;
 		private final String collectionName = null;
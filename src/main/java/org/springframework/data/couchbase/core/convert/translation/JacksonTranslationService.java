@@ -21,6 +21,8 @@ import java.io.StringWriter;
 import java.io.Writer;
 import java.util.Map;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
 import org.springframework.data.couchbase.core.mapping.CouchbaseList;
@@ -28,10 +30,13 @@ import org.springframework.data.couchbase.core.mapping.CouchbaseStorable;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 
+import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -62,6 +67,11 @@ public class JacksonTranslationService implements TranslationService, Initializi
 	 */
 	private JsonFactory factory = new JsonFactory();
 
+	/**
+	 * Whether {@link #encodeToBytes(CouchbaseStorable)} streams documents into bytes.
+	 */
+	private boolean streamingWrite;
+
 	/**
 	 * Encode a {@link CouchbaseStorable} to a JSON string.
 	 *
@@ -116,6 +126,86 @@ public class JacksonTranslationService implements TranslationService, Initializi
 		generator.writeEndObject();
 	}
 
+	/**
+	 * Encode a {@link CouchbaseStorable} into UTF-8 JSON bytes if streaming writes are enabled.
+	 * <p>
+	 * The document tree is walked in place rather than {@link CouchbaseDocument#export() exported} first, and the
+	 * generator writes into a byte buffer taken from the factory's recycler pool.
+	 *
+	 * @param source the source document to encode.
+	 * @return the encoded JSON bytes or {@literal null} if streaming writes are disabled.
+	 * @since 6.2
+	 */
+	@Override
+	public byte @Nullable [] encodeToBytes(CouchbaseStorable source) {
+		if (!streamingWrite) {
+			return null;
+		}
+
+		BufferRecycler recycler = factory._getBufferRecycler();
+		ByteArrayBuilder buffer = new ByteArrayBuilder(recycler);
+		try {
+			try (JsonGenerator generator = factory.createGenerator(buffer, JsonEncoding.UTF8)) {
+				streamValue(source, generator);
+			}
+			return buffer.toByteArray();
+		} catch (IOException ex) {
+			throw new RuntimeException("Could not encode JSON", ex);
+		} finally {
+			// close() does not hand the builder's block back, only release() does
+			buffer.release();
+			recycler.releaseToPool();
+		}
+	}
+
+	/**
+	 * Recursively writes a value of the document tree to the JSON generator without copying the tree.
+	 *
+	 * @param value the value to write.
+	 * @param generator the JSON generator.
+	 * @throws IOException
+	 */
+	private void streamValue(@Nullable Object value, JsonGenerator generator) throws IOException {
+		if (value == null) {
+			generator.writeNull();
+		} else if (value instanceof String string) {
+			generator.writeString(string);
+		} else if (value instanceof Integer number) {
+			generator.writeNumber(number);
+		} else if (value instanceof Long number) {
+			generator.writeNumber(number);
+		} else if (value instanceof Double number) {
+			generator.writeNumber(number);
+		} else if (value instanceof Boolean bool) {
+			generator.writeBoolean(bool);
+		} else if (value instanceof Number) {
+			generator.writeObject(value);
+		} else if (value instanceof CouchbaseDocument document) {
+			streamValue(document.getContent(), generator);
+		} else if (value instanceof CouchbaseList list) {
+			generator.writeStartArray();
+			for (int i = 0; i < list.size(); i++) {
+				streamValue(list.get(i), generator);
+			}
+			generator.writeEndArray();
+		} else if (value instanceof Map<?, ?> map) {
+			generator.writeStartObject();
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				generator.writeFieldName(String.valueOf(entry.getKey()));
+				streamValue(entry.getValue(), generator);
+			}
+			generator.writeEndObject();
+		} else if (value instanceof Iterable<?> iterable) {
+			generator.writeStartArray();
+			for (Object element : iterable) {
+				streamValue(element, generator);
+			}
+			generator.writeEndArray();
+		} else {
+			objectMapper.writeValue(generator, value);
+		}
+	}
+
 	private boolean isEnumOrClass(Class<?> clazz) {
 		return Enum.class.isAssignableFrom(clazz) || Class.class.isAssignableFrom(clazz);
 	}
@@ -263,6 +353,25 @@ public class JacksonTranslationService implements TranslationService, Initializi
 		this.objectMapper = objectMapper;
 	}
 
+	/**
+	 * Enables streaming of written documents into UTF-8 bytes, which are then stored with a raw JSON transcoder instead
+	 * of having the SDK serialize the {@link CouchbaseDocument#export() exported} content.
+	 *
+	 * @param streamingWrite whether to stream documents into bytes on write.
+	 * @since 6.2
+	 */
+	public void setStreamingWrite(boolean streamingWrite) {
+		this.streamingWrite = streamingWrite;
+	}
+
+	/**
+	 * @return whether written documents are streamed into UTF-8 bytes.
+	 * @since 6.2
+	 */
+	public boolean isStreamingWrite() {
+		return streamingWrite;
+	}
+
 	@Override
 	public void afterPropertiesSet() {
 		if (objectMapper == null) {
@@ -16,6 +16,7 @@
 
 package org.springframework.data.couchbase.core.convert.translation;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.couchbase.core.util.ByteUtils;
 
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
@@ -38,6 +39,19 @@ public interface TranslationService {
 	 */
 	String encode(CouchbaseStorable source);
 
+	/**
+	 * Encodes the source straight into UTF-8 JSON bytes, suitable to be handed to the SDK together with a raw JSON
+	 * transcoder.
+	 * The default implementation returns {@literal null}, which leaves serialization of the exported content to the SDK.
+	 *
+	 * @param source the source contents to encode.
+	 * @return the encoded UTF-8 JSON or {@literal null} if the SDK should serialize the content.
+	 * @since 6.2
+	 */
+	default byte @Nullable [] encodeToBytes(CouchbaseStorable source) {
+		return null;
+	}
+
 	/**
 	 * Decodes the target format into a {@link CouchbaseDocument}
 	 *
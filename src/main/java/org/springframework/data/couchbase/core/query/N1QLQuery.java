@@ -15,6 +15,7 @@
  */
 package org.springframework.data.couchbase.core.query;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
 
 import com.couchbase.client.java.json.JsonObject;
@@ -33,6 +34,17 @@ public class N1QLQuery extends Query {
 		this(expression, QueryOptions.queryOptions());
 	}
 
+	private N1QLQuery(N1QLQuery that) {
+		super(that);
+		this.expression = that.expression;
+		this.options = that.options;
+	}
+
+	@Override
+	public @Nullable Query copy() {
+		return getClass() == N1QLQuery.class ? new N1QLQuery(this) : null;
+	}
+
 	public String getExpression() {
 		return expression.toString();
 	}
@@ -59,4 +71,10 @@ public class N1QLQuery extends Query {
 			String[] fields) {
 		return expression.toString();
 	}
+
+	@Override
+	public String toN1qlPageSelectString(CouchbaseConverter converter, String bucketName, String scopeName,
+			String collectionName, Class<?> domainClass, Class<?> returnClass, String[] distinctFields, String[] fields) {
+		return null; // the total of a given expression is counted by a separate statement
+	}
 }
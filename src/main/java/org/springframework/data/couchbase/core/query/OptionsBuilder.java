@@ -38,6 +38,7 @@ import org.springframework.data.couchbase.repository.Collection;
 import org.springframework.data.couchbase.repository.ScanConsistency;
 import org.springframework.data.couchbase.repository.Scope;
 import org.springframework.data.couchbase.repository.query.CouchbaseQueryMethod;
+import org.springframework.util.ReflectionUtils;
 
 import com.couchbase.client.core.api.query.CoreQueryContext;
 import com.couchbase.client.core.api.query.CoreQueryScanConsistency;
@@ -159,6 +160,24 @@ public class OptionsBuilder {
 		return txOptions;
 	}
 
+	/**
+	 * Copy query options, so that a setting can be changed without affecting the options passed in by the caller. All
+	 * fields are copied, including those of newer SDK versions; values such as parameters are shared with the original.
+	 *
+	 * @param options the options to copy.
+	 * @return a copy of the options.
+	 * @since 6.2
+	 */
+	public static QueryOptions copyQueryOptions(QueryOptions options) {
+		try {
+			QueryOptions copy = ReflectionUtils.accessibleConstructor(options.getClass()).newInstance();
+			ReflectionUtils.shallowCopyFieldState(options, copy);
+			return copy;
+		} catch (ReflectiveOperationException ex) {
+			throw new IllegalArgumentException("Could not copy " + options.getClass().getName(), ex);
+		}
+	}
+
 	public static GetOptions buildGetOptions(GetOptions options) {
 		options = options != null ? options : GetOptions.getOptions();
 		if (LOG.isDebugEnabled()) {
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.query;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.java.query.QueryOptions;
+
+/**
+ * Tracks how often N1QL statements are executed through a template and switches hot statements to prepared execution
+ * ({@code adhoc(false)}), so the query service does not plan them again on every call.
+ * <p>
+ * Statements are counted by their whitespace normalized text. Once a statement reached the threshold it is executed as
+ * prepared, the SDK then prepares it once and reuses the plan. The set of tracked statements is bounded, the least
+ * recently used statement is evicted first. Statements that inline literal values instead of using placeholders
+ * rarely become hot and are evicted eventually.
+ *
+ * @since 6.2
+ */
+public class PreparedStatementRegistry {
+
+	/**
+	 * Executions after which a statement is prepared.
+	 */
+	public static final int DEFAULT_THRESHOLD = 2;
+
+	/**
+	 * Number of distinct statements tracked.
+	 */
+	public static final int DEFAULT_MAX_STATEMENTS = 1024;
+
+	private static final Logger LOG = LoggerFactory.getLogger(PreparedStatementRegistry.class);
+
+	private final int threshold;
+	private final Map<String, int[]> statements;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	public PreparedStatementRegistry() {
+		this(DEFAULT_THRESHOLD, DEFAULT_MAX_STATEMENTS);
+	}
+
+	/**
+	 * @param threshold executions after which a statement is prepared, {@literal 1} prepares every statement.
+	 * @param maxStatements number of distinct statements tracked.
+	 */
+	public PreparedStatementRegistry(int threshold, int maxStatements) {
+		Assert.isTrue(threshold > 0, "threshold must be greater than 0");
+		Assert.isTrue(maxStatements > 0, "maxStatements must be greater than 0");
+		this.threshold = threshold;
+		this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+				if (size() > maxStatements) {
+					evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Record an execution of the statement and return options that execute it as prepared if the statement is hot. The
+	 * options passed in are not changed, a hot statement is executed with a copy of them. Options that already disable
+	 * adhoc execution and options of single query transactions are returned as they are.
+	 *
+	 * @param statement the statement about to be executed.
+	 * @param options the options it is executed with.
+	 * @return the options, or a prepared copy of them.
+	 */
+	public QueryOptions apply(String statement, QueryOptions options) {
+		QueryOptions.Built built = options.build();
+		if (built.adhoc() && !built.asTransaction() && record(statement)) {
+			return OptionsBuilder.copyQueryOptions(options).adhoc(false);
+		}
+		return options;
+	}
+
+	/**
+	 * Record an execution of the statement.
+	 *
+	 * @param statement the statement about to be executed.
+	 * @return true if the statement is to be executed as prepared.
+	 */
+	public boolean record(String statement) {
+		String key = normalize(statement);
+		int count;
+		synchronized (statements) {
+			int[] counter = statements.computeIfAbsent(key, k -> new int[1]);
+			count = counter[0] < threshold ? ++counter[0] : counter[0];
+		}
+		if (count >= threshold) {
+			hits.increment();
+			if (count == threshold && LOG.isDebugEnabled()) {
+				LOG.debug("preparing statement after {} executions: {}", count, key);
+			}
+			return true;
+		}
+		misses.increment();
+		return false;
+	}
+
+	/**
+	 * @return executions that were run as prepared statements.
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return executions that were run adhoc because the statement was not hot (yet).
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return statements evicted to stay within the bound.
+	 */
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * @return the number of statements currently tracked.
+	 */
+	public int size() {
+		synchronized (statements) {
+			return statements.size();
+		}
+	}
+
+	/**
+	 * Forget all tracked statements and reset the counters.
+	 */
+	public void clear() {
+		synchronized (statements) {
+			statements.clear();
+		}
+		hits.reset();
+		misses.reset();
+		evictions.reset();
+	}
+
+	static String normalize(String statement) {
+		StringBuilder sb = new StringBuilder(statement.length());
+		boolean space = false;
+		for (int i = 0; i < statement.length(); i++) {
+			char c = statement.charAt(i);
+			if (Character.isWhitespace(c)) {
+				space = sb.length() > 0;
+			} else {
+				if (space) {
+					sb.append(' ');
+					space = false;
+				}
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+
+}
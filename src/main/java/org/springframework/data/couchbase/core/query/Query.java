@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +34,7 @@ import org.springframework.data.core.TypeInformation;
 import org.springframework.data.couchbase.core.ReactiveCouchbaseTemplate;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+import org.springframework.data.couchbase.core.support.TemplateUtils;
 import org.springframework.data.couchbase.repository.query.CouchbaseQueryMethod;
 import org.springframework.data.couchbase.repository.query.StringBasedN1qlQueryParser;
 import org.springframework.data.couchbase.repository.support.MappingCouchbaseEntityInformation;
@@ -92,6 +94,17 @@ public class Query {
 		this.meta = that.meta;
 	};
 
+	/**
+	 * Copy this query, so that the skip, limit and sort of the copy can be changed without affecting this query.
+	 * Subclasses with state of their own override this method.
+	 *
+	 * @return the copy, or {@literal null} if this query is of a subclass that cannot be copied.
+	 * @since 6.2
+	 */
+	public @Nullable Query copy() {
+		return getClass() == Query.class ? new Query(this) : null;
+	}
+
 	public static Query query(QueryCriteriaDefinition criteriaDefinition) {
 		return new Query(criteriaDefinition);
 	}
@@ -155,6 +168,30 @@ public class Query {
 		return this;
 	}
 
+	/**
+	 * @return the number of documents to skip, {@literal 0} or less to skip none.
+	 * @since 6.2
+	 */
+	public long getSkip() {
+		return skip;
+	}
+
+	/**
+	 * @return the maximum number of documents returned, {@literal 0} or less for no limit.
+	 * @since 6.2
+	 */
+	public int getLimit() {
+		return limit;
+	}
+
+	/**
+	 * @return the sort of the query, never {@literal null}.
+	 * @since 6.2
+	 */
+	public Sort getSort() {
+		return sort;
+	}
+
 	/**
 	 * Is this a DISTINCT query? {@code distinct}.
 	 *
@@ -388,6 +425,30 @@ public class Query {
 	public String toN1qlSelectString(CouchbaseConverter converter, String bucketName, String scopeName,
 			String collectionName, Class domainClass, Class returnClass, boolean isCount, String[] distinctFields,
 			String[] fields) {
+		return toN1qlSelectString(converter, bucketName, scopeName, collectionName, domainClass, returnClass, isCount,
+				distinctFields, fields, false);
+	}
+
+	/**
+	 * The select statement of one page of the query which also returns the number of documents matching the query
+	 * without skip and limit. The total is counted by a {@code COUNT(*) OVER()} window function into the
+	 * {@link TemplateUtils#SELECT_TOTAL} field of every row, so a page is read with a single statement.
+	 *
+	 * @return the statement, or {@literal null} if the total cannot be counted by the same statement.
+	 * @since 6.2
+	 */
+	public String toN1qlPageSelectString(CouchbaseConverter converter, String bucketName, String scopeName,
+			String collectionName, Class<?> domainClass, Class<?> returnClass, String[] distinctFields, String[] fields) {
+		if (distinct || distinctFields != null) {
+			return null; // the window is evaluated before DISTINCT and would count duplicates
+		}
+		return toN1qlSelectString(converter, bucketName, scopeName, collectionName, domainClass, returnClass, false, null,
+				fields, true);
+	}
+
+	private String toN1qlSelectString(CouchbaseConverter converter, String bucketName, String scopeName,
+			String collectionName, Class<?> domainClass, Class<?> returnClass, boolean isCount, String[] distinctFields,
+			String[] fields, boolean withTotal) {
 		if (typedDistinctFields != null && Arrays.equals(distinctFields, this.distinctFields)) {
 			// distinct fields were given as property references; resolve them to the mapped field names
 			distinctFields = mappedDistinctFields(converter);
@@ -395,7 +456,7 @@ public class Query {
 		StringBasedN1qlQueryParser.N1qlSpelValues n1ql = getN1qlSpelValues(converter, bucketName, scopeName, collectionName,
 				domainClass, returnClass, isCount, distinctFields, fields);
 		final StringBuilder statement = new StringBuilder();
-		appendString(statement, n1ql.selectEntity); // select ...
+		appendString(statement, withTotal ? selectWithTotal(n1ql, bucketName, collectionName) : n1ql.selectEntity); // select ...
         if (n1ql.filter != null) {
             appendWhereString(statement, n1ql.filter); // typeKey = typeValue
         }
@@ -407,6 +468,17 @@ public class Query {
 		return statement.toString();
 	}
 
+	/**
+	 * The entity select with the window total added after the entity fields, built the way
+	 * {@link StringBasedN1qlQueryParser#createN1qlSpelValues} builds the entity select.
+	 */
+	private static String selectWithTotal(StringBasedN1qlQueryParser.N1qlSpelValues n1ql, String bucketName,
+			String collectionName) {
+		return N1QLExpression
+				.select(N1QLExpression.x(n1ql.fields), N1QLExpression.x("COUNT(*) OVER() AS " + TemplateUtils.SELECT_TOTAL))
+				.from(collectionName != null ? collectionName : bucketName).toString();
+	}
+
 	public String toN1qlRemoveString(CouchbaseConverter converter, String bucketName, String scopeName,
 			String collectionName, Class domainClass) {
 		StringBasedN1qlQueryParser.N1qlSpelValues n1ql = getN1qlSpelValues(converter, bucketName, scopeName, collectionName,
@@ -23,12 +23,15 @@ import java.util.Formatter;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import org.springframework.data.core.TypedPropertyPath;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
 import com.couchbase.client.core.error.CouchbaseException;
@@ -164,6 +167,40 @@ public class QueryCriteria implements QueryCriteriaDefinition {
 		return criteria;
 	}
 
+	/**
+	 * Static factory method to create a Criteria selecting the documents that follow the given keyset in the order of
+	 * the sort, that is {@code (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ...} with {@code <} for descending orders. The
+	 * sort must be total, otherwise documents with equal keys are skipped.
+	 *
+	 * @param sort the order to seek in.
+	 * @param keyset the sort key values of the document to seek past, by sort property.
+	 * @since 6.2
+	 */
+	public static QueryCriteria keyset(Sort sort, Map<String, ?> keyset) {
+		Assert.isTrue(sort.isSorted(), "sort must not be unsorted");
+		List<Sort.Order> orders = sort.toList();
+		QueryCriteria seek = null;
+		for (int i = 0; i < orders.size(); i++) {
+			QueryCriteria term = null;
+			for (int j = 0; j < i; j++) {
+				String equal = orders.get(j).getProperty();
+				term = (term == null ? where(equal) : term.and(equal)).is(keyValue(keyset, equal));
+			}
+			Sort.Order order = orders.get(i);
+			term = term == null ? where(order.getProperty()) : term.and(order.getProperty());
+			term = order.isAscending() ? term.gt(keyValue(keyset, order.getProperty()))
+					: term.lt(keyValue(keyset, order.getProperty()));
+			seek = seek == null ? term : seek.or(term);
+		}
+		return wrap(seek); // so the alternatives stay together when ANDed with other criteria
+	}
+
+	private static Object keyValue(Map<String, ?> keyset, String property) {
+		Object value = keyset.get(property);
+		Assert.isTrue(value != null, () -> "keyset must contain a non-null value for " + property);
+		return value;
+	}
+
 	public QueryCriteria and(String key) {
 		return and(x(key));
 	}
@@ -17,6 +17,7 @@ package org.springframework.data.couchbase.core.query;
 
 import java.util.Locale;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.core.TypeInformation;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
@@ -64,6 +65,19 @@ public class StringQuery extends Query {
 		this(null,n1qlString, null, null);
 	}
 
+	private StringQuery(StringQuery that) {
+		super(that);
+		this.queryMethod = that.queryMethod;
+		this.inlineN1qlQuery = that.inlineN1qlQuery;
+		this.valueExpressionDelegate = that.valueExpressionDelegate;
+		this.parameterAccessor = that.parameterAccessor;
+	}
+
+	@Override
+	public @Nullable Query copy() {
+		return getClass() == StringQuery.class ? new StringQuery(this) : null;
+	}
+
 	@Override
 	public String toN1qlSelectString(CouchbaseConverter converter, String bucketName, String scope, String collection,
 			Class domainClass, Class resultClass, boolean isCount, String[] distinctFields, String[] fields) {
@@ -71,9 +85,8 @@ public class StringQuery extends Query {
 		StringBasedN1qlQueryParser parser = getStringN1qlQueryParser(converter, bucketName, scope, collection, domainClass,
 				distinctFields, fields);
 
-		N1QLExpression parsedExpression = parser.getExpression(inlineN1qlQuery, queryMethod, parameterAccessor, valueExpressionDelegate);
-
-		String queryString = parsedExpression.toString();
+		// the parser already evaluated the statement with these arguments, do not evaluate it a second time
+		String queryString = parser.parsedExpression.toString();
 
 		JsonValue parameters = parser.getPlaceholderValues(parameterAccessor);
 		if (parameters instanceof JsonArray) {
@@ -151,4 +164,10 @@ public class StringQuery extends Query {
 		return toN1qlSelectString(converter, bucketName, scopeName, collectionName, domainClass, domainClass, false, null,
 				null);
 	}
+
+	@Override
+	public String toN1qlPageSelectString(CouchbaseConverter converter, String bucketName, String scopeName,
+			String collectionName, Class<?> domainClass, Class<?> returnClass, String[] distinctFields, String[] fields) {
+		return null; // the total of a string query is counted by a separate statement
+	}
 }
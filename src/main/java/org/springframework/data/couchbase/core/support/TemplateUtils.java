@@ -35,6 +35,8 @@ public class TemplateUtils {
 	public static final String SELECT_ID_3x = "_ID";
 	public static final String SELECT_CAS_3x = "_CAS";
 	public static final String SELECT_COUNT = CountFragment.COUNT_ALIAS;
+	public static final String SELECT_TOTAL = "__total";
+	public static final int DEFAULT_BULK_CONCURRENCY = 128;
 	private static PersistenceExceptionTranslator exceptionTranslator = new CouchbaseExceptionTranslator();
 
 	public static Throwable translateError(Throwable e) {
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.couchbase.repository;
 
+import reactor.core.publisher.Flux;
+
+import org.reactivestreams.Publisher;
 import org.springframework.data.couchbase.core.ReactiveCouchbaseOperations;
 import org.springframework.data.couchbase.repository.query.CouchbaseEntityInformation;
 import org.springframework.data.repository.NoRepositoryBean;
@@ -34,4 +37,22 @@ public interface ReactiveCouchbaseRepository<T, ID>
 	ReactiveCouchbaseOperations getOperations();
 
 	CouchbaseEntityInformation<T, String> getEntityInformation();
+
+	/**
+	 * Saves all entities of the stream with a bounded number of saves in flight.
+	 * <p>
+	 * At most {@code prefetch} entities are requested from the stream ahead of the saves, so a fast source is slowed
+	 * down to the write rate instead of being buffered.
+	 *
+	 * @param entityStream the entities to save, must not be {@literal null}.
+	 * @param concurrency the maximum number of saves in flight.
+	 * @param prefetch the number of entities requested from the stream at a time.
+	 * @param ordered whether the saved entities are emitted in the order of the stream, otherwise as they complete.
+	 * @return the saved entities.
+	 * @since 6.2
+	 */
+	default <S extends T> Flux<S> saveAll(Publisher<S> entityStream, int concurrency, int prefetch, boolean ordered) {
+		Flux<S> entities = Flux.from(entityStream).limitRate(prefetch);
+		return ordered ? entities.flatMapSequential(this::save, concurrency) : entities.flatMap(this::save, concurrency);
+	}
 }
@@ -23,6 +23,7 @@ import org.springframework.data.couchbase.core.ExecutableRemoveByQueryOperation.
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.repository.query.CouchbaseQueryExecution.DeleteExecution;
 import org.springframework.data.couchbase.repository.query.CouchbaseQueryExecution.PagedExecution;
+import org.springframework.data.couchbase.repository.query.CouchbaseQueryExecution.ScrollExecution;
 import org.springframework.data.couchbase.repository.query.CouchbaseQueryExecution.SlicedExecution;
 import org.springframework.data.repository.core.EntityMetadata;
 import org.springframework.data.repository.query.ParameterAccessor;
@@ -85,12 +86,17 @@ public abstract class AbstractCouchbaseQuery extends AbstractCouchbaseQueryBase<
 		query = applyQueryMetaAttributesIfPresent(query, typeToRead);
 
 		CouchbaseQueryExecution execution = getExecution(accessor,
-				new ResultProcessingConverter<>(processor, getOperations(), getInstantiators()), findOp);
+				new ResultProcessingConverter<>(processor, getOperations(), getInstantiators()), projectedFindOp());
 		// the operation should already have the scope and collection. passing again anyway.
 		return execution.execute(query, processor.getReturnedType().getDomainType(), typeToRead, method.getScope(),
 				method.getCollection());
 	}
 
+	private ExecutableFindByQuery<?> projectedFindOp() {
+		String[] projectedFields = getProjectedFields();
+		return projectedFields == null ? findOp : (ExecutableFindByQuery<?>) findOp.project(projectedFields);
+	}
+
 	/**
 	 * Returns the execution instance to use.
 	 *
@@ -126,6 +132,9 @@ public abstract class AbstractCouchbaseQuery extends AbstractCouchbaseQueryBase<
 			return (q, t, r, s, c) -> findOp.as(r).inScope(s).inCollection(c).matching(q).count();
 		} else if (isExistsQuery()) {
 			return (q, t, r, s, c) -> findOp.as(r).inScope(s).inCollection(c).matching(q).exists();
+		} else if (getQueryMethod().isScrollQuery()) {
+			return new ScrollExecution(findOp, accessor.getScrollPosition(), accessor.getLimit(),
+					getOperations().getConverter().getMappingContext(), getQueryMethod().getEntityInformation().getJavaType());
 		} else if (getQueryMethod().isPageQuery()) {
 			return new PagedExecution(findOp, accessor.getPageable());
 		} else if (getQueryMethod().isSliceQuery()) {
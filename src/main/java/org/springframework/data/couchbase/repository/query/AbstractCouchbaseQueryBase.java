@@ -19,11 +19,18 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.jspecify.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.reactivestreams.Publisher;
 
 import org.springframework.data.core.TypeInformation;
 import org.springframework.data.couchbase.core.CouchbaseOperations;
 import org.springframework.data.couchbase.core.ExecutableFindByQueryOperation.ExecutableFindByQuery;
+import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.couchbase.core.query.N1qlJoin;
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.repository.core.EntityMetadata;
@@ -31,7 +38,9 @@ import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.util.Assert;
 
 /**
@@ -125,6 +134,10 @@ public abstract class AbstractCouchbaseQueryBase<CouchbaseOperationsType> implem
 		if (typeToRead == null && returnType.getComponentType() != null) {
 			typeToRead = returnType.getComponentType().getType();
 		}
+		if (typeToRead == null && getProjectedFields() != null) {
+			// closed interface projections are read as entities populated with the projected fields only
+			typeToRead = processor.getReturnedType().getDomainType();
+		}
 		return doExecute(getQueryMethod(), processor, parameterAccessor, typeToRead);
 	}
 
@@ -140,6 +153,53 @@ public abstract class AbstractCouchbaseQueryBase<CouchbaseOperationsType> implem
 	abstract protected Object doExecute(CouchbaseQueryMethod method, ResultProcessor processor,
 			ParametersParameterAccessor accessor, @Nullable Class<?> typeToRead);
 
+	/**
+	 * Stored names of the fields to select for a closed interface projection returned by the query method.
+	 *
+	 * @return the fields, {@literal null} to select all fields of the entity.
+	 * @since 6.2
+	 */
+	protected String @Nullable [] getProjectedFields() {
+		return null;
+	}
+
+	/**
+	 * Whether a derived query method returns an interface projection of the entities it finds and can select only the
+	 * projected fields. Scroll queries select all fields, the keyset of their next window is read from the sort
+	 * properties of the last entity.
+	 */
+	static boolean selectsProjectedFields(PartTree tree, CouchbaseQueryMethod method) {
+		return method.getResultProcessor().getReturnedType().getReturnedType().isInterface() && !tree.isDistinct()
+				&& !tree.isCountProjection() && !tree.isExistsProjection() && !tree.isDelete() && !method.isScrollQuery();
+	}
+
+	/**
+	 * Resolve the stored names of the fields a projection returned by the query method reads. The id and the version
+	 * are not included, they are always read.
+	 *
+	 * @return the fields, {@literal null} if the method does not return a closed projection of persistent properties.
+	 */
+	static String @Nullable [] resolveProjectedFields(CouchbaseQueryMethod method, CouchbaseConverter converter) {
+		ReturnedType returnedType = method.getResultProcessor().getReturnedType();
+		if (!returnedType.isProjecting() || returnedType.getInputProperties().isEmpty()
+				|| method.getParameters().hasDynamicProjection()) {
+			return null;
+		}
+		CouchbasePersistentEntity<?> entity = converter.getMappingContext()
+				.getRequiredPersistentEntity(returnedType.getDomainType());
+		List<String> fields = new ArrayList<>();
+		for (String name : returnedType.getInputProperties()) {
+			CouchbasePersistentProperty property = entity.getPersistentProperty(name);
+			if (property == null || property.isAnnotationPresent(N1qlJoin.class)) {
+				return null;
+			}
+			if (!property.isIdProperty() && !property.isVersionProperty()) {
+				fields.add(property.getFieldName());
+			}
+		}
+		return fields.isEmpty() ? null : fields.toArray(new String[0]);
+	}
+
 	/**
 	 * Apply Meta annotation to query
 	 *
@@ -83,11 +83,16 @@ public abstract class AbstractReactiveCouchbaseQuery extends AbstractCouchbaseQu
 		query = applyQueryMetaAttributesIfPresent(query, typeToRead);
 
 		ReactiveCouchbaseQueryExecution execution = getExecution(accessor,
-				new ResultProcessingConverter<>(processor, getOperations(), getInstantiators()), findOp);
+				new ResultProcessingConverter<>(processor, getOperations(), getInstantiators()), projectedFindOp());
 		return execution.execute(query, processor.getReturnedType().getDomainType(), typeToRead, method.getScope(),
 				method.getCollection());
 	}
 
+	private ReactiveFindByQuery<?> projectedFindOp() {
+		String[] projectedFields = getProjectedFields();
+		return projectedFields == null ? findOp : (ReactiveFindByQuery<?>) findOp.project(projectedFields);
+	}
+
 	/**
 	 * Returns the execution instance to use.
 	 *
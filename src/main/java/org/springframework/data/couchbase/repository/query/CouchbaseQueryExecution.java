@@ -15,17 +15,33 @@
  */
 package org.springframework.data.couchbase.repository.query;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.couchbase.core.ExecutableFindByQueryOperation.ExecutableFindByQuery;
-import org.springframework.data.couchbase.core.ExecutableFindByQueryOperation.TerminatingFindByQuery;
 import org.springframework.data.couchbase.core.ExecutableRemoveByQueryOperation;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
 import org.springframework.data.couchbase.core.query.Query;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.couchbase.core.query.QueryCriteria;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.PersistentPropertyPathAccessor;
+import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.util.Assert;
 
 /**
@@ -107,15 +123,138 @@ interface CouchbaseQueryExecution {
 		@Override
 		@SuppressWarnings({ "unchecked", "rawtypes" })
 		public Object execute(Query query, Class<?> type, Class<?> returnType, String scope, String collection) {
-			int overallLimit = 0; // query.getLimit();
-			TerminatingFindByQuery<?> matching = operation.as(returnType).inScope(scope).inCollection(collection)
-					.matching(query);
-			// Adjust limit if page would exceed the overall limit
-			if (overallLimit != 0 && pageable.getOffset() + pageable.getPageSize() > overallLimit) {
-				query.limit((int) (overallLimit - pageable.getOffset()));
+			if (pageable.isUnpaged()) {
+				return new SliceImpl(operation.as(returnType).inScope(scope).inCollection(collection).matching(query).all(),
+						pageable, false);
 			}
-			List<?> results = matching.all();
-			return new SliceImpl(results, pageable, results != null && !results.isEmpty());
+			// read one element beyond the slice to know whether there is a next one without counting
+			int pageSize = pageable.getPageSize();
+			query.skip(pageable.getOffset()).limit(pageSize + 1);
+			List<?> results = operation.as(returnType).inScope(scope).inCollection(collection).matching(query).all();
+			boolean hasNext = results.size() > pageSize;
+			return new SliceImpl(hasNext ? results.subList(0, pageSize) : results, pageable, hasNext);
+		}
+	}
+
+	/**
+	 * {@link CouchbaseQueryExecution} for {@link Window} query methods. An {@link OffsetScrollPosition} is read with
+	 * OFFSET and LIMIT. A {@link KeysetScrollPosition} seeks past the last element read with a predicate over the sort
+	 * keys instead, so the index scan of a later window costs the same as the first one. The document id breaks ties
+	 * between equal sort keys.
+	 */
+	final class ScrollExecution implements CouchbaseQueryExecution {
+
+		private static final String META_ID = "META().id";
+
+		private final ExecutableFindByQuery<?> operation;
+		private final ScrollPosition position;
+		private final Limit limit;
+		private final MappingContext<? extends CouchbasePersistentEntity<?>, CouchbasePersistentProperty> mappingContext;
+		private final String idProperty;
+
+		public ScrollExecution(ExecutableFindByQuery<?> operation, @Nullable ScrollPosition position, Limit limit,
+				MappingContext<? extends CouchbasePersistentEntity<?>, CouchbasePersistentProperty> mappingContext,
+				Class<?> domainType) {
+			Assert.notNull(operation, "Operation must not be null!");
+			Assert.notNull(limit, "Limit must not be null!");
+			this.operation = operation;
+			this.position = position != null ? position : ScrollPosition.offset();
+			this.limit = limit;
+			this.mappingContext = mappingContext;
+			this.idProperty = mappingContext.getRequiredPersistentEntity(domainType).getRequiredIdProperty().getName();
+		}
+
+		@Override
+		public Object execute(Query query, Class<?> type, Class<?> returnType, String scope, String collection) {
+			int max = limit.isLimited() ? limit.max() : query.getLimit();
+			// read one element beyond the window to know whether there is a next one
+			query.limit(max > 0 ? max + 1 : 0);
+
+			if (position instanceof OffsetScrollPosition offset) {
+				long start = offset.isInitial() ? 0 : offset.getOffset() + 1;
+				List<Object> results = read(query.skip(start), returnType, scope, collection);
+				boolean hasNext = max > 0 && results.size() > max;
+				return Window.from(hasNext ? results.subList(0, max) : results,
+						OffsetScrollPosition.positionFunction(start), hasNext);
+			}
+
+			KeysetScrollPosition keyset = (KeysetScrollPosition) position;
+			Sort sort = withIdTieBreaker(query.getSort());
+			Sort seekSort = keyset.scrollsBackward() ? reverse(sort) : sort;
+			query.skip(0).withoutSort().with(seekSort);
+			if (!keyset.isInitial()) {
+				query.addCriteria(QueryCriteria.keyset(seekSort, seekValues(seekSort, keyset.getKeys())));
+			}
+			List<Object> results = read(query, returnType, scope, collection);
+			boolean hasNext = max > 0 && results.size() > max;
+			List<Object> content = new ArrayList<>(hasNext ? results.subList(0, max) : results);
+			if (keyset.scrollsBackward()) {
+				Collections.reverse(content);
+			}
+			return Window.from(content, i -> ScrollPosition.of(keysOf(content.get(i), sort), keyset.getDirection()),
+					hasNext);
+		}
+
+		@SuppressWarnings("unchecked")
+		private List<Object> read(Query query, Class<?> returnType, String scope, String collection) {
+			return (List<Object>) operation.as(returnType).inScope(scope).inCollection(collection).matching(query).all();
+		}
+
+		private Sort withIdTieBreaker(Sort sort) {
+			List<Sort.Order> orders = new ArrayList<>();
+			boolean hasId = false;
+			for (Sort.Order order : sort) {
+				boolean isId = order.getProperty().equals(idProperty) || order.getProperty().equals(META_ID);
+				orders.add(isId ? order.withProperty(META_ID) : order);
+				hasId |= isId;
+			}
+			if (!hasId) {
+				orders.add(orders.isEmpty() ? Sort.Order.asc(META_ID)
+						: new Sort.Order(orders.get(orders.size() - 1).getDirection(), META_ID));
+			}
+			return Sort.by(orders);
+		}
+
+		private static Sort reverse(Sort sort) {
+			return Sort.by(sort.stream().map(order -> order.with(order.getDirection().isAscending() ? Direction.DESC
+					: Direction.ASC)).toList());
+		}
+
+		private Map<String, Object> seekValues(Sort sort, Map<String, Object> keys) {
+			Map<String, Object> values = new HashMap<>();
+			for (Sort.Order order : sort) {
+				String key = keyName(order);
+				Assert.isTrue(keys.containsKey(key),
+						() -> String.format("Keyset %s does not contain sort key %s", keys.keySet(), key));
+				Assert.notNull(keys.get(key), () -> String.format(
+						"Keyset value for sort key %s must not be null; use an OffsetScrollPosition to scroll over nullable properties",
+						key));
+				values.put(order.getProperty(), keys.get(key));
+			}
+			return values;
+		}
+
+		private Map<String, Object> keysOf(Object element, Sort sort) {
+			CouchbasePersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(element.getClass());
+			PersistentPropertyPathAccessor<Object> accessor = entity.getPropertyPathAccessor(element);
+			Map<String, Object> keys = new LinkedHashMap<>();
+			for (Sort.Order order : sort) {
+				Object value = META_ID.equals(order.getProperty())
+						? entity.getIdentifierAccessor(element).getRequiredIdentifier()
+						: accessor.getProperty(mappingContext.getPersistentPropertyPath(order.getProperty(), entity.getType()));
+				if (value == null) {
+					// NULL and MISSING sort before every value and match no seek predicate, so a keyset cannot resume there
+					throw new IllegalStateException(String.format(
+							"Cannot create a keyset position for %s: sort property %s is null; use an OffsetScrollPosition to scroll over nullable properties",
+							entity.getIdentifierAccessor(element).getIdentifier(), order.getProperty()));
+				}
+				keys.put(keyName(order), value);
+			}
+			return keys;
+		}
+
+		private String keyName(Sort.Order order) {
+			return META_ID.equals(order.getProperty()) ? idProperty : order.getProperty();
 		}
 	}
 
@@ -140,21 +279,8 @@ interface CouchbaseQueryExecution {
 		 */
 		@Override
 		public Object execute(Query query, Class<?> type, Class<?> returnType, String scope, String collection) {
-			int overallLimit = 0; // query.getLimit();
-			TerminatingFindByQuery<?> matching = operation.as(returnType).inScope(scope).inCollection(collection)
-					.matching(query);
-			// Adjust limit if page would exceed the overall limit
-			if (overallLimit != 0 && pageable.getOffset() + pageable.getPageSize() > overallLimit) {
-				query.limit((int) (overallLimit - pageable.getOffset()));
-			}
-
-			List<?> result = matching.all(); // this needs to be done before count, as count clears the skip and limit
-
-			long count = operation.inScope(scope).inCollection(collection).matching(query.skip(-1).limit(-1).withoutSort())
-					.count();
-			count = overallLimit != 0 ? Math.min(count, overallLimit) : count;
-
-			return new PageImpl(result, pageable, count);
+			// the page and the total are read by one statement where the query allows it
+			return operation.as(returnType).inScope(scope).inCollection(collection).matching(query).page(pageable);
 		}
 	}
 
@@ -59,6 +59,7 @@ public class CouchbaseQueryMethod extends QueryMethod {
 
 	private final Method method;
 	private final RepositoryMetadata repositoryMetadata;
+	private final StringQueryCache stringQueryCache = new StringQueryCache();
 
 	public CouchbaseQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
 			MappingContext<? extends CouchbasePersistentEntity<?>, CouchbasePersistentProperty> mappingContext) {
@@ -180,6 +181,16 @@ public class CouchbaseQueryMethod extends QueryMethod {
 		return getName().toLowerCase(Locale.ROOT).startsWith("count");
 	}
 
+	/**
+	 * The statement, SpEL and placeholder parts of an {@link Query @Query} method that are shared by all invocations.
+	 *
+	 * @return the cache, never {@literal null}.
+	 * @since 6.2
+	 */
+	StringQueryCache getStringQueryCache() {
+		return stringQueryCache;
+	}
+
 	@Override
 	public String toString() {
 		return super.toString();
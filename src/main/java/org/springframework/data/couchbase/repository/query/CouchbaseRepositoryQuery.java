@@ -33,6 +33,7 @@ public class CouchbaseRepositoryQuery implements RepositoryQuery {
 	private final CouchbaseQueryMethod queryMethod;
 	private final NamedQueries namedQueries;
 	private final ValueExpressionDelegate valueExpressionDelegate;
+	private final N1qlRepositoryQueryExecutor executor;
 
 	public CouchbaseRepositoryQuery(final CouchbaseOperations operations, final CouchbaseQueryMethod queryMethod,
 			final NamedQueries namedQueries) {
@@ -40,12 +41,12 @@ public class CouchbaseRepositoryQuery implements RepositoryQuery {
 		this.queryMethod = queryMethod;
 		this.namedQueries = namedQueries;
 		this.valueExpressionDelegate = ValueExpressionDelegate.create();
+		this.executor = new N1qlRepositoryQueryExecutor(operations, queryMethod, namedQueries, valueExpressionDelegate);
 	}
 
 	@Override
 	public Object execute(final Object[] parameters) {
-		return new N1qlRepositoryQueryExecutor(operations, queryMethod, namedQueries, valueExpressionDelegate)
-				.execute(parameters);
+		return executor.execute(parameters);
 	}
 
 	@Override
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository.query;
+
+import java.util.Iterator;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.convert.DtoInstantiatingConverter;
+import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+import org.springframework.data.couchbase.core.query.OptionsBuilder;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+
+import com.couchbase.client.core.io.CollectionIdentifier;
+
+/**
+ * Derived query method that looks up a single document by its id and returns a projection, such as
+ * {@code Optional<AirportView> findById(String id)}. It is executed as a key/value {@code findById} that only fetches
+ * the fields of the projection instead of as a N1QL query, provided no other entity type shares the collection of the
+ * entity.
+ *
+ * @since 6.2
+ */
+final class IdLookupProjection {
+
+	private final String[] fields;
+
+	private IdLookupProjection(String[] fields) {
+		this.fields = fields;
+	}
+
+	/**
+	 * @param singleResult whether the method returns a single (possibly optional) result.
+	 * @return the lookup, {@literal null} if the method cannot be executed as a projected {@code findById}.
+	 */
+	static @Nullable IdLookupProjection of(PartTree tree, CouchbaseQueryMethod method, CouchbaseConverter converter,
+			boolean singleResult) {
+		ReturnedType returnedType = method.getResultProcessor().getReturnedType();
+		if (!singleResult || !returnedType.isProjecting() || tree.isDelete() || tree.isCountProjection()
+				|| tree.isExistsProjection() || tree.isDistinct() || tree.isLimiting() || tree.getSort().isSorted()) {
+			return null;
+		}
+		CouchbasePersistentEntity<?> entity = converter.getMappingContext()
+				.getRequiredPersistentEntity(returnedType.getDomainType());
+		Iterator<Part> parts = tree.getParts().iterator();
+		Part part = parts.hasNext() ? parts.next() : null;
+		if (part == null || parts.hasNext() || part.getType() != Part.Type.SIMPLE_PROPERTY
+				|| part.shouldIgnoreCase() != Part.IgnoreCaseType.NEVER || part.getProperty().hasNext()
+				|| entity.getIdProperty() == null || !part.getProperty().getSegment().equals(entity.getIdProperty().getName())) {
+			return null;
+		}
+		if (!ownsCollection(entity, method, converter)) {
+			return null;
+		}
+		String[] fields = AbstractCouchbaseQueryBase.resolveProjectedFields(method, converter);
+		return fields == null ? null : new IdLookupProjection(fields);
+	}
+
+	/**
+	 * The derived query only returns documents whose type key matches the entity, a key/value lookup has no such
+	 * predicate. It can only replace the query if the entity is the one type stored in its collection: the collection is
+	 * declared on the entity itself and no other known entity declares it.
+	 */
+	private static boolean ownsCollection(CouchbasePersistentEntity<?> entity, CouchbaseQueryMethod method,
+			CouchbaseConverter converter) {
+		String collection = OptionsBuilder.getCollectionFrom(entity.getType());
+		String scope = OptionsBuilder.getScopeFrom(entity.getType());
+		if (collection == null || !collection.equals(method.getCollection())
+				|| !Objects.equals(scope != null ? scope : CollectionIdentifier.DEFAULT_SCOPE, method.getScope())) {
+			return false;
+		}
+		for (CouchbasePersistentEntity<?> other : converter.getMappingContext().getPersistentEntities()) {
+			if (other != entity && collection.equals(OptionsBuilder.getCollectionFrom(other.getType()))
+					&& Objects.equals(scope, OptionsBuilder.getScopeFrom(other.getType()))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	String[] getFields() {
+		return fields;
+	}
+
+	/**
+	 * Convert the partially read entity into the projection returned by the method.
+	 */
+	@Nullable
+	Object toProjection(@Nullable Object entity, ResultProcessor processor, CouchbaseConverter converter,
+			EntityInstantiators instantiators) {
+		if (entity == null) {
+			return null;
+		}
+		Class<?> projectionType = processor.getReturnedType().getReturnedType();
+		if (projectionType.isInterface()) {
+			return processor.processResult(entity);
+		}
+		return processor.processResult(entity,
+				new DtoInstantiatingConverter(projectionType, converter.getMappingContext(), instantiators));
+	}
+
+}
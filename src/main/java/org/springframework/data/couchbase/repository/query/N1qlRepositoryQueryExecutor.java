@@ -40,6 +40,7 @@ public class N1qlRepositoryQueryExecutor {
 	private final CouchbaseQueryMethod queryMethod;
 	private final NamedQueries namedQueries;
 	private final ValueExpressionDelegate valueExpressionDelegate;
+	private volatile PartTree tree;
 
 	public N1qlRepositoryQueryExecutor(final CouchbaseOperations operations, final CouchbaseQueryMethod queryMethod,
 			final NamedQueries namedQueries, final ValueExpressionDelegate valueExpressionDelegate) {
@@ -72,8 +73,7 @@ public class N1qlRepositoryQueryExecutor {
 			query = new StringN1qlQueryCreator(accessor, queryMethod, operations.getConverter(),
 					valueExpressionDelegate, namedQueries).createQuery();
 		} else {
-			final PartTree tree = new PartTree(queryMethod.getName(), domainClass);
-			query = new N1qlQueryCreator(tree, accessor, queryMethod, operations.getConverter(), operations.getBucketName())
+			query = new N1qlQueryCreator(getPartTree(domainClass), accessor, queryMethod, operations.getConverter(), operations.getBucketName())
 					.createQuery();
 		}
 
@@ -92,6 +92,16 @@ public class N1qlRepositoryQueryExecutor {
 
 	}
 
+	private PartTree getPartTree(Class<?> domainClass) {
+		PartTree partTree = tree;
+		if (partTree == null) {
+			// the method name and domain type never change, parse the tree once and reuse it for every execution
+			partTree = new PartTree(queryMethod.getName(), domainClass);
+			tree = partTree;
+		}
+		return partTree;
+	}
+
 	private QueryScanConsistency buildQueryScanConsistency() {
 		QueryScanConsistency scanConsistency = QueryScanConsistency.NOT_BOUNDED;
 		if (queryMethod.hasConsistencyAnnotation()) {
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.couchbase.repository.query;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.couchbase.core.CouchbaseOperations;
 import org.springframework.data.couchbase.core.CouchbaseTemplate;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
@@ -36,6 +37,8 @@ public class PartTreeCouchbaseQuery extends AbstractCouchbaseQuery {
 
 	private final CouchbasePartTree tree;
 	private final CouchbaseConverter converter;
+	private final @Nullable IdLookupProjection idLookup;
+	private final String @Nullable [] projectedFields;
 
 	/**
 	 * Creates a new {@link PartTreeCouchbaseQuery} from the given {@link QueryMethod} and {@link CouchbaseTemplate}.
@@ -51,6 +54,11 @@ public class PartTreeCouchbaseQuery extends AbstractCouchbaseQuery {
 		ResultProcessor processor = method.getResultProcessor();
 		this.tree = new CouchbasePartTree(method.getName(), processor.getReturnedType().getDomainType());
 		this.converter = operations.getConverter();
+		this.idLookup = IdLookupProjection.of(tree, method, converter, !method.isCollectionQuery()
+				&& !method.isStreamQuery() && !method.isPageQuery() && !method.isSliceQuery() && !method.isScrollQuery());
+		this.projectedFields = selectsProjectedFields(tree, method)
+				? AbstractCouchbaseQueryBase.resolveProjectedFields(method, converter)
+				: null;
 	}
 
 	/**
@@ -62,6 +70,23 @@ public class PartTreeCouchbaseQuery extends AbstractCouchbaseQuery {
 		return tree;
 	}
 
+	@Override
+	protected String @Nullable [] getProjectedFields() {
+		return projectedFields;
+	}
+
+	@Override
+	protected Object doExecute(CouchbaseQueryMethod method, ResultProcessor processor,
+			ParametersParameterAccessor accessor, @Nullable Class<?> typeToRead) {
+		if (idLookup == null) {
+			return super.doExecute(method, processor, accessor, typeToRead);
+		}
+		Object entity = getOperations().findById(processor.getReturnedType().getDomainType())
+				.project(idLookup.getFields()).inScope(method.getScope()).inCollection(method.getCollection())
+				.one(String.valueOf(accessor.getBindableValue(0)));
+		return idLookup.toProjection(entity, processor, converter, getInstantiators());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.couchbase.repository.query.AbstractCouchbaseQuery#createQuery(org.springframework.data.couchbase.repository.query.ConvertingParameterAccessor, boolean)
@@ -33,6 +33,7 @@ public class ReactiveCouchbaseRepositoryQuery extends AbstractReactiveCouchbaseQ
 	private final ReactiveCouchbaseQueryMethod queryMethod;
 	private final NamedQueries namedQueries;
 	private final ValueExpressionDelegate valueExpressionDelegate;
+	private final ReactiveN1qlRepositoryQueryExecutor executor;
 
 	public ReactiveCouchbaseRepositoryQuery(final ReactiveCouchbaseOperations operations,
 			final ReactiveCouchbaseQueryMethod queryMethod, final NamedQueries namedQueries) {
@@ -41,12 +42,12 @@ public class ReactiveCouchbaseRepositoryQuery extends AbstractReactiveCouchbaseQ
 		this.queryMethod = queryMethod;
 		this.namedQueries = namedQueries;
 		this.valueExpressionDelegate = ValueExpressionDelegate.create();
+		this.executor = new ReactiveN1qlRepositoryQueryExecutor(operations, queryMethod, namedQueries, valueExpressionDelegate);
 	}
 
 	@Override
 	public Object execute(final Object[] parameters) {
-		return new ReactiveN1qlRepositoryQueryExecutor(operations, queryMethod, namedQueries, valueExpressionDelegate)
-				.execute(parameters);
+		return executor.execute(parameters);
 	}
 
 	@Override
@@ -17,6 +17,7 @@ package org.springframework.data.couchbase.repository.query;
 
 import org.springframework.data.couchbase.core.ReactiveCouchbaseOperations;
 import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
 
 /**
@@ -31,6 +32,7 @@ public class ReactiveN1qlRepositoryQueryExecutor {
 	private final ReactiveCouchbaseQueryMethod queryMethod;
 	private final NamedQueries namedQueries;
 	private final ValueExpressionDelegate valueExpressionDelegate;
+	private volatile RepositoryQuery query;
 
 	public ReactiveN1qlRepositoryQueryExecutor(final ReactiveCouchbaseOperations operations,
 			final ReactiveCouchbaseQueryMethod queryMethod, final NamedQueries namedQueries,
@@ -50,12 +52,18 @@ public class ReactiveN1qlRepositoryQueryExecutor {
 	public Object execute(final Object[] parameters) {
 		// counterpart to N1qlRespositoryQueryExecutor,
 
-		if (queryMethod.hasN1qlAnnotation()) {
-			return new ReactiveStringBasedCouchbaseQuery(queryMethod, operations, valueExpressionDelegate, namedQueries).execute(parameters);
-		} else {
-			return new ReactivePartTreeCouchbaseQuery(queryMethod, operations, valueExpressionDelegate).execute(parameters);
+		RepositoryQuery repositoryQuery = query;
+		if (repositoryQuery == null) {
+			// created once, so the PartTree or the parsed @Query is reused by every execution
+			if (queryMethod.hasN1qlAnnotation()) {
+				repositoryQuery = new ReactiveStringBasedCouchbaseQuery(queryMethod, operations, valueExpressionDelegate,
+						namedQueries);
+			} else {
+				repositoryQuery = new ReactivePartTreeCouchbaseQuery(queryMethod, operations, valueExpressionDelegate);
+			}
+			query = repositoryQuery;
 		}
-
+		return repositoryQuery.execute(parameters);
 	}
 
 }
@@ -15,15 +15,18 @@
  */
 package org.springframework.data.couchbase.repository.query;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.couchbase.core.CouchbaseTemplate;
 import org.springframework.data.couchbase.core.ReactiveCouchbaseOperations;
+import org.springframework.data.couchbase.core.ReactiveFindByIdOperation.FindByIdInScope;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
 import org.springframework.data.repository.query.parser.PartTree;
 
@@ -37,6 +40,8 @@ public class ReactivePartTreeCouchbaseQuery extends AbstractReactiveCouchbaseQue
 
 	private final PartTree tree;
 	private final CouchbaseConverter converter;
+	private final @Nullable IdLookupProjection idLookup;
+	private final String @Nullable [] projectedFields;
 	private static final Logger LOG = LoggerFactory.getLogger(ReactivePartTreeCouchbaseQuery.class);
 
 	/**
@@ -53,6 +58,11 @@ public class ReactivePartTreeCouchbaseQuery extends AbstractReactiveCouchbaseQue
 		super(method, operations, valueExpressionDelegate);
 		this.tree = new PartTree(method.getName(), method.getResultProcessor().getReturnedType().getDomainType());
 		this.converter = operations.getConverter();
+		this.idLookup = IdLookupProjection.of(tree, method, converter,
+				!method.isCollectionQuery() && !method.isPageQuery() && !method.isSliceQuery() && !method.isScrollQuery());
+		this.projectedFields = selectsProjectedFields(tree, method)
+				? AbstractCouchbaseQueryBase.resolveProjectedFields(method, converter)
+				: null;
 	}
 
 	/**
@@ -64,6 +74,25 @@ public class ReactivePartTreeCouchbaseQuery extends AbstractReactiveCouchbaseQue
 		return tree;
 	}
 
+	@Override
+	protected String @Nullable [] getProjectedFields() {
+		return projectedFields;
+	}
+
+	@Override
+	protected Object doExecute(CouchbaseQueryMethod method, ResultProcessor processor,
+			ParametersParameterAccessor accessor, @Nullable Class<?> typeToRead) {
+		if (idLookup == null) {
+			return super.doExecute(method, processor, accessor, typeToRead);
+		}
+		// the fluent api only offers inCollection after project, the operation supports inScope as well
+		FindByIdInScope<?> findOp = (FindByIdInScope<?>) getOperations()
+				.findById(processor.getReturnedType().getDomainType()).project(idLookup.getFields());
+		return findOp.inScope(method.getScope()).inCollection(method.getCollection())
+				.one(String.valueOf(accessor.getBindableValue(0)))
+				.map(entity -> idLookup.toProjection(entity, processor, converter, getInstantiators()));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.couchbease.repository.query.AbstractCouchbaseQuery#createQuery(org.springframework.data.couchbase.repository.query.ConvertingParameterAccessor, boolean)
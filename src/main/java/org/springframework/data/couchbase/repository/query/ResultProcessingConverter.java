@@ -72,6 +72,11 @@ final class ResultProcessingConverter<CouchbaseOperationsType> implements Conver
 			return source;
 		}
 
+		if (returnedType.isProjecting() && returnedType.getReturnedType().isInterface()) {
+			// entities read with the projected fields only, proxied by the projection interface
+			return processor.processResult(source);
+		}
+
 		CouchbaseConverter cvtr = operations instanceof CouchbaseOperations
 				? ((CouchbaseOperations) operations).getConverter()
 				: ((ReactiveCouchbaseOperations) operations).getConverter();
@@ -40,6 +40,8 @@ import org.springframework.data.couchbase.core.mapping.Expiration;
 import org.springframework.data.couchbase.core.query.N1QLExpression;
 import org.springframework.data.couchbase.core.query.StringQuery;
 import org.springframework.data.couchbase.repository.Query;
+import org.springframework.data.couchbase.repository.query.StringQueryCache.Placeholders;
+import org.springframework.data.couchbase.repository.query.StringQueryCache.SpelValuesKey;
 import org.springframework.data.couchbase.repository.query.support.N1qlUtils;
 import org.springframework.data.expression.ValueEvaluationContext;
 import org.springframework.data.expression.ValueExpression;
@@ -165,9 +167,16 @@ public class StringBasedN1qlQueryParser {
 		this.statement = statement;
 		this.queryMethod = queryMethod;
 		this.couchbaseConverter = couchbaseConverter;
-		this.statementContext = queryMethod == null ? null
-				: createN1qlSpelValues(bucketName, scope, collection, queryMethod.getEntityInformation().getJavaType(),
-						typeField, typeValue, queryMethod.isCountQuery(), null, null);
+		if (queryMethod == null) {
+			this.statementContext = null;
+		} else {
+			Class<?> domainClass = queryMethod.getEntityInformation().getJavaType();
+			this.statementContext = queryMethod.getStringQueryCache().getSpelValues(
+					new SpelValuesKey(couchbaseConverter, bucketName, scope, collection, domainClass, typeField, typeValue,
+							queryMethod.isCountQuery()),
+					() -> createN1qlSpelValues(bucketName, scope, collection, domainClass, typeField, typeValue,
+							queryMethod.isCountQuery(), null, null));
+		}
 		this.parsedExpression = getExpression(statement, queryMethod, accessor, valueExpressionDelegate);
 	}
 
@@ -378,8 +387,11 @@ public class StringBasedN1qlQueryParser {
 	// in isolation from the rest of the spel parser initialization chain.
 	public static String doParse(String statement, ValueExpressionParser parser,
 			ValueEvaluationContext valueEvaluationContext, N1qlSpelValues n1qlSpelValues) {
-		ValueExpression parsedExpression = parser.parse(statement);
+		return doParse(parser.parse(statement), valueEvaluationContext, n1qlSpelValues);
+	}
 
+	private static String doParse(ValueExpression parsedExpression, ValueEvaluationContext valueEvaluationContext,
+			N1qlSpelValues n1qlSpelValues) {
 		EvaluationContext evaluationContext = valueEvaluationContext.getRequiredEvaluationContext();
 		if (evaluationContext instanceof StandardEvaluationContext ctx) {
 			ctx.setVariable(SPEL_PREFIX, n1qlSpelValues);
@@ -389,6 +401,14 @@ public class StringBasedN1qlQueryParser {
 	}
 
 	private void checkPlaceholders(String statement) {
+		Placeholders found = queryMethod != null
+				? queryMethod.getStringQueryCache().getPlaceholders(statement, this::findPlaceholders)
+				: findPlaceholders(statement);
+		placeHolderType = found.type();
+		parameterNames.addAll(found.names());
+	}
+
+	private Placeholders findPlaceholders(String statement) {
 
 		Matcher quoteMatcher = QUOTE_DETECTION_PATTERN.matcher(statement);
 		Matcher positionMatcher = POSITIONAL_PLACEHOLDER_PATTERN.matcher(statement);
@@ -403,6 +423,7 @@ public class StringBasedN1qlQueryParser {
 
 		int posCount = 0;
 		int namedCount = 0;
+		Set<String> names = new HashSet<>();
 
 		while (positionMatcher.find()) {
 			String placeholder = positionMatcher.group(1);
@@ -415,7 +436,7 @@ public class StringBasedN1qlQueryParser {
 				}
 				LOGGER.trace("{}: Found positional placeholder {}", queryIdentifier, placeholder);
 				posCount++;
-				parameterNames.add(placeholder.substring(1)); // save without the leading $
+				names.add(placeholder.substring(1)); // save without the leading $
 			}
 		}
 
@@ -429,7 +450,7 @@ public class StringBasedN1qlQueryParser {
 				}
 				LOGGER.trace("{}: Found named placeholder {}", queryIdentifier, placeholder);
 				namedCount++;
-				parameterNames.add(placeholder.substring(1));// save without the leading $
+				names.add(placeholder.substring(1));// save without the leading $
 			}
 		}
 
@@ -438,12 +459,13 @@ public class StringBasedN1qlQueryParser {
 					+ ") placeholders is not supported, please choose one over the other in " + queryIdentifier + "()");
 		}
 
+		PlaceholderType type;
 		if (posCount > 0) {
-			placeHolderType = PlaceholderType.POSITIONAL;
+			type = PlaceholderType.POSITIONAL;
 		} else if (namedCount > 0) {
-			placeHolderType = PlaceholderType.NAMED;
+			type = PlaceholderType.NAMED;
 		} else {
-			placeHolderType = PlaceholderType.NONE;
+			type = PlaceholderType.NONE;
 		}
 
 		if (this.queryMethod == null) {
@@ -461,6 +483,7 @@ public class StringBasedN1qlQueryParser {
 			}
 		}
 
+		return new Placeholders(type, Set.copyOf(names));
 	}
 
 	private boolean checkNotQuoted(String item, int start, int end, List<int[]> quotes, String queryIdentifier) {
@@ -608,7 +631,7 @@ public class StringBasedN1qlQueryParser {
 	/**
 	 * enumeration of all the combinations of placeholder types that could be found in a N1QL statement
 	 */
-	private enum PlaceholderType {
+	enum PlaceholderType {
 		NAMED, POSITIONAL, NONE
 	}
 
@@ -696,10 +719,12 @@ public class StringBasedN1qlQueryParser {
 			ValueExpressionDelegate valueExpressionDelegate) {
 		N1QLExpression parsedStatement;
 		if (accessor != null && queryMethod != null) {
+			StringQueryCache cache = queryMethod.getStringQueryCache();
 			Object[] runtimeParameters = getParameters(accessor);
-			ValueEvaluationContext evaluationContext = valueExpressionDelegate
-					.createValueContextProvider(queryMethod.getParameters()).getEvaluationContext(runtimeParameters);
-			parsedStatement = x(doParse(statement, valueExpressionDelegate, evaluationContext, this.getStatementContext()));
+			ValueEvaluationContext evaluationContext = cache.getContextProvider(valueExpressionDelegate, queryMethod)
+					.getEvaluationContext(runtimeParameters);
+			parsedStatement = x(doParse(cache.getExpression(valueExpressionDelegate, statement), evaluationContext,
+					this.getStatementContext()));
 		} else {
 			parsedStatement = x(statement);
 		}
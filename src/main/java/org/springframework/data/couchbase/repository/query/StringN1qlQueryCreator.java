@@ -44,6 +44,13 @@ import org.springframework.data.repository.query.parser.PartTree;
  */
 public class StringN1qlQueryCreator extends AbstractQueryCreator<Query, QueryCriteria> {
 
+	// AbstractQueryCreator needs a PartTree, so we give it a dummy one. It is immutable and parsed only once.
+	// The resulting dummy criteria will not be included in the Query
+	// by {@link #complete((QueryCriteria criteria, Sort sort)) complete}
+	private static final PartTree DUMMY_TREE = new PartTree("dummy", (new Object() {
+		String dummy;
+	}).getClass());
+
 	// everything we need in the StringQuery such that we can doParse() later when we have the scope and collection
 	private final ParameterAccessor accessor;
 	private final MappingContext<?, CouchbasePersistentProperty> context;
@@ -56,28 +63,26 @@ public class StringN1qlQueryCreator extends AbstractQueryCreator<Query, QueryCri
 			CouchbaseConverter couchbaseConverter,
 			ValueExpressionDelegate valueExpressionDelegate, NamedQueries namedQueries) {
 
-		// AbstractQueryCreator needs a PartTree, so we give it a dummy one.
-		// The resulting dummy criteria will not be included in the Query
-		// by {@link #complete((QueryCriteria criteria, Sort sort)) complete}
-		super(new PartTree("dummy", (new Object() {
-			String dummy;
-		}).getClass()), accessor);
+		super(DUMMY_TREE, accessor);
 		this.accessor = accessor;
 		this.context = couchbaseConverter.getMappingContext();
 		this.queryMethod = queryMethod;
 		this.couchbaseConverter = couchbaseConverter;
 		this.valueExpressionDelegate = valueExpressionDelegate;
+		// Save the query string to be parsed later after we have the scope and collection to be used in the query
+		this.queryString = queryMethod.getStringQueryCache().getStatement(namedQueries,
+				queries -> resolveQueryString(queryMethod, queries));
+	}
+
+	private static String resolveQueryString(CouchbaseQueryMethod queryMethod, NamedQueries namedQueries) {
 		final String namedQueryName = queryMethod.getNamedQueryName();
-		String qString;
 		if (queryMethod.hasInlineN1qlQuery()) {
-			qString = queryMethod.getInlineN1qlQuery();
+			return queryMethod.getInlineN1qlQuery();
 		} else if (namedQueries.hasQuery(namedQueryName)) {
-			qString = namedQueries.getQuery(namedQueryName);
+			return namedQueries.getQuery(namedQueryName);
 		} else {
 			throw new IllegalArgumentException("query has no inline Query or named Query not found");
 		}
-		// Save the query string to be parsed later after we have the scope and collection to be used in the query
-		this.queryString = qString;
 	}
 
 	protected QueryMethod getQueryMethod() {
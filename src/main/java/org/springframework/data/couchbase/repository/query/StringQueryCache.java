@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository.query;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.repository.query.StringBasedN1qlQueryParser.N1qlSpelValues;
+import org.springframework.data.couchbase.repository.query.StringBasedN1qlQueryParser.PlaceholderType;
+import org.springframework.data.expression.ValueEvaluationContextProvider;
+import org.springframework.data.expression.ValueExpression;
+import org.springframework.data.expression.ValueExpressionParser;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.query.ValueExpressionDelegate;
+
+/**
+ * Invocation independent parts of a string based query, resolved once per {@link CouchbaseQueryMethod}.
+ * <p>
+ * Holds the resolved (inline or named) statement, its parsed SpEL expression, the evaluation context provider, the
+ * {@link N1qlSpelValues} per keyspace and the placeholder analysis of the evaluated statement. Only the SpEL evaluation
+ * and the parameter binding are left to each invocation.
+ *
+ * @since 6.2
+ */
+final class StringQueryCache {
+
+	/**
+	 * Upper bound of distinct evaluated statements whose placeholders are remembered. Statements only differ between
+	 * invocations when SpEL inlines parameter values, those beyond the bound are analysed on each call.
+	 */
+	static final int MAX_PLACEHOLDER_ENTRIES = 256;
+
+	private final Map<NamedQueries, String> statements = new ConcurrentHashMap<>();
+	private final Map<ExpressionKey, ValueExpression> expressions = new ConcurrentHashMap<>();
+	private final Map<ValueExpressionDelegate, ValueEvaluationContextProvider> contextProviders = new ConcurrentHashMap<>();
+	private final Map<SpelValuesKey, N1qlSpelValues> spelValues = new ConcurrentHashMap<>();
+	private final Map<String, Placeholders> placeholders = new ConcurrentHashMap<>();
+
+	String getStatement(NamedQueries namedQueries, Function<NamedQueries, String> resolver) {
+		return namedQueries == null ? resolver.apply(null) : statements.computeIfAbsent(namedQueries, resolver);
+	}
+
+	ValueExpression getExpression(ValueExpressionParser parser, String statement) {
+		return expressions.computeIfAbsent(new ExpressionKey(parser, statement), key -> parser.parse(statement));
+	}
+
+	ValueEvaluationContextProvider getContextProvider(ValueExpressionDelegate delegate, CouchbaseQueryMethod queryMethod) {
+		return contextProviders.computeIfAbsent(delegate,
+				key -> delegate.createValueContextProvider(queryMethod.getParameters()));
+	}
+
+	N1qlSpelValues getSpelValues(SpelValuesKey key, Supplier<N1qlSpelValues> factory) {
+		return spelValues.computeIfAbsent(key, k -> factory.get());
+	}
+
+	Placeholders getPlaceholders(String statement, Function<String, Placeholders> analyser) {
+		Placeholders found = placeholders.get(statement);
+		if (found == null) {
+			found = analyser.apply(statement);
+			if (placeholders.size() < MAX_PLACEHOLDER_ENTRIES) {
+				placeholders.putIfAbsent(statement, found);
+			}
+		}
+		return found;
+	}
+
+	private record ExpressionKey(ValueExpressionParser parser, String statement) {}
+
+	/**
+	 * Everything {@link StringBasedN1qlQueryParser#createN1qlSpelValues} depends on for an {@code @Query} method.
+	 */
+	record SpelValuesKey(CouchbaseConverter converter, String bucketName, String scope, String collection,
+			Class<?> domainClass, String typeKey, String typeValue, boolean isCount) {}
+
+	/**
+	 * Placeholders found in an evaluated statement.
+	 *
+	 * @param type the kind of placeholders used.
+	 * @param names the placeholder names without the leading {@code $}.
+	 */
+	record Placeholders(PlaceholderType type, Set<String> names) {}
+
+}
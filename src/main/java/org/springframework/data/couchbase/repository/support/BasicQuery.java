@@ -20,6 +20,7 @@ import static org.springframework.util.ObjectUtils.nullSafeHashCode;
 
 import java.util.Map;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.core.query.QueryCriteriaDefinition;
@@ -54,6 +55,11 @@ public class BasicQuery extends Query {
 		this.projectionFields = projectionFields;
 	}
 
+	@Override
+	public @Nullable Query copy() {
+		return getClass() == BasicQuery.class ? new BasicQuery(this, projectionFields) : null;
+	}
+
 	/**
 	 * Set the sort {@link CouchbaseDocument}.
 	 *
@@ -18,6 +18,7 @@ package org.springframework.data.couchbase.repository.support;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
 
 import java.util.List;
 import java.util.Objects;
@@ -49,6 +50,8 @@ import org.springframework.util.Assert;
 public class SimpleReactiveCouchbaseRepository<T, ID> extends CouchbaseRepositoryBase<T, ID>
 		implements ReactiveCouchbaseRepository<T, ID> {
 
+	private static final int DEFAULT_SAVE_PREFETCH = 256;
+
 	/**
 	 * Holds the reference to the {@link CouchbaseOperations}.
 	 */
@@ -86,25 +89,29 @@ public class SimpleReactiveCouchbaseRepository<T, ID> extends CouchbaseRepositor
 	@Override
 	public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
 		Assert.notNull(entities, "The given Iterable of entities must not be null!");
-		String scope = getScope();
-		String collection = getCollection();
-		// clear out the PseudoArgs here as whatever is called by operations.save() could be in a different thread.
-		// note that this will also clear out Options, but that's ok as any options would not work
-		// with all of insert/upsert/replace. If Options are needed, use template.insertById/upsertById/replaceById
-		getReactiveTemplate().setPseudoArgs(null);
-		return Flux.fromIterable(entities).flatMap(e -> save(e, scope, collection));
+		return saveAll(Flux.fromIterable(entities));
 	}
 
 	@Override
 	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
-		Assert.notNull(entityStream, "The given Iterable of entities must not be null!");
+		// as many saves in flight as Flux#flatMap allows by default
+		return saveAll(entityStream, Queues.SMALL_BUFFER_SIZE, DEFAULT_SAVE_PREFETCH, false);
+	}
+
+	@Override
+	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream, int concurrency, int prefetch, boolean ordered) {
+		Assert.notNull(entityStream, "The given Publisher of entities must not be null!");
+		Assert.isTrue(concurrency > 0, "concurrency must be greater than 0");
+		Assert.isTrue(prefetch > 0, "prefetch must be greater than 0");
 		String scope = getScope();
 		String collection = getCollection();
 		// clear out the PseudoArgs here as whatever is called by operations.save() could be in a different thread.
 		// note that this will also clear out Options, but that's ok as any options would not work
 		// with all of insert/upsert/replace. If Options are needed, use template.insertById/upsertById/replaceById
 		getReactiveTemplate().setPseudoArgs(null);
-		return Flux.from(entityStream).flatMap(e -> save(e, scope, collection));
+		Flux<S> entities = Flux.from(entityStream).limitRate(prefetch);
+		return ordered ? entities.flatMapSequential(e -> save(e, scope, collection), concurrency)
+				: entities.flatMap(e -> save(e, scope, collection), concurrency);
 	}
 
 	@SuppressWarnings("unchecked")
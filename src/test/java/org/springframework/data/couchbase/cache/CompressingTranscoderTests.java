@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.couchbase.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.couchbase.client.java.codec.SerializableTranscoder;
+import com.couchbase.client.java.codec.Transcoder.EncodedValue;
+
+/**
+ * Unit tests for {@link CompressingTranscoder}.
+ */
+class CompressingTranscoderTests {
+
+	private final CompressingTranscoder transcoder = new CompressingTranscoder(SerializableTranscoder.INSTANCE, 256);
+
+	@Test
+	void compressesValuesFromThreshold() {
+		String large = "cached value ".repeat(100);
+		EncodedValue plain = SerializableTranscoder.INSTANCE.encode(large);
+		EncodedValue encoded = transcoder.encode(large);
+
+		assertEquals(plain.flags() | CompressingTranscoder.DEFLATE_FLAGS, encoded.flags());
+		assertTrue(encoded.encoded().length < plain.encoded().length);
+		assertEquals(large, transcoder.decode(String.class, encoded.encoded(), encoded.flags()));
+	}
+
+	@Test
+	void keepsSmallValuesAndReadsUncompressedDocuments() {
+		EncodedValue small = transcoder.encode("small");
+		EncodedValue plain = SerializableTranscoder.INSTANCE.encode("small");
+
+		assertEquals(plain.flags(), small.flags());
+		assertEquals("small", transcoder.decode(String.class, plain.encoded(), plain.flags()));
+	}
+
+}
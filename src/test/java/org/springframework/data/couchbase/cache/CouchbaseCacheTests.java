@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.couchbase.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache.ValueWrapper;
+
+import com.couchbase.client.java.codec.Transcoder;
+
+/**
+ * Unit tests for {@link CouchbaseCache} against an in-memory {@link CouchbaseCacheWriter}.
+ */
+class CouchbaseCacheTests {
+
+	@Test
+	void concurrentLoadsOfOneKeyShareTheLoader() throws Exception {
+		CouchbaseCache cache = new CouchbaseCache("test", new InMemoryCacheWriter(),
+				CouchbaseCacheConfiguration.defaultCacheConfig());
+		AtomicInteger invocations = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				results.add(executor.submit(() -> cache.get("a", () -> {
+					invocations.incrementAndGet();
+					loading.countDown();
+					release.await();
+					return "loaded";
+				})));
+			}
+			assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+			assertEquals("other", cache.get("b", () -> "other"), "loads of other keys are not blocked");
+
+			release.countDown();
+			for (Future<String> result : results) {
+				assertEquals("loaded", result.get(5, TimeUnit.SECONDS));
+			}
+			assertEquals(1, invocations.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void waitsForValueLoadedByLockHolder() throws Exception {
+		InMemoryCacheWriter writer = new InMemoryCacheWriter();
+		CouchbaseCache cache = new CouchbaseCache("test", writer,
+				CouchbaseCacheConfiguration.defaultCacheConfig().distributedLoadLock(Duration.ofSeconds(5)));
+		writer.put(null, "test::a::loading", "other process", null, null);
+
+		Thread holder = new Thread(() -> {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException ex) {
+				return;
+			}
+			writer.put(null, "test::a", "remote", null, null);
+			writer.remove(null, "test::a::loading");
+		});
+		holder.start();
+
+		assertEquals("remote", cache.get("a", () -> "local"));
+		holder.join();
+
+		assertEquals("local", cache.get("b", () -> "local"));
+		assertFalse(writer.entries.containsKey("test::b::loading"), "the lock is released after loading");
+	}
+
+	@Test
+	void retrievesAsynchronouslyAndSharesPendingLoads() throws Exception {
+		CouchbaseCache cache = new CouchbaseCache("test", new InMemoryCacheWriter(),
+				CouchbaseCacheConfiguration.defaultCacheConfig());
+		AtomicInteger invocations = new AtomicInteger();
+		CompletableFuture<String> loaded = new CompletableFuture<>();
+		Supplier<CompletableFuture<String>> loader = () -> {
+			invocations.incrementAndGet();
+			return loaded;
+		};
+
+		assertNull(cache.retrieve("a").get(5, TimeUnit.SECONDS));
+
+		CompletableFuture<String> first = cache.retrieve("a", loader);
+		CompletableFuture<String> second = cache.retrieve("a", loader);
+		assertFalse(first.isDone());
+		loaded.complete("loaded");
+
+		assertEquals("loaded", first.get(5, TimeUnit.SECONDS));
+		assertEquals("loaded", second.get(5, TimeUnit.SECONDS));
+		assertEquals(1, invocations.get());
+		assertEquals("loaded", ((ValueWrapper) cache.retrieve("a").get(5, TimeUnit.SECONDS)).get());
+		assertEquals("loaded", cache.retrieve("a", loader).get(5, TimeUnit.SECONDS));
+		assertEquals(1, invocations.get());
+	}
+
+	@Test
+	void bulkOperationsReportFailedKeys() {
+		InMemoryCacheWriter writer = new InMemoryCacheWriter() {
+			@Override
+			public void put(String collectionName, String key, Object value, @Nullable Duration expiry,
+					@Nullable Transcoder transcoder) {
+				if (key.endsWith("broken")) {
+					throw new IllegalStateException("unavailable");
+				}
+				super.put(collectionName, key, value, expiry, transcoder);
+			}
+		};
+		CouchbaseCache cache = new CouchbaseCache("test", writer, CouchbaseCacheConfiguration.defaultCacheConfig());
+
+		cache.putAll(Map.of("a", "1", "b", "2"));
+		Map<Object, ValueWrapper> values = cache.getAll(List.of("a", "b", "c"));
+		assertEquals(2, values.size());
+		assertEquals("2", values.get("b").get());
+
+		CouchbaseCacheBulkException ex = assertThrows(CouchbaseCacheBulkException.class,
+				() -> cache.putAll(Map.of("c", "3", "broken", "4")));
+		assertEquals(Set.of("broken"), ex.getFailures().keySet());
+		assertEquals(Set.of("c"), ex.getResults().keySet());
+
+		assertEquals(2, cache.evictAll(List.of("a", "b", "missing")));
+		assertEquals(Set.of("c"), cache.getAll(List.of("a", "b", "c")).keySet());
+	}
+
+	@Test
+	void writesBehindCoalescedPuts() {
+		InMemoryCacheWriter writer = new InMemoryCacheWriter();
+		CouchbaseCache cache = new CouchbaseCache("test", writer,
+				CouchbaseCacheConfiguration.defaultCacheConfig().writeBehind(2, Duration.ofHours(1)));
+
+		cache.put("a", "1");
+		cache.put("a", "2");
+		cache.put("b", "3");
+		assertTrue(writer.entries.isEmpty());
+		assertEquals("2", cache.get("a").get(), "buffered puts are read through the cache");
+
+		cache.put("c", "4"); // the buffer is full, the caller writes it
+		assertEquals(Map.of("test::a", "2", "test::b", "3"), writer.entries);
+
+		assertTrue(cache.evictIfPresent("c"));
+		cache.flush();
+		assertEquals(Map.of("test::a", "2", "test::b", "3"), writer.entries);
+
+		WriteBehindStatistics statistics = cache.getWriteBehindStatistics();
+		assertEquals(0, statistics.pending());
+		assertEquals(2, statistics.written());
+		assertEquals(1, statistics.coalesced());
+		assertEquals(0, statistics.dropped());
+		cache.close();
+	}
+
+	@Test
+	void destroyFlushesWriteBehindCachesOfTransactionAwareManager() {
+		InMemoryCacheWriter writer = new InMemoryCacheWriter();
+		CouchbaseCacheManager manager = CouchbaseCacheManager.builder(writer)
+				.cacheDefaults(CouchbaseCacheConfiguration.defaultCacheConfig().writeBehind(10, Duration.ofHours(1)))
+				.transactionAware().build();
+		manager.afterPropertiesSet();
+
+		manager.getCache("test").put("a", "1");
+		assertTrue(writer.entries.isEmpty());
+
+		manager.destroy();
+		assertEquals(Map.of("test::a", "1"), writer.entries);
+	}
+
+	static class InMemoryCacheWriter implements CouchbaseCacheWriter {
+
+		final Map<String, Object> entries = new ConcurrentHashMap<>();
+
+		@Override
+		public void put(String collectionName, String key, Object value, @Nullable Duration expiry,
+				@Nullable Transcoder transcoder) {
+			entries.put(key, value);
+		}
+
+		@Override
+		public @Nullable Object putIfAbsent(String collectionName, String key, Object value, @Nullable Duration expiry,
+				@Nullable Transcoder transcoder) {
+			return entries.putIfAbsent(key, value);
+		}
+
+		@Override
+		public @Nullable Object putIfAbsent(String collectionName, String key, Object value, @Nullable Duration expiry,
+				@Nullable Transcoder transcoder, @Nullable Class<?> clazz) {
+			return entries.putIfAbsent(key, value);
+		}
+
+		@Override
+		public @Nullable Object get(String collectionName, String key, @Nullable Transcoder transcoder) {
+			return entries.get(key);
+		}
+
+		@Override
+		public @Nullable Object get(String collectionName, String key, @Nullable Transcoder transcoder,
+				@Nullable Class<?> clazz) {
+			return entries.get(key);
+		}
+
+		@Override
+		public boolean remove(String collectionName, String key) {
+			return entries.remove(key) != null;
+		}
+
+		@Override
+		public long clear(String collectionName, String pattern) {
+			long before = entries.size();
+			entries.keySet().removeIf(key -> key.startsWith(pattern));
+			return before - entries.size();
+		}
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.couchbase.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link NearCache}.
+ */
+class NearCacheTests {
+
+	private final AtomicLong time = new AtomicLong();
+
+	@Test
+	void servesFreshEntriesUntilTimeToLive() {
+		NearCache nearCache = new NearCache(10, Duration.ofSeconds(1), time::get);
+		nearCache.put("a", "value", 42, String.class, nearCache.stamp("a"));
+
+		NearCache.Entry entry = nearCache.get("a", String.class);
+		assertNotNull(entry);
+		assertTrue(nearCache.isFresh(entry));
+		assertNull(nearCache.get("a", Object.class), "entries are only served for the type they were read as");
+
+		time.addAndGet(Duration.ofSeconds(1).toNanos());
+		assertFalse(nearCache.isFresh(entry));
+		nearCache.revalidated("a", entry);
+		assertTrue(nearCache.isFresh(nearCache.get("a", String.class)));
+	}
+
+	@Test
+	void admitsOnlyKeysMoreFrequentThanVictim() {
+		NearCache nearCache = new NearCache(2, Duration.ofMinutes(1), time::get);
+		nearCache.get("hot", String.class);
+		nearCache.put("hot", "h", 1, String.class, nearCache.stamp("hot"));
+		nearCache.get("warm", String.class);
+		nearCache.get("warm", String.class);
+		nearCache.put("warm", "w", 1, String.class, nearCache.stamp("warm"));
+
+		nearCache.get("cold", String.class); // requested once, as often as the eldest entry
+		nearCache.put("cold", "c", 1, String.class, nearCache.stamp("cold"));
+		assertNull(nearCache.get("cold", String.class));
+		assertEquals(2, nearCache.size());
+
+		for (int i = 0; i < 5; i++) {
+			nearCache.get("popular", String.class);
+		}
+		nearCache.put("popular", "p", 1, String.class, nearCache.stamp("popular"));
+		assertNotNull(nearCache.get("popular", String.class));
+		assertEquals(2, nearCache.size());
+	}
+
+	@Test
+	void invalidatesAndClears() {
+		NearCache nearCache = new NearCache(10, Duration.ofMinutes(1), time::get);
+		nearCache.put("a", "1", 1, String.class, nearCache.stamp("a"));
+		nearCache.put("b", "2", 1, String.class, nearCache.stamp("b"));
+
+		nearCache.invalidate("a");
+		assertNull(nearCache.get("a", String.class));
+		assertEquals(1, nearCache.size());
+
+		nearCache.clear();
+		assertEquals(0, nearCache.size());
+	}
+
+	@Test
+	void dropsValueReadBeforeAnInvalidation() {
+		NearCache nearCache = new NearCache(10, Duration.ofMinutes(1), time::get);
+		long stamp = nearCache.stamp("a");
+		// the value is read from Couchbase while another thread writes the key and invalidates it
+		nearCache.invalidate("a");
+		nearCache.put("a", "stale", 1, String.class, stamp);
+		assertNull(nearCache.get("a", String.class));
+
+		stamp = nearCache.stamp("a");
+		nearCache.clear();
+		nearCache.put("a", "stale", 1, String.class, stamp);
+		assertNull(nearCache.get("a", String.class));
+
+		nearCache.put("a", "current", 2, String.class, nearCache.stamp("a"));
+		assertEquals("current", nearCache.get("a", String.class).value);
+	}
+
+	@Test
+	void staysBoundedUnderConcurrentAccess() throws Exception {
+		NearCache nearCache = new NearCache(16, Duration.ofMinutes(1), time::get);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				int seed = t;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 20_000; i++) {
+						String key = Integer.toString((i * 31 + seed) % 64);
+						if (nearCache.get(key, String.class) == null) {
+							nearCache.put(key, key, 1, String.class, nearCache.stamp(key));
+						}
+						if (i % 97 == 0) {
+							nearCache.invalidate(key);
+						}
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertTrue(nearCache.size() <= 16, "size " + nearCache.size());
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.couchbase.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the default {@code bulk} methods of the fluent insert, upsert and replace interfaces.
+ *
+ * @since 6.2
+ */
+class BulkWriteDefaultsTests {
+
+	@Test
+	void reactiveBulkDefaultsToOnePerEntity() {
+		ReactiveUpsertByIdOperation.TerminatingUpsertById<String> upsert =
+				new ReactiveUpsertByIdOperation.TerminatingUpsertById<>() {
+			@Override
+			public Mono<String> one(String object) {
+				return "bad".equals(object) ? Mono.error(new IllegalStateException(object)) : Mono.just(object + "!");
+			}
+
+			@Override
+			public Flux<? extends String> all(Collection<? extends String> objects) {
+				return Flux.error(new UnsupportedOperationException());
+			}
+		};
+
+		List<BulkWriteResult<String>> results = upsert.bulk(List.of("a", "bad", "b")).collectList().block();
+
+		assertNotNull(results);
+		results.sort(Comparator.comparing(BulkWriteResult::entity));
+		assertEquals(List.of("a!", "b!", "bad"), results.stream().map(BulkWriteResult::entity).toList());
+		assertTrue(results.get(0).isSuccess());
+		assertTrue(results.get(1).isSuccess());
+		assertInstanceOf(IllegalStateException.class, results.get(2).error());
+	}
+
+	@Test
+	void blockingBulkDefaultsToOnePerEntityInOrder() {
+		List<String> written = new ArrayList<>();
+		ExecutableInsertByIdOperation.TerminatingInsertById<String> insert =
+				new ExecutableInsertByIdOperation.TerminatingInsertById<>() {
+			@Override
+			public String one(String object) {
+				if ("bad".equals(object)) {
+					throw new IllegalStateException(object);
+				}
+				written.add(object);
+				return object + "!";
+			}
+
+			@Override
+			public Collection<? extends String> all(Collection<? extends String> objects) {
+				throw new UnsupportedOperationException();
+			}
+		};
+
+		List<BulkWriteResult<String>> results = insert.bulk(List.of("a", "bad", "b"));
+
+		assertEquals(List.of("a", "b"), written);
+		assertEquals(List.of("a!", "bad", "b!"), results.stream().map(BulkWriteResult::entity).toList());
+		assertTrue(results.get(0).isSuccess());
+		assertInstanceOf(IllegalStateException.class, results.get(1).error());
+		assertTrue(results.get(2).isSuccess());
+	}
+
+}
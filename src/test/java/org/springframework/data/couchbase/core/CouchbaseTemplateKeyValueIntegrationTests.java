@@ -34,6 +34,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -301,6 +302,115 @@ class CouchbaseTemplateKeyValueIntegrationTests extends JavaIntegrationTests {
 		couchbaseTemplate.removeById().one(user.getId());
 	}
 
+	@Test
+	void bulkInsertReportsFailuresPerEntity() {
+		User existing = couchbaseTemplate.insertById(User.class).one(new User(UUID.randomUUID().toString(), "a", "a"));
+		User first = new User(UUID.randomUUID().toString(), "b", "b");
+		User second = new User(UUID.randomUUID().toString(), "c", "c");
+		User duplicate = new User(existing.getId(), "d", "d");
+
+		Map<String, BulkWriteResult<User>> results = reactiveCouchbaseTemplate.insertById(User.class)
+				.bulk(List.of(first, duplicate, second)).collectMap(result -> result.entity().getFirstname()).block();
+
+		assertEquals(3, results.size());
+		assertTrue(results.get("b").isSuccess());
+		assertTrue(results.get("c").isSuccess());
+		assertFalse(results.get("d").isSuccess());
+		assertTrue(results.get("d").error() instanceof DuplicateKeyException, String.valueOf(results.get("d").error()));
+		assertEquals("b", couchbaseTemplate.findById(User.class).one(first.getId()).getFirstname());
+		assertEquals("c", couchbaseTemplate.findById(User.class).one(second.getId()).getFirstname());
+		assertEquals("a", couchbaseTemplate.findById(User.class).one(existing.getId()).getFirstname());
+	}
+
+	@Test
+	void bulkReplaceWithStaleCasFailsOnlyThatEntity() {
+		User current = couchbaseTemplate.upsertById(User.class).one(new User(UUID.randomUUID().toString(), "a", "a"));
+		User stale = couchbaseTemplate.upsertById(User.class).one(new User(UUID.randomUUID().toString(), "b", "b"));
+		User modified = new User(current.getId(), "a2", "a2");
+		modified.setVersion(current.getVersion());
+		User staleModified = new User(stale.getId(), "b2", "b2");
+		staleModified.setVersion(12345678);
+
+		Map<String, BulkWriteResult<User>> results = reactiveCouchbaseTemplate.replaceById(User.class)
+				.bulk(List.of(modified, staleModified)).collectMap(result -> result.entity().getId()).block();
+
+		assertTrue(results.get(current.getId()).isSuccess());
+		assertNotEquals(current.getVersion(), results.get(current.getId()).entity().getVersion());
+		assertTrue(results.get(stale.getId()).error() instanceof OptimisticLockingFailureException,
+				String.valueOf(results.get(stale.getId()).error()));
+		assertEquals("a2", couchbaseTemplate.findById(User.class).one(current.getId()).getFirstname());
+		assertEquals("b", couchbaseTemplate.findById(User.class).one(stale.getId()).getFirstname());
+	}
+
+	@Test
+	void bulkUpsertHonoursConcurrency() {
+		List<User> users = new LinkedList<>();
+		for (int i = 0; i < 20; i++) {
+			users.add(new User(UUID.randomUUID().toString(), "user" + i, "user" + i));
+		}
+
+		// with one write in flight the results complete in the order of the entities
+		List<String> ids = reactiveCouchbaseTemplate.upsertById(User.class).bulk(users, 1)
+				.map(result -> result.entity().getId()).collectList().block();
+		assertEquals(users.stream().map(User::getId).toList(), ids);
+
+		List<BulkWriteResult<User>> results = reactiveCouchbaseTemplate.upsertById(User.class).bulk(users, 4)
+				.collectList().block();
+		assertEquals(users.size(), results.size());
+		assertTrue(results.stream().allMatch(BulkWriteResult::isSuccess));
+
+		assertThrows(IllegalArgumentException.class, () -> reactiveCouchbaseTemplate.upsertById(User.class).bulk(users, 0));
+	}
+
+	@Test
+	void saveWithChangeTrackerWritesChangedFieldsAndChecksCas() {
+		DocumentChangeTracker tracker = new DocumentChangeTracker();
+		couchbaseTemplate.setDocumentChangeTracker(tracker);
+		String id = UUID.randomUUID().toString();
+		try {
+			MutableUser user = new MutableUser(id, "first", "last");
+			user.setRoles(List.of("a"));
+			couchbaseTemplate.upsertById(MutableUser.class).one(user);
+
+			// partial write of the changed field
+			MutableUser found = couchbaseTemplate.findById(MutableUser.class).one(id);
+			found.setRoles(List.of("a", "b"));
+			MutableUser saved = couchbaseTemplate.save(found);
+			assertEquals(1, tracker.getPartialUpdates());
+			MutableUser read = couchbaseTemplate.findById(MutableUser.class).one(id);
+			assertEquals(List.of("a", "b"), read.getRoles());
+			assertEquals("first", read.getFirstname());
+			assertEquals(saved.getVersion(), read.getVersion());
+
+			// a save without changes still checks the CAS
+			MutableUser concurrent = new MutableUser(id, "other", "last");
+			concurrent.setRoles(List.of("a", "b"));
+			concurrent.setVersion(read.getVersion());
+			couchbaseTemplate.replaceById(MutableUser.class).one(concurrent);
+			assertThrows(OptimisticLockingFailureException.class, () -> couchbaseTemplate.save(read));
+			assertEquals("other", couchbaseTemplate.findById(MutableUser.class).one(id).getFirstname());
+
+			// without a snapshot the whole document is replaced
+			long fullUpdates = tracker.getFullUpdates();
+			MutableUser current = couchbaseTemplate.findById(MutableUser.class).one(id);
+			tracker.discard(null, null, id);
+			current.setRoles(List.of("c"));
+			couchbaseTemplate.save(current);
+			assertEquals(fullUpdates + 1, tracker.getFullUpdates());
+			assertEquals(List.of("c"), couchbaseTemplate.findById(MutableUser.class).one(id).getRoles());
+
+			// entities read by a query are not tracked
+			tracker.discard(null, null, id);
+			Query query = new Query(QueryCriteria.where(i("firstname")).eq("other"));
+			assertFalse(couchbaseTemplate.findByQuery(MutableUser.class).withConsistency(QueryScanConsistency.REQUEST_PLUS)
+					.matching(query).all().isEmpty());
+			assertEquals(0, tracker.size());
+		} finally {
+			couchbaseTemplate.setDocumentChangeTracker(null);
+			couchbaseTemplate.removeById(MutableUser.class).one(id);
+		}
+	}
+
 	@Test
 	void findProjected() {
 		User user = new User(UUID.randomUUID().toString(), "firstname", "lastname");
@@ -480,6 +590,29 @@ class CouchbaseTemplateKeyValueIntegrationTests extends JavaIntegrationTests {
 		assertNull(couchbaseTemplate.findById(User.class).one(UUID.randomUUID().toString()));
 	}
 
+	@Test
+	void findByIdAllOrdered() {
+		List<String> ids = new LinkedList<>();
+		for (int i = 0; i < 50; i++) {
+			User user = new User(UUID.randomUUID().toString(), "firstname" + i, "lastname" + i);
+			couchbaseTemplate.upsertById(User.class).one(user);
+			ids.add(user.getId());
+		}
+		ids.add(25, UUID.randomUUID().toString()); // does not exist
+		try {
+			List<? extends User> found = new LinkedList<>(couchbaseTemplate.findById(User.class).all(ids, 4, true));
+			assertEquals(50, found.size());
+			ids.remove(25);
+			for (int i = 0; i < ids.size(); i++) {
+				assertEquals(ids.get(i), found.get(i).getId(), "should be in order of ids");
+			}
+			Collection<? extends User> unordered = couchbaseTemplate.findById(User.class).all(ids);
+			assertEquals(50, unordered.size());
+		} finally {
+			couchbaseTemplate.removeById(User.class).all(ids);
+		}
+	}
+
 	@Test
 	void upsertAndReplaceById() {
 		User user = new User(UUID.randomUUID().toString(), "firstname_upsertAndReplaceById", "lastname");
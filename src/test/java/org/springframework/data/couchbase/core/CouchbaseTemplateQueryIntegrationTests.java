@@ -57,6 +57,7 @@ import org.springframework.data.couchbase.util.Capabilities;
 import org.springframework.data.couchbase.util.ClusterType;
 import org.springframework.data.couchbase.util.IgnoreWhen;
 import org.springframework.data.couchbase.util.JavaIntegrationTests;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -175,6 +176,26 @@ class CouchbaseTemplateQueryIntegrationTests extends JavaIntegrationTests {
 		assertEquals(0, foundArrayContaining.size());
 	}
 
+	@Test
+	void findByQueryPageLeavesQueryUnchanged() {
+		User user1 = new User(UUID.randomUUID().toString(), "pageuser", "a");
+		User user2 = new User(UUID.randomUUID().toString(), "pageuser", "b");
+		couchbaseTemplate.upsertById(User.class).all(Arrays.asList(user1, user2));
+		try {
+			Query query = new Query(QueryCriteria.where(i("firstname")).is("pageuser")).with(Sort.by("lastname"));
+
+			Page<User> page = couchbaseTemplate.findByQuery(User.class).withConsistency(REQUEST_PLUS).matching(query)
+					.page(PageRequest.of(1, 1));
+			List<User> all = couchbaseTemplate.findByQuery(User.class).withConsistency(REQUEST_PLUS).matching(query).all();
+
+			assertEquals(List.of(user2), page.getContent());
+			assertEquals(2, page.getTotalElements());
+			assertEquals(List.of(user1, user2), all);
+		} finally {
+			couchbaseTemplate.removeById(User.class).all(Arrays.asList(user1.getId(), user2.getId()));
+		}
+	}
+
 	@Test
 	void findAssessmentDO() {
 		AssessmentDO ado = new AssessmentDO();
@@ -16,9 +16,11 @@
 package org.springframework.data.couchbase.core;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.data.couchbase.util.Util.waitUntilCondition;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.jupiter.api.AfterAll;
@@ -58,6 +60,7 @@ import com.couchbase.client.java.search.result.SearchRow;
 class CouchbaseTemplateSearchIntegrationTests extends JavaIntegrationTests {
 
 	private static final String INDEX_NAME = "sd-fts-test-index";
+	private static final String STORED_INDEX_NAME = "sd-fts-stored-test-index";
 
 	@Autowired CouchbaseTemplate couchbaseTemplate;
 	@Autowired ReactiveCouchbaseTemplate reactiveCouchbaseTemplate;
@@ -71,6 +74,12 @@ class CouchbaseTemplateSearchIntegrationTests extends JavaIntegrationTests {
 			SearchIndex searchIndex = new SearchIndex(INDEX_NAME, bucketName());
 			cluster.searchIndexes().upsertIndex(searchIndex);
 			waitForFtsIndex(cluster, INDEX_NAME);
+			// dynamic fields are stored, so entities can be read from the search rows
+			SearchIndex storedIndex = new SearchIndex(STORED_INDEX_NAME, bucketName()).params(Map.of("mapping",
+					Map.of("default_mapping", Map.of("enabled", true, "dynamic", true), "index_dynamic", true,
+							"store_dynamic", true)));
+			cluster.searchIndexes().upsertIndex(storedIndex);
+			waitForFtsIndex(cluster, STORED_INDEX_NAME);
 		} finally {
 			logCluster(cluster, "setupFtsIndex");
 		}
@@ -81,6 +90,7 @@ class CouchbaseTemplateSearchIntegrationTests extends JavaIntegrationTests {
 		Cluster cluster = Cluster.connect(connectionString(), username(), password());
 		try {
 			cluster.searchIndexes().dropIndex(INDEX_NAME);
+			cluster.searchIndexes().dropIndex(STORED_INDEX_NAME);
 		} catch (Exception e) {
 			LOGGER.warn("Failed to drop FTS index: {}", e.getMessage());
 		} finally {
@@ -335,6 +345,61 @@ class CouchbaseTemplateSearchIntegrationTests extends JavaIntegrationTests {
 		assertFalse(exists, "Expected exists == false for nonsense query");
 	}
 
+	@Test
+	void searchWithFieldsStillReadsDocumentsFromKv() {
+		String unique = "kvfields" + UUID.randomUUID().toString().replace("-", "");
+		InsertedDoc doc = insertRawDoc("fts-kv-" + UUID.randomUUID(), unique, "indexedln");
+		SearchRequest request = SearchRequest.create(SearchQuery.queryString(unique));
+		try {
+			waitUntilCondition(() -> !couchbaseTemplate.findBySearch(User.class).withIndex(INDEX_NAME)
+					.withFields("firstname").matching(request).all().isEmpty(), Duration.ofSeconds(30));
+
+			// the document changes after it was indexed, the hit is read from KV
+			JsonObject changed = couchbaseTemplate.getCouchbaseClientFactory().getDefaultCollection().get(doc.id)
+					.contentAsObject().put("lastname", "changedln");
+			couchbaseTemplate.getCouchbaseClientFactory().getDefaultCollection().replace(doc.id, changed);
+			User found = couchbaseTemplate.findBySearch(User.class).withIndex(INDEX_NAME).withFields("firstname")
+					.matching(request).oneValue();
+			assertEquals("changedln", found.getLastname());
+			assertTrue(found.getVersion() != 0, "Expected the cas of the KV document");
+
+			// a deleted document is skipped even if the index still has it
+			removeRawDoc(doc.id);
+			assertTrue(couchbaseTemplate.findBySearch(User.class).withIndex(INDEX_NAME).withFields("firstname")
+					.matching(request).all().isEmpty());
+		} finally {
+			removeRawDoc(doc.id);
+		}
+	}
+
+	@Test
+	void searchWithStoredFieldsReadsEntitiesFromRows() {
+		String unique = "storedfields" + UUID.randomUUID().toString().replace("-", "");
+		InsertedDoc doc = insertRawDoc("fts-stored-" + UUID.randomUUID(), unique, "storedln");
+		SearchRequest request = SearchRequest.create(SearchQuery.queryString(unique));
+		try {
+			waitUntilCondition(() -> !couchbaseTemplate.findBySearch(User.class).withIndex(STORED_INDEX_NAME)
+					.as(UserName.class).withStoredFields("firstname", "lastname").matching(request).all().isEmpty(),
+					Duration.ofSeconds(30));
+
+			UserName found = couchbaseTemplate.findBySearch(User.class).withIndex(STORED_INDEX_NAME).as(UserName.class)
+					.withStoredFields("firstname", "lastname").matching(request).oneValue();
+			assertEquals(doc.id, found.getId());
+			assertEquals(unique, found.getFirstname());
+			assertEquals("storedln", found.getLastname());
+		} finally {
+			removeRawDoc(doc.id);
+		}
+	}
+
+	@Test
+	void searchWithStoredFieldsRejectsVersionedType() {
+		assertThrows(IllegalArgumentException.class,
+				() -> couchbaseTemplate.findBySearch(User.class).withIndex(INDEX_NAME)
+						.withStoredFields("firstname", "lastname")
+						.matching(SearchRequest.create(SearchQuery.queryString("storedfieldsversioned"))).all());
+	}
+
 	private static void waitForFtsIndex(Cluster cluster, String indexName) {
 		int maxRetries = 30;
 		for (int i = 0; i < maxRetries; i++) {
@@ -354,4 +419,22 @@ class CouchbaseTemplateSearchIntegrationTests extends JavaIntegrationTests {
 	}
 
 	private record InsertedDoc(String id, MutationState ms) {}
+
+	static class UserName {
+		private String id;
+		private String firstname;
+		private String lastname;
+
+		public String getId() {
+			return id;
+		}
+
+		public String getFirstname() {
+			return firstname;
+		}
+
+		public String getLastname() {
+			return lastname;
+		}
+	}
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link DocumentChangeTracker}.
+ */
+class DocumentChangeTrackerTests {
+
+	@Test
+	void reportsChangedAndRemovedFields() {
+		DocumentChangeTracker tracker = new DocumentChangeTracker(10);
+		tracker.record(null, null, "airline::1", 5, content("name", "Air", "country", "FR", "iata", "AF", "icao", "AFR",
+				"callsign", Map.of("primary", "AIRFRANS")));
+
+		DocumentChangeTracker.Changes changes = tracker.changes(null, null, "airline::1", 5,
+				content("name", "Air", "country", "France", "iata", "AF", "callsign", Map.of("primary", "AIRFRANS")));
+
+		assertEquals(List.of("country"), changes.upserts());
+		assertEquals(List.of("icao"), changes.removals());
+		assertTrue(tracker.changes(null, null, "airline::1", 5, content("name", "Air", "country", "FR", "iata", "AF",
+				"icao", "AFR", "callsign", Map.of("primary", "AIRFRANS"))).isEmpty());
+		assertEquals(1, tracker.getPartialUpdates());
+	}
+
+	@Test
+	void replacesWholeDocumentWithoutMatchingSnapshot() {
+		DocumentChangeTracker tracker = new DocumentChangeTracker(10);
+		tracker.record(null, null, "airline::1", 5, content("name", "Air", "country", "FR", "iata", "AF"));
+
+		assertNull(tracker.changes(null, null, "airline::2", 5, content("name", "Air")));
+		assertNull(tracker.changes(null, null, "airline::1", 6, content("name", "Air", "country", "FR", "iata", "AF")));
+		assertNull(tracker.changes(null, null, "airline::1", 5, content("name", "Sky", "country", "DE", "iata", "AF")));
+		assertEquals(3, tracker.getFullUpdates());
+	}
+
+	@Test
+	void keepsSnapshotsPerScopeAndCollection() {
+		DocumentChangeTracker tracker = new DocumentChangeTracker(10);
+		tracker.record("travel", "airlines", "airline::1", 5, content("name", "Air", "country", "FR", "iata", "AF"));
+		tracker.record("travel", "archive", "airline::1", 7, content("name", "Old", "country", "FR", "iata", "AF"));
+
+		assertNull(tracker.changes(null, null, "airline::1", 5, content("name", "Air", "country", "DE", "iata", "AF")));
+		assertNull(tracker.changes("travel", "archive", "airline::1", 5,
+				content("name", "Air", "country", "DE", "iata", "AF")));
+		assertEquals(List.of("country"), tracker.changes("travel", "airlines", "airline::1", 5,
+				content("name", "Air", "country", "DE", "iata", "AF")).upserts());
+
+		tracker.discard("travel", "archive", "airline::1");
+		assertEquals(1, tracker.size());
+	}
+
+	@Test
+	void choosesScalarFieldToRewriteWhenNothingChanged() {
+		assertEquals("iata", DocumentChangeTracker.unchangedField(
+				content("callsign", Map.of("primary", "AIRFRANS"), "a.b", "x", "iata", "AF")));
+		assertEquals("callsign", DocumentChangeTracker.unchangedField(content("callsign", List.of("AIRFRANS"))));
+		assertNull(DocumentChangeTracker.unchangedField(content("a.b", "x")));
+	}
+
+	private static Map<String, Object> content(Object... fields) {
+		Map<String, Object> content = new TreeMap<>();
+		for (int i = 0; i < fields.length; i += 2) {
+			content.put((String) fields[i], fields[i + 1]);
+		}
+		return content;
+	}
+
+}
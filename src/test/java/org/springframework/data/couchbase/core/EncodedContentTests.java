@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.couchbase.core.convert.translation.JacksonTranslationService;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+
+import com.couchbase.client.java.codec.RawJsonTranscoder;
+import com.couchbase.client.java.kv.InsertOptions;
+
+/**
+ * Unit tests for {@link EncodedContent}.
+ */
+class EncodedContentTests {
+
+	private final JacksonTranslationService translationService = new JacksonTranslationService();
+
+	EncodedContentTests() {
+		translationService.setStreamingWrite(true);
+		translationService.afterPropertiesSet();
+	}
+
+	@Test
+	void streamsBytesIntoTemplateCreatedOptions() {
+		InsertOptions options = InsertOptions.insertOptions();
+
+		Object content = EncodedContent.encode(translationService, document(), false, options.build().transcoder(),
+				options::transcoder);
+
+		assertEquals("{\"name\":\"Oliver\"}", new String((byte[]) content, StandardCharsets.UTF_8));
+		assertSame(RawJsonTranscoder.INSTANCE, options.build().transcoder());
+	}
+
+	@Test
+	void leavesCallerOptionsUntouched() {
+		InsertOptions options = InsertOptions.insertOptions();
+
+		Object content = EncodedContent.encode(translationService, document(), true, options.build().transcoder(),
+				options::transcoder);
+
+		assertInstanceOf(Map.class, content);
+		assertNull(options.build().transcoder());
+	}
+
+	@Test
+	void streamsBytesWhenCallerAskedForRawJson() {
+		InsertOptions options = InsertOptions.insertOptions().transcoder(RawJsonTranscoder.INSTANCE);
+
+		Object content = EncodedContent.encode(translationService, document(), true, options.build().transcoder(),
+				options::transcoder);
+
+		assertInstanceOf(byte[].class, content);
+	}
+
+	@Test
+	void exportsWhenStreamingWritesAreDisabled() {
+		JacksonTranslationService plain = new JacksonTranslationService();
+		plain.afterPropertiesSet();
+		InsertOptions options = InsertOptions.insertOptions();
+
+		Object content = EncodedContent.encode(plain, document(), false, options.build().transcoder(), options::transcoder);
+
+		assertInstanceOf(Map.class, content);
+		assertNull(options.build().transcoder());
+	}
+
+	private static CouchbaseDocument document() {
+		return new CouchbaseDocument("id").put("name", "Oliver");
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Unit tests for the default {@code page(Pageable)} of the find by query operations.
+ */
+class FindByQueryPageTests {
+
+	private static final List<Integer> ELEMENTS = IntStream.range(0, 25).boxed().toList();
+
+	@Test
+	void executableDefaultReadsPageFromAllElements() {
+		Page<Integer> page = new ExecutableStub().page(PageRequest.of(1, 10));
+
+		assertEquals(IntStream.range(10, 20).boxed().toList(), page.getContent());
+		assertEquals(25, page.getTotalElements());
+		assertEquals(3, page.getTotalPages());
+	}
+
+	@Test
+	void executableDefaultReturnsEverythingUnpaged() {
+		Page<Integer> page = new ExecutableStub().page(Pageable.unpaged());
+
+		assertEquals(ELEMENTS, page.getContent());
+		assertEquals(25, page.getTotalElements());
+	}
+
+	@Test
+	void reactiveDefaultReadsPageFromAllElements() {
+		Page<Integer> page = new ReactiveStub().page(PageRequest.of(2, 10)).block();
+
+		assertEquals(IntStream.range(20, 25).boxed().toList(), page.getContent());
+		assertEquals(25, page.getTotalElements());
+	}
+
+	static class ExecutableStub implements ExecutableFindByQueryOperation.TerminatingFindByQuery<Integer> {
+
+		@Override
+		public Integer oneValue() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Integer firstValue() {
+			return ELEMENTS.get(0);
+		}
+
+		@Override
+		public List<Integer> all() {
+			return ELEMENTS;
+		}
+
+		@Override
+		public Stream<Integer> stream() {
+			return ELEMENTS.stream();
+		}
+
+		@Override
+		public long count() {
+			return ELEMENTS.size();
+		}
+
+		@Override
+		public boolean exists() {
+			return true;
+		}
+	}
+
+	static class ReactiveStub implements ReactiveFindByQueryOperation.TerminatingFindByQuery<Integer> {
+
+		@Override
+		public Mono<Integer> one() {
+			return Mono.error(new UnsupportedOperationException());
+		}
+
+		@Override
+		public Mono<Integer> first() {
+			return all().next();
+		}
+
+		@Override
+		public Flux<Integer> all() {
+			return Flux.fromIterable(ELEMENTS);
+		}
+
+		@Override
+		public Mono<Long> count() {
+			return Mono.just((long) ELEMENTS.size());
+		}
+
+		@Override
+		public Mono<Boolean> exists() {
+			return Mono.just(true);
+		}
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.couchbase.client.core.CoreKeyspace;
+import com.couchbase.client.core.api.kv.CoreKvResponseMetadata;
+import com.couchbase.client.core.api.kv.CoreSubdocGetResult;
+import com.couchbase.client.core.error.CouchbaseException;
+import com.couchbase.client.core.msg.kv.SubDocumentField;
+import com.couchbase.client.core.msg.kv.SubDocumentOpResponseStatus;
+import com.couchbase.client.core.msg.kv.SubdocCommandType;
+import com.couchbase.client.java.codec.DefaultJsonSerializer;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.kv.LookupInResult;
+
+/**
+ * Unit tests for {@link LookupInProjection}.
+ */
+class LookupInProjectionTests {
+
+	@Test
+	void assemblesSplitLookupsIntoOneDocument() {
+		List<String> fields = new ArrayList<>();
+		List<SubDocumentField> first = new ArrayList<>();
+		for (int i = 0; i < LookupInProjection.MAX_SPECS; i++) {
+			fields.add("f" + i);
+			first.add(found("f" + i, String.valueOf(i)));
+		}
+		fields.add("address.city");
+		fields.add("missing");
+		LookupInProjection projection = LookupInProjection.of(fields);
+		assertNotNull(projection);
+
+		byte[] json = projection.toJson(List.of(result(first),
+				result(List.of(found("address.city", "\"Paris\""), notFound("missing")))));
+
+		JsonObject document = JsonObject.fromJson(new String(json, StandardCharsets.UTF_8));
+		assertEquals(LookupInProjection.MAX_SPECS + 1, document.size());
+		assertEquals(15, document.getInt("f15"));
+		assertEquals("Paris", document.getObject("address").getString("city"));
+	}
+
+	@Test
+	void leavesArrayPathsToGet() {
+		assertNull(LookupInProjection.of(List.of("name", "schedule[0]")));
+		assertNull(LookupInProjection.of(List.of()));
+	}
+
+	@Test
+	void repeatsSplitLookupsUntilTheySeeOneRevision() {
+		LookupInProjection projection = LookupInProjection.of(splitFields());
+		AtomicInteger lookups = new AtomicInteger();
+		// the second chunk of the first attempt reads a later revision
+		Mono<LookupInProjection.Projected> projected = projection.lookup(chunk -> {
+			int lookup = lookups.getAndIncrement();
+			return Mono.just(result(List.of(found(chunk.get(0).toString(), "1")), lookup == 1 ? 43 : 42));
+		});
+
+		assertEquals(42, projected.block().cas());
+		assertEquals(4, lookups.get());
+	}
+
+	@Test
+	void givesUpOnDocumentThatKeepsChanging() {
+		LookupInProjection projection = LookupInProjection.of(splitFields());
+		AtomicInteger lookups = new AtomicInteger();
+
+		Mono<LookupInProjection.Projected> projected = projection
+				.lookup(chunk -> Mono.just(result(List.of(found("f0", "1")), lookups.getAndIncrement())));
+
+		assertNull(projected.block(), "an empty result makes the caller fall back to a get");
+		assertEquals(2 * 3, lookups.get());
+	}
+
+	private static List<String> splitFields() {
+		List<String> fields = new ArrayList<>();
+		for (int i = 0; i <= LookupInProjection.MAX_SPECS; i++) {
+			fields.add("f" + i);
+		}
+		return fields;
+	}
+
+	private static SubDocumentField found(String path, String json) {
+		return new SubDocumentField(SubDocumentOpResponseStatus.SUCCESS, Optional.empty(),
+				json.getBytes(StandardCharsets.UTF_8), path, SubdocCommandType.GET);
+	}
+
+	private static SubDocumentField notFound(String path) {
+		return new SubDocumentField(SubDocumentOpResponseStatus.PATH_NOT_FOUND,
+				Optional.of(new CouchbaseException("path not found")), new byte[0], path, SubdocCommandType.GET);
+	}
+
+	private static LookupInResult result(List<SubDocumentField> fields) {
+		return result(fields, 42);
+	}
+
+	private static LookupInResult result(List<SubDocumentField> fields, long cas) {
+		return new LookupInResult(new CoreSubdocGetResult(new CoreKeyspace("travel-sample", "_default", "_default"),
+				"airport::1", CoreKvResponseMetadata.NONE, fields, cas, false), DefaultJsonSerializer.create());
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link QueryRowDecoder} and {@link QueryRowMeta}.
+ */
+class QueryRowDecoderTests {
+
+	@Test
+	void decodesInParallelInRowOrder() {
+		QueryRowDecoder decoder = new QueryRowDecoder(4);
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		try {
+			List<Integer> decoded = decoder.decode(Flux.range(0, 200), row -> {
+				threads.add(Thread.currentThread().getName());
+				// later rows finish first
+				return Mono.just(row).delayElement(Duration.ofMillis((200 - row) % 7));
+			}, 32).collectList().block();
+
+			assertEquals(IntStream.range(0, 200).boxed().collect(Collectors.toList()), decoded);
+			assertTrue(threads.stream().allMatch(name -> name.startsWith("couchbase-row-decoder")));
+		} finally {
+			decoder.dispose();
+		}
+	}
+
+	@Test
+	void readsSelectedIdAndCasFromRawRow() {
+		QueryRowMeta meta = QueryRowMeta.of(bytes(
+				"{\"name\":\"Air\",\"address\":{\"__id\":\"nested\"},\"schedule\":[1,{\"__cas\":3}],\"__cas\":42,\"__id\":\"airline::1\"}"));
+		assertEquals("airline::1", meta.id());
+		assertEquals(42L, meta.cas());
+
+		QueryRowMeta meta3x = QueryRowMeta.of(bytes("{\"_ID\":\"airline::2\",\"_CAS\":7,\"name\":\"Sky\"}"));
+		assertEquals("airline::2", meta3x.id());
+		assertEquals(7L, meta3x.cas());
+
+		assertNull(QueryRowMeta.of(bytes("{\"name\":\"Sky\"}")).id());
+	}
+
+	@Test
+	void readsTotalOfPageRowOnlyWhenAsked() {
+		byte[] row = bytes("{\"__id\":\"airline::1\",\"__cas\":42,\"name\":\"Air\",\"__total\":1234}");
+
+		QueryRowMeta meta = QueryRowMeta.of(row, true);
+		assertEquals("airline::1", meta.id());
+		assertEquals(42L, meta.cas());
+		assertEquals(1234L, meta.total());
+
+		assertNull(QueryRowMeta.of(row).total());
+	}
+
+	private static byte[] bytes(String json) {
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+
+}
@@ -23,6 +23,7 @@ import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.mapping.CouchbaseList;
 
 /**
  * Verifies the functionality of a {@link JacksonTranslationService}.
@@ -98,6 +99,37 @@ public class JacksonTranslationServiceTests {
 		assertEquals("Привет мир", targetFromBytes.get("greeting"));
 	}
 
+	@Test
+	void shouldNotEncodeToBytesUnlessStreamingWrite() {
+		CouchbaseDocument doc = new CouchbaseDocument("key");
+		doc.put("language", "english");
+		assertNull(service.encodeToBytes(doc));
+	}
+
+	@Test
+	void shouldEncodeToBytesLikeExport() {
+		JacksonTranslationService streaming = new JacksonTranslationService();
+		streaming.setStreamingWrite(true);
+		streaming.afterPropertiesSet();
+
+		CouchbaseDocument nested = new CouchbaseDocument();
+		nested.put("city", "Zürich");
+		nested.put("zip", null);
+		CouchbaseList list = new CouchbaseList();
+		list.put(1);
+		list.put(2.5d);
+		list.put(new CouchbaseDocument().put("flag", true));
+		CouchbaseDocument doc = new CouchbaseDocument("key");
+		doc.put("name", "русский");
+		doc.put("count", 42L);
+		doc.put("address", nested);
+		doc.put("values", list);
+
+		String expected = "{\"address\":{\"city\":\"Zürich\",\"zip\":null},\"count\":42,\"name\":\"русский\","
+				+ "\"values\":[1,2.5,{\"flag\":true}]}";
+		assertEquals(expected, new String(streaming.encodeToBytes(doc), StandardCharsets.UTF_8));
+	}
+
 	static class LanguageFragment {
 		public String language;
 	}
@@ -804,6 +804,118 @@ public class MappingCouchbaseConverterTests {
 		assertThat(readConverted.getAddress().getStreet()).isEqualTo(person.getAddress().getStreet());
 	}
 
+	@Test
+	void readsJsonDirectly() {
+		MappingCouchbaseConverter directConverter = new MappingCouchbaseConverter();
+		directConverter.afterPropertiesSet();
+		String json = "{\"_class\":\"" + MixedSimpleEntity.class.getName()
+				+ "\",\"attr0\":\"a\",\"attr1\":5,\"attr2\":-0.3,\"attr3\":true,\"unknown\":{\"x\":[1,2]}}";
+
+		assertThat(directConverter.readJson(MixedSimpleEntity.class, json, "001", 0L)).isNull();
+
+		directConverter.setDirectJsonRead(true);
+		MixedSimpleEntity converted = directConverter.readJson(MixedSimpleEntity.class, json, "001", 0L);
+		assertThat(converted.attr0).isEqualTo("a");
+		assertThat(converted.attr1).isEqualTo(5);
+		assertThat(converted.attr2).isCloseTo(-0.3, offset(0.0));
+		assertThat(converted.attr3).isTrue();
+		assertThat(((BaseEntity) converted).id).isEqualTo("001");
+	}
+
+	@Test
+	void readsJsonDirectlyNestedAndAliased() {
+		MappingCouchbaseConverter directConverter = new MappingCouchbaseConverter();
+		directConverter.afterPropertiesSet();
+		directConverter.setDirectJsonRead(true);
+		String json = "{\"_class\":\"" + Person.class.getName()
+				+ "\",\"firstname\":\"first\",\"nickname\":\"nick\",\"lastModification\":42,"
+				+ "\"address\":{\"street\":\"Easy Street\"}}";
+
+		Person converted = directConverter.readJson(Person.class, json.getBytes(), UUID.randomUUID().toString(), 123L);
+		assertThat(converted.getFirstname()).isEqualTo("first");
+		assertThat(converted.getMiddlename()).isEqualTo("nick");
+		assertThat(converted.getVersion()).isEqualTo(123L);
+		assertThat(converted.getAddress().getStreet()).isEqualTo("Easy Street");
+	}
+
+	@Test
+	void readsJsonDirectlyCollectionsThroughConverter() {
+		MappingCouchbaseConverter directConverter = new MappingCouchbaseConverter();
+		directConverter.afterPropertiesSet();
+		directConverter.setDirectJsonRead(true);
+		String json = "{\"attr0\":[\"a\",\"b\"],\"attr1\":[1,2],\"attr2\":[[\"c\"],[\"d\",\"e\"]]}";
+
+		ListEntity converted = directConverter.readJson(ListEntity.class, json, "001", 0L);
+		assertThat(converted.attr0).containsExactly("a", "b");
+		assertThat(converted.attr1).containsExactly(1, 2);
+		assertThat(converted.attr2).containsExactly(List.of("c"), List.of("d", "e"));
+	}
+
+	@Test
+	void readsJsonDirectlyListsOfNestedEntities() {
+		MappingCouchbaseConverter directConverter = new MappingCouchbaseConverter();
+		directConverter.afterPropertiesSet();
+		directConverter.setDirectJsonRead(true);
+		String json = "{\"email\":{\"emailAddr\":\"a@b.c\"},"
+				+ "\"listOfEmails\":[{\"emailAddr\":\"d@e.f\"},null,{\"emailAddr\":\"g@h.i\"}]}";
+
+		ValueEntity converted = directConverter.readJson(ValueEntity.class, json, "001", 0L);
+		assertThat(converted.email.emailAddr).isEqualTo("a@b.c");
+		assertThat(converted.listOfEmails).hasSize(3);
+		assertThat(converted.listOfEmails.get(0).emailAddr).isEqualTo("d@e.f");
+		assertThat(converted.listOfEmails.get(1)).isNull();
+		assertThat(converted.listOfEmails.get(2).emailAddr).isEqualTo("g@h.i");
+
+		ValueEntity empty = directConverter.readJson(ValueEntity.class, "{\"listOfEmails\":[]}", "001", 0L);
+		assertThat(empty.listOfEmails).isEmpty();
+	}
+
+	@Test
+	void readsJsonDirectlyLeavesOtherTypesToConverter() {
+		MappingCouchbaseConverter directConverter = new MappingCouchbaseConverter();
+		directConverter.afterPropertiesSet();
+		directConverter.setDirectJsonRead(true);
+		String json = "{\"_class\":\"" + MixedSimpleEntity.class.getName() + "\",\"attr0\":\"a\"}";
+
+		assertThat(directConverter.readJson(BaseEntity.class, json, "001", 0L)).isNull();
+	}
+
+	@Test
+	void readsJsonDirectlyWithPlansOfCurrentConversions() {
+		MappingCouchbaseConverter directConverter = new MappingCouchbaseConverter();
+		directConverter.afterPropertiesSet();
+		directConverter.setDirectJsonRead(true);
+		String json = "{\"email\":{\"emailAddr\":\"a@b.c\"}}";
+		assertThat(directConverter.readJson(ValueEntity.class, json, "001", 0L)).isNotNull();
+
+		directConverter.setCustomConversions(
+				new CouchbaseCustomConversions(List.of(DocumentToValueEntityConverter.INSTANCE)));
+
+		assertThat(directConverter.readJson(ValueEntity.class, json, "001", 0L)).isNull();
+	}
+
+	@Test
+	void readsJsonDirectlyLeavesInnerClassesToConverter() {
+		MappingCouchbaseConverter directConverter = new MappingCouchbaseConverter();
+		directConverter.afterPropertiesSet();
+		directConverter.setDirectJsonRead(true);
+		String json = "{\"name\":\"outer\",\"inner\":{\"value\":\"v\"},\"inners\":[{\"value\":\"w\"}]}";
+
+		// an inner class needs its enclosing instance, which only the converter can resolve
+		assertThat(directConverter.readJson(OuterEntity.class, json, "001", 0L)).isNull();
+		assertThat(directConverter.readJson(OuterEntity.class, "{\"name\":\"outer\"}", "001", 0L)).isNull();
+	}
+
+	@ReadingConverter
+	enum DocumentToValueEntityConverter implements Converter<CouchbaseDocument, ValueEntity> {
+		INSTANCE;
+
+		@Override
+		public ValueEntity convert(CouchbaseDocument source) {
+			return new ValueEntity(null, null);
+		}
+	}
+
 	@WritingConverter
 	public enum ChoiceFormatToStringConverter implements Converter<ChoiceFormat, String> {
 		INSTANCE;
@@ -956,6 +1068,16 @@ public class MappingCouchbaseConverterTests {
 		}
 	}
 
+	static class OuterEntity extends BaseEntity {
+		private String name;
+		private InnerEntity inner;
+		private List<InnerEntity> inners;
+
+		class InnerEntity {
+			private String value;
+		}
+	}
+
 	static class Email {
 		private String emailAddr;
 
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.ReflectionUtils;
+
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryScanConsistency;
+
+/**
+ * Unit tests for {@link PreparedStatementRegistry}.
+ */
+class PreparedStatementRegistryTests {
+
+	@Test
+	void preparesStatementOnceThresholdIsReached() {
+		PreparedStatementRegistry registry = new PreparedStatementRegistry(2, 10);
+		String statement = "SELECT * FROM `travel-sample` WHERE name = $1";
+
+		assertTrue(registry.apply(statement, QueryOptions.queryOptions()).build().adhoc());
+		assertFalse(registry.apply(statement, QueryOptions.queryOptions()).build().adhoc());
+		assertFalse(registry.apply(statement, QueryOptions.queryOptions()).build().adhoc());
+
+		assertEquals(2, registry.getHits());
+		assertEquals(1, registry.getMisses());
+	}
+
+	@Test
+	void countsWhitespaceVariantsAsOneStatement() {
+		PreparedStatementRegistry registry = new PreparedStatementRegistry(2, 10);
+
+		assertFalse(registry.record("SELECT *  FROM b\n WHERE x = $1"));
+		assertTrue(registry.record(" SELECT * FROM b WHERE x = $1 "));
+		assertEquals(1, registry.size());
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedStatement() {
+		PreparedStatementRegistry registry = new PreparedStatementRegistry(2, 2);
+
+		registry.record("a");
+		registry.record("b");
+		registry.record("a");
+		registry.record("c"); // evicts b
+
+		assertEquals(2, registry.size());
+		assertEquals(1, registry.getEvictions());
+		assertTrue(registry.record("a"));
+		assertFalse(registry.record("b"));
+	}
+
+	@Test
+	void leavesExplicitlyPreparedOptionsAlone() {
+		PreparedStatementRegistry registry = new PreparedStatementRegistry(2, 10);
+
+		assertFalse(registry.apply("a", QueryOptions.queryOptions().adhoc(false)).build().adhoc());
+		assertEquals(0, registry.size());
+		assertEquals(0, registry.getMisses());
+	}
+
+	@Test
+	void preparesCopyOfCallerOptions() {
+		PreparedStatementRegistry registry = new PreparedStatementRegistry(1, 10);
+		QueryOptions options = QueryOptions.queryOptions().timeout(Duration.ofSeconds(3))
+				.scanConsistency(QueryScanConsistency.REQUEST_PLUS).parameters(JsonArray.from("Oliver")).readonly(true)
+				.raw("query_context", "default:bucket.scope");
+
+		QueryOptions prepared = registry.apply("a", options);
+
+		assertNotSame(options, prepared);
+		assertTrue(options.build().adhoc());
+		assertFalse(prepared.build().adhoc());
+		// the client context id is generated per conversion unless set
+		assertEquals(OptionsBuilder.getQueryOpts(options.build()).removeKey("client_context_id"),
+				OptionsBuilder.getQueryOpts(prepared.build()).removeKey("client_context_id"));
+		assertEquals(Duration.ofSeconds(3), prepared.build().timeout().get());
+	}
+
+	@Test
+	void copiesEveryOptionButAdhoc() {
+		QueryOptions options = QueryOptions.queryOptions().clientContext(Map.of("tenant", "a")).useReplica(true)
+				.preserveExpiry(true).pipelineCap(7).parameters(JsonObject.create().put("name", "Oliver"));
+
+		QueryOptions copy = OptionsBuilder.copyQueryOptions(options).adhoc(false);
+
+		ReflectionUtils.doWithFields(QueryOptions.class, field -> {
+			ReflectionUtils.makeAccessible(field);
+			if (!field.getName().equals("adhoc")) {
+				assertEquals(field.get(options), field.get(copy), field.getName());
+			}
+		}, ReflectionUtils.COPYABLE_FIELDS);
+		assertTrue(options.build().adhoc());
+	}
+
+}
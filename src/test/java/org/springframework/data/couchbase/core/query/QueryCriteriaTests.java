@@ -26,6 +26,9 @@ import static org.springframework.data.couchbase.repository.query.support.N1qlUt
 
 import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -34,6 +37,7 @@ import org.springframework.data.couchbase.core.convert.CouchbaseCustomConversion
 import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
 import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
 import org.springframework.data.couchbase.domain.Config;
+import org.springframework.data.domain.Sort;
 
 /**
  * @author Mauro Monti
@@ -79,6 +83,27 @@ class QueryCriteriaTests {
 		assertEquals("[\"Bubba\",12,\"Austria\"]", parameters.toString());
 	}
 
+	@Test
+	void testKeysetCriteria() {
+		Sort sort = Sort.by(Sort.Order.asc("lastname"), Sort.Order.desc("age"), Sort.Order.desc("META().id"));
+		Map<String, Object> keyset = new HashMap<>();
+		keyset.put("lastname", "Smith");
+		keyset.put("age", 42);
+		keyset.put("META().id", "user::7");
+		JsonArray parameters = JsonArray.create();
+		assertEquals(
+				"  (  (  (lastname > $1) or   (lastname = $2 and age < $3)) or   (lastname = $4 and age = $5 and META().id < $6))",
+				QueryCriteria.keyset(sort, keyset).export(new int[1], parameters, null));
+		assertEquals("[\"Smith\",\"Smith\",42,\"Smith\",42,\"user::7\"]", parameters.toString());
+	}
+
+	@Test
+	void testKeysetCriteriaStaysGroupedInConjunction() {
+		QueryCriteria c = where(i("name")).is("Bubba")
+				.and(QueryCriteria.keyset(Sort.by("age"), Collections.singletonMap("age", 12)));
+		assertEquals("  (`name` = \"Bubba\") and   (  (age > 12))", c.export());
+	}
+
 	@Test
 	void testNestedOrCriteria() {
 		QueryCriteria c = where(i("name")).is("Bubba").or(where(i("age")).gt(12).or(i("country")).is("Austria"));
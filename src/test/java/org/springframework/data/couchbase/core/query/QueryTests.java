@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.data.couchbase.core.query.QueryCriteria.where;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
+import org.springframework.data.couchbase.domain.User;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Unit tests for the statements built by {@link Query}.
+ */
+class QueryTests {
+
+	private final MappingCouchbaseConverter converter;
+
+	QueryTests() {
+		CouchbaseMappingContext mappingContext = new CouchbaseMappingContext();
+		mappingContext.afterPropertiesSet();
+		this.converter = new MappingCouchbaseConverter(mappingContext);
+	}
+
+	@Test
+	void pageSelectCountsTotalWithWindowFunction() {
+		Query query = new Query(where("firstname").is("Dave")).with(PageRequest.of(2, 10));
+
+		String select = query.toN1qlSelectString(converter, "b", null, null, User.class, User.class, false, null, null);
+		String page = query.toN1qlPageSelectString(converter, "b", null, null, User.class, User.class, null, null);
+
+		int from = select.indexOf(" FROM ");
+		assertTrue(page.contains(", COUNT(*) OVER() AS __total FROM "), page);
+		assertEquals(select.substring(0, from) + ", COUNT(*) OVER() AS __total" + select.substring(from), page);
+		assertTrue(page.endsWith(" LIMIT 10 OFFSET 20"), page);
+	}
+
+	@Test
+	void pageSelectOfProjectionInCollectionCountsTotalAfterFields() {
+		Query query = new Query(where("firstname").is("Dave")).with(PageRequest.of(0, 5));
+		String[] fields = { "firstname", "lastname" };
+
+		String select = query.toN1qlSelectString(converter, "b", "s", "c", User.class, User.class, false, null, fields);
+		String page = query.toN1qlPageSelectString(converter, "b", "s", "c", User.class, User.class, null, fields);
+
+		int from = select.indexOf(" FROM ");
+		assertEquals(select.substring(0, from) + ", COUNT(*) OVER() AS __total" + select.substring(from), page);
+		assertTrue(page.contains(" FROM `c` "), page);
+	}
+
+	@Test
+	void copyCanBePagedWithoutChangingTheQuery() {
+		Query query = new Query(where("firstname").is("Dave")).with(Sort.by("lastname"));
+
+		Query copy = query.copy();
+		copy.skip(20).limit(10).withoutSort();
+
+		String select = query.toN1qlSelectString(converter, "b", null, null, User.class, User.class, false, null, null);
+		assertTrue(select.endsWith(" ORDER BY lastname ASC"), select);
+		assertEquals(select.replace(" ORDER BY lastname ASC", " LIMIT 10 OFFSET 20"),
+				copy.toN1qlSelectString(converter, "b", null, null, User.class, User.class, false, null, null));
+		assertInstanceOf(StringQuery.class, new StringQuery("SELECT 1").copy());
+		assertNull(new Query() {}.copy(), "a subclass of its own is not copied as a plain query");
+	}
+
+	@Test
+	void pageSelectOfDistinctQueryIsCountedSeparately() {
+		Query query = new Query(where("firstname").is("Dave")).distinct(true);
+		assertNull(query.toN1qlPageSelectString(converter, "b", null, null, User.class, User.class, null, null));
+		assertNull(new Query().toN1qlPageSelectString(converter, "b", null, null, User.class, User.class,
+				new String[] { "firstname" }, null));
+	}
+
+}
@@ -37,10 +37,13 @@ import org.springframework.data.couchbase.repository.Options;
 import org.springframework.data.couchbase.repository.Query;
 import org.springframework.data.couchbase.repository.ScanConsistency;
 import org.springframework.data.couchbase.repository.Scope;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -159,6 +162,9 @@ public interface AirportRepository extends CouchbaseRepository<Airport, String>,
 	@Query("#{#n1ql.selectEntity} WHERE #{#n1ql.filter} AND iata != $1")
 	List<Airport> getAllByIataNotSort(String iata, Sort sort);
 
+	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
+	Window<Airport> findAllByIataIn(java.util.Collection<String> iatas, ScrollPosition position, Limit limit, Sort sort);
+
 
 	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
 	@Query("SELECT iata, \"\" as __id, 0 as __cas from #{#n1ql.bucket} WHERE #{#n1ql.filter} order by meta().id")
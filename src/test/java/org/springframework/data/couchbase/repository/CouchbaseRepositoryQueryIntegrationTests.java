@@ -42,6 +42,7 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.Callable;
@@ -63,6 +64,7 @@ import org.springframework.data.couchbase.CouchbaseClientFactory;
 import org.springframework.data.couchbase.core.CouchbaseQueryExecutionException;
 import org.springframework.data.couchbase.core.CouchbaseTemplate;
 import org.springframework.data.couchbase.core.RemoveResult;
+import org.springframework.data.couchbase.core.convert.join.N1qlJoinResolver;
 import org.springframework.data.couchbase.core.mapping.event.ValidatingCouchbaseEventListener;
 import org.springframework.data.couchbase.core.query.N1QLExpression;
 import org.springframework.data.couchbase.core.query.QueryCriteria;
@@ -102,11 +104,15 @@ import org.springframework.data.couchbase.util.Capabilities;
 import org.springframework.data.couchbase.util.ClusterAwareIntegrationTests;
 import org.springframework.data.couchbase.util.ClusterType;
 import org.springframework.data.couchbase.util.IgnoreWhen;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.test.annotation.DirtiesContext;
@@ -973,6 +979,55 @@ public class CouchbaseRepositoryQueryIntegrationTests extends ClusterAwareIntegr
 		}
 	}
 
+	@Test
+	void scrollByKeysetAndOffset() {
+		List<String> iatas = asList("JFK", "IAD", "SFO", "SJC", "SEA");
+		try {
+			airportRepository.saveAll(iatas.stream()
+					.map((iata) -> new Airport("airports::" + iata, iata, iata.toLowerCase(Locale.ROOT))).toList());
+			Sort byIata = Sort.by("iata");
+
+			Window<Airport> window = airportRepository.findAllByIataIn(iatas, ScrollPosition.keyset(), Limit.of(2), byIata);
+			assertEquals(asList("IAD", "JFK"), window.map(Airport::getIata).getContent());
+			assertTrue(window.hasNext());
+			window = airportRepository.findAllByIataIn(iatas, window.positionAt(window.size() - 1), Limit.of(2), byIata);
+			assertEquals(asList("SEA", "SFO"), window.map(Airport::getIata).getContent());
+			assertTrue(window.hasNext());
+			window = airportRepository.findAllByIataIn(iatas, window.positionAt(window.size() - 1), Limit.of(2), byIata);
+			assertEquals(asList("SJC"), window.map(Airport::getIata).getContent());
+			assertFalse(window.hasNext());
+
+			KeysetScrollPosition last = (KeysetScrollPosition) window.positionAt(0);
+			window = airportRepository.findAllByIataIn(iatas, last.backward(), Limit.of(2), byIata);
+			assertEquals(asList("SEA", "SFO"), window.map(Airport::getIata).getContent());
+			assertTrue(window.hasNext());
+
+			window = airportRepository.findAllByIataIn(iatas, ScrollPosition.offset(), Limit.of(2), byIata);
+			assertEquals(asList("IAD", "JFK"), window.map(Airport::getIata).getContent());
+			window = airportRepository.findAllByIataIn(iatas, window.positionAt(window.size() - 1), Limit.of(2), byIata);
+			assertEquals(asList("SEA", "SFO"), window.map(Airport::getIata).getContent());
+			window = airportRepository.findAllByIataIn(iatas, window.positionAt(window.size() - 1), Limit.of(2), byIata);
+			assertEquals(asList("SJC"), window.map(Airport::getIata).getContent());
+			assertFalse(window.hasNext());
+		} finally {
+			airportRepository.deleteAllById(iatas.stream().map((iata) -> "airports::" + iata).toList());
+		}
+	}
+
+	@Test
+	void scrollByKeysetRejectsNullSortKey() {
+		Airport airport = new Airport("airports::nul", "NUL", null);
+		try {
+			airportRepository.save(airport);
+			Window<Airport> window = airportRepository.findAllByIataIn(asList("NUL"), ScrollPosition.keyset(), Limit.of(1),
+					Sort.by("icao"));
+			assertEquals(1, window.size());
+			assertThrows(IllegalStateException.class, () -> window.positionAt(0));
+		} finally {
+			airportRepository.delete(airport);
+		}
+	}
+
 	@Test
 	void testGroupBy() {
 		String[] iatas = { "JFK", "IAD", "SFO", "SJC", "SEA", "LAX", "PHX" };
@@ -1302,6 +1357,55 @@ public class CouchbaseRepositoryQueryIntegrationTests extends ClusterAwareIntegr
 		couchbaseTemplate.removeById(UserSubmission.class).one(user.getId());
 	}
 
+	@Test
+	void findPlusN1qlJoinInBatches() {
+		// children are written right before the query, so the batched join needs the template's REQUEST_PLUS
+		ApplicationContext ac = new AnnotationConfigApplicationContext(ConfigRequestPlus.class);
+		CouchbaseTemplate couchbaseTemplateRP = (CouchbaseTemplate) ac.getBean(COUCHBASE_TEMPLATE);
+		UserSubmissionRepository userSubmissionRepositoryRP = (UserSubmissionRepository) ac
+				.getBean("userSubmissionRepository");
+
+		String username = "batch-" + UUID.randomUUID();
+		int parents = N1qlJoinResolver.JOIN_BATCH_SIZE + 3;
+		List<UserSubmission> users = new ArrayList<>();
+		List<Address> addresses = new ArrayList<>();
+		for (int i = 0; i < parents; i++) {
+			UserSubmission user = new UserSubmission();
+			user.setId(UUID.randomUUID().toString());
+			user.setUsername(username);
+			users.add(user);
+			if (i != parents - 1) { // the last parent has no child
+				Address address = new Address();
+				address.setId(UUID.randomUUID().toString());
+				address.setStreet("street " + i);
+				address.setParentId(user.getId());
+				addresses.add(address);
+			}
+		}
+		couchbaseTemplateRP.insertById(UserSubmission.class).all(users);
+		couchbaseTemplateRP.insertById(Address.class).all(addresses);
+		try {
+			List<UserSubmission> found = userSubmissionRepositoryRP.findByUsername(username);
+			assertEquals(parents, found.size());
+			Map<String, String> streets = addresses.stream()
+					.collect(Collectors.toMap(Address::getParentId, Address::getStreet));
+			for (UserSubmission user : found) {
+				String street = streets.get(user.getId());
+				if (street == null) {
+					assertNull(user.getOtherAddresses(), "parent without child");
+				} else {
+					assertEquals(1, user.getOtherAddresses().size());
+					assertEquals(street, user.getOtherAddresses().get(0).getStreet());
+				}
+			}
+		} finally {
+			couchbaseTemplateRP.removeById(Address.class)
+					.all(addresses.stream().map(Address::getId).collect(Collectors.toList()));
+			couchbaseTemplateRP.removeById(UserSubmission.class)
+					.all(users.stream().map(UserSubmission::getId).collect(Collectors.toList()));
+		}
+	}
+
 	@Test
 	void findByKey() {
 		Airport airport = new Airport(UUID.randomUUID().toString(), "iata1038", "icao");
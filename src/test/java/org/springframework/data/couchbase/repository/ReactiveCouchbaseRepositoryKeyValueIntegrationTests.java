@@ -21,8 +21,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import reactor.core.publisher.Flux;
+
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -105,6 +109,19 @@ public class ReactiveCouchbaseRepositoryKeyValueIntegrationTests extends Cluster
 		userRepository.delete(user).block();
 	}
 
+	@Test
+	void saveAllOrderedWithBoundedConcurrency() {
+		List<User> users = IntStream.range(0, 10)
+				.mapToObj(i -> new User(UUID.randomUUID().toString(), "saveAll_reactive" + i, "l")).toList();
+		try {
+			List<User> saved = userRepository.saveAll(Flux.fromIterable(users), 2, 4, true).collectList().block();
+			assertEquals(users.stream().map(User::getId).toList(), saved.stream().map(User::getId).toList());
+			assertEquals((long) users.size(), userRepository.findAllById(users.stream().map(User::getId).toList()).count().block());
+		} finally {
+			userRepository.deleteAll(users).block();
+		}
+	}
+
 	@Test
 	void findByIdAudited() {
 		Airport vie = null;
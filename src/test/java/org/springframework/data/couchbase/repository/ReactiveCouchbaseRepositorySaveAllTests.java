@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the bounded {@link ReactiveCouchbaseRepository#saveAll(org.reactivestreams.Publisher, int, int, boolean)}.
+ */
+class ReactiveCouchbaseRepositorySaveAllTests {
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+
+	@Test
+	void boundsSavesAndRequests() {
+		AtomicLong maxRequest = new AtomicLong();
+		Flux<Integer> source = Flux.range(0, 50).doOnRequest(n -> maxRequest.accumulateAndGet(n, Math::max));
+
+		List<Integer> saved = repository().saveAll(source, 3, 8, false).collectList().block();
+
+		assertEquals(50, saved.size());
+		assertTrue(maxInFlight.get() <= 3, "saves in flight " + maxInFlight.get());
+		assertTrue(maxRequest.get() <= 8, "requested " + maxRequest.get());
+	}
+
+	@Test
+	void emitsInStreamOrderWhenOrdered() {
+		List<Integer> expected = IntStream.range(0, 20).boxed().toList();
+
+		List<Integer> saved = repository().saveAll(Flux.fromIterable(expected), 4, 16, true).collectList().block();
+
+		assertEquals(expected, saved);
+		assertTrue(maxInFlight.get() <= 4, "saves in flight " + maxInFlight.get());
+	}
+
+	/**
+	 * A repository whose saves of later entities complete first.
+	 */
+	@SuppressWarnings("unchecked")
+	private ReactiveCouchbaseRepository<Integer, String> repository() {
+		InvocationHandler handler = (proxy, method, args) -> {
+			if (method.isDefault()) {
+				return InvocationHandler.invokeDefault(proxy, method, args);
+			}
+			if ("save".equals(method.getName())) {
+				Integer entity = (Integer) args[0];
+				return Mono.defer(() -> {
+					maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+					return Mono.delay(Duration.ofMillis(20 - entity % 20)).thenReturn(entity);
+				}).doOnNext(saved -> inFlight.decrementAndGet()); // before the next save is requested
+			}
+			throw new UnsupportedOperationException("Unexpected method: " + method.getName());
+		};
+		return (ReactiveCouchbaseRepository<Integer, String>) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { ReactiveCouchbaseRepository.class }, handler);
+	}
+
+}
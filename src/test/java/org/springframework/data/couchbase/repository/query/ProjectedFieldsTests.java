@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository.query;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.couchbase.core.CouchbaseOperations;
+import org.springframework.data.couchbase.core.ExecutableFindByQueryOperation.ExecutableFindByQuery;
+import org.springframework.data.couchbase.core.ExecutableRemoveByQueryOperation.ExecutableRemoveByQuery;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
+import org.springframework.data.couchbase.domain.Person;
+import org.springframework.data.couchbase.repository.CouchbaseRepository;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * Unit tests for the projected fields of derived queries.
+ */
+class ProjectedFieldsTests {
+
+	private final CouchbaseMappingContext context = new CouchbaseMappingContext();
+	private final MappingCouchbaseConverter converter = new MappingCouchbaseConverter(context);
+
+	@Test
+	void selectsStoredNamesOfClosedInterfaceProjection() throws Exception {
+		CouchbaseQueryMethod method = queryMethod("findByFirstname", String.class);
+
+		assertTrue(AbstractCouchbaseQueryBase.selectsProjectedFields(tree(method), method));
+		assertArrayEquals(new String[] { "firstname", "nickname" },
+				AbstractCouchbaseQueryBase.resolveProjectedFields(method, converter));
+	}
+
+	@Test
+	void readsEntitiesForCountsAndUnprojectedMethods() throws Exception {
+		CouchbaseQueryMethod count = queryMethod("countByFirstname", String.class);
+		CouchbaseQueryMethod entities = queryMethod("findByLastname", String.class);
+
+		assertFalse(AbstractCouchbaseQueryBase.selectsProjectedFields(tree(count), count));
+		assertNull(AbstractCouchbaseQueryBase.resolveProjectedFields(entities, converter));
+	}
+
+	@Test
+	void keysetScrollOfClosedProjectionReadsSortProperties() throws Exception {
+		CouchbaseQueryMethod method = queryMethod("findFirst2ByFirstnameOrderBySalutation", String.class,
+				ScrollPosition.class);
+		List<String> calls = new ArrayList<>();
+		Person person = new Person(UUID.randomUUID(), "Ann", "Smith");
+		person.setSalutation("Dr");
+		PartTreeCouchbaseQuery query = new PartTreeCouchbaseQuery(method, operations(calls, List.of(person)),
+				ValueExpressionDelegate.create());
+
+		Window<?> window = (Window<?>) query.execute(new Object[] { "Ann", ScrollPosition.keyset() });
+
+		assertFalse(AbstractCouchbaseQueryBase.selectsProjectedFields(tree(method), method));
+		assertFalse(calls.contains("project"), calls.toString());
+		assertEquals("Ann", ((PersonName) window.getContent().get(0)).getFirstname());
+		assertEquals("Dr", ((KeysetScrollPosition) window.positionAt(0)).getKeys().get("salutation"));
+	}
+
+	private CouchbaseOperations operations(List<String> calls, List<?> results) {
+		Object findOp = fluent(ExecutableFindByQuery.class, calls, results);
+		Object removeOp = fluent(ExecutableRemoveByQuery.class, calls, results);
+		return (CouchbaseOperations) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { CouchbaseOperations.class }, (proxy, m, args) -> switch (m.getName()) {
+					case "findByQuery" -> findOp;
+					case "removeByQuery" -> removeOp;
+					case "getConverter" -> converter;
+					case "getBucketName" -> "travel-sample";
+					default -> throw new UnsupportedOperationException("Unexpected method: " + m.getName());
+				});
+	}
+
+	private Object fluent(Class<?> type, List<String> calls, List<?> results) {
+		return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { type }, (proxy, m, args) -> {
+			calls.add(m.getName());
+			return m.getName().equals("all") ? results : proxy;
+		});
+	}
+
+	private CouchbaseQueryMethod queryMethod(String name, Class<?>... parameterTypes) throws Exception {
+		Method method = PersonRepository.class.getMethod(name, parameterTypes);
+		return new CouchbaseQueryMethod(method, new DefaultRepositoryMetadata(PersonRepository.class),
+				new SpelAwareProxyProjectionFactory(), context);
+	}
+
+	private static PartTree tree(CouchbaseQueryMethod method) {
+		return new PartTree(method.getName(), method.getEntityInformation().getJavaType());
+	}
+
+	interface PersonName {
+
+		String getFirstname();
+
+		String getMiddlename();
+	}
+
+	interface PersonRepository extends CouchbaseRepository<Person, UUID> {
+
+		List<PersonName> findByFirstname(String firstname);
+
+		long countByFirstname(String firstname);
+
+		List<Person> findByLastname(String lastname);
+
+		Window<PersonName> findFirst2ByFirstnameOrderBySalutation(String firstname, ScrollPosition position);
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026-present the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository.query;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.couchbase.core.ExecutableFindByQueryOperation.ExecutableFindByQuery;
+import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
+import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.domain.Airport;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+/**
+ * Unit tests for {@link CouchbaseQueryExecution.ScrollExecution}.
+ */
+class ScrollExecutionTests {
+
+	private final CouchbaseMappingContext mappingContext = new CouchbaseMappingContext();
+	private final List<Query> queries = new ArrayList<>();
+
+	ScrollExecutionTests() {
+		mappingContext.setInitialEntitySet(Collections.singleton(Airport.class));
+		mappingContext.afterPropertiesSet();
+	}
+
+	@Test
+	void offsetScrollReadsOneBeyondTheWindow() {
+		Window<?> window = execute(ScrollPosition.offset(5), airport("a", "AAA"), airport("b", "BBB"), airport("c", "CCC"));
+
+		Query query = queries.get(0);
+		assertEquals(" ORDER BY iata ASC LIMIT 3 OFFSET 6", query.export());
+		assertEquals(2, window.size());
+		assertTrue(window.hasNext());
+		assertEquals(ScrollPosition.offset(7), window.positionAt(1));
+	}
+
+	@Test
+	void forwardKeysetSeeksPastTheLastKey() {
+		Window<?> window = execute(ScrollPosition.forward(Map.of("iata", "AAA", "key", "a")), airport("b", "BBB"));
+
+		assertEquals(" WHERE   (  (iata > \"AAA\") or   (iata = \"AAA\" and META().id > \"a\"))"
+				+ " ORDER BY iata ASC,META().id ASC LIMIT 3", queries.get(0).export());
+		assertFalse(window.hasNext());
+		assertEquals(ScrollPosition.forward(Map.of("iata", "BBB", "key", "b")), window.positionAt(0));
+	}
+
+	@Test
+	void backwardKeysetReadsInReverseAndRestoresTheOrder() {
+		Window<?> window = execute(ScrollPosition.backward(Map.of("iata", "DDD", "key", "d")), airport("c", "CCC"),
+				airport("b", "BBB"), airport("a", "AAA"));
+
+		assertEquals(" WHERE   (  (iata < \"DDD\") or   (iata = \"DDD\" and META().id < \"d\"))"
+				+ " ORDER BY iata DESC,META().id DESC LIMIT 3", queries.get(0).export());
+		assertEquals(List.of("BBB", "CCC"), window.map(a -> ((Airport) a).getIata()).getContent());
+		assertTrue(window.hasNext());
+		KeysetScrollPosition first = (KeysetScrollPosition) window.positionAt(0);
+		assertTrue(first.scrollsBackward());
+		assertEquals(Map.of("iata", "BBB", "key", "b"), first.getKeys());
+	}
+
+	@Test
+	void keysetPositionOfNullSortKeyIsRejected() {
+		Window<?> window = execute(ScrollPosition.keyset(), airport("a", null));
+
+		IllegalStateException e = assertThrows(IllegalStateException.class, () -> window.positionAt(0));
+		assertTrue(e.getMessage().contains("sort property iata is null"), e.getMessage());
+	}
+
+	@Test
+	void keysetWithNullValueIsRejected() {
+		Map<String, Object> keys = new java.util.HashMap<>();
+		keys.put("iata", null);
+		keys.put("key", "a");
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> execute(ScrollPosition.forward(keys)));
+		assertTrue(e.getMessage().contains("sort key iata must not be null"), e.getMessage());
+	}
+
+	private Window<?> execute(ScrollPosition position, Airport... results) {
+		CouchbaseQueryExecution execution = new CouchbaseQueryExecution.ScrollExecution(operation(List.of(results)),
+				position, Limit.of(2), mappingContext, Airport.class);
+		return (Window<?>) execution.execute(new Query().with(Sort.by("iata")), Airport.class, Airport.class, null, null);
+	}
+
+	private ExecutableFindByQuery<?> operation(List<Airport> results) {
+		return (ExecutableFindByQuery<?>) Proxy.newProxyInstance(ExecutableFindByQuery.class.getClassLoader(),
+				new Class<?>[] { ExecutableFindByQuery.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+						case "as", "inScope", "inCollection":
+							return proxy;
+						case "matching":
+							queries.add((Query) args[0]);
+							return proxy;
+						case "all":
+							return results;
+						default:
+							throw new UnsupportedOperationException("Unexpected method: " + method.getName());
+					}
+				});
+	}
+
+	private static Airport airport(String key, String iata) {
+		return new Airport(key, iata, null);
+	}
+}
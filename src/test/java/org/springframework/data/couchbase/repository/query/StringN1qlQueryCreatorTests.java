@@ -44,6 +44,9 @@ import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.ParametersSource;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
 
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
+
 /**
  * @author Michael Nitschinger
  * @author Michael Reiche
@@ -139,6 +142,36 @@ class StringN1qlQueryCreatorTests {
 				query.toN1qlSelectString(converter, bucketName(), null, null, User.class, User.class, false, null, null));
 	}
 
+	@Test
+	void reusesParsedQueryAcrossInvocations() throws Exception {
+		String input = "getByFirstnameAndLastname";
+		Method method = UserRepository.class.getMethod(input, String.class, String.class);
+
+		CouchbaseQueryMethod queryMethod = new CouchbaseQueryMethod(method,
+				new DefaultRepositoryMetadata(UserRepository.class), new SpelAwareProxyProjectionFactory(),
+				converter.getMappingContext());
+		ValueExpressionDelegate delegate = ValueExpressionDelegate.create();
+
+		Query first = new StringN1qlQueryCreator(getAccessor(getParameters(method), "Oliver", "Twist"), queryMethod,
+				converter, delegate, namedQueries).createQuery();
+		String firstStatement = first.toN1qlSelectString(converter, bucketName(), null, null, User.class, User.class,
+				false, null, null);
+		Query second = new StringN1qlQueryCreator(getAccessor(getParameters(method), "Jack", "Dawkins"), queryMethod,
+				converter, delegate, namedQueries).createQuery();
+		String secondStatement = second.toN1qlSelectString(converter, bucketName(), null, null, User.class, User.class,
+				false, null, null);
+
+		assertEquals(firstStatement, secondStatement);
+		assertEquals(JsonArray.from("Oliver", "Twist"), positionalArgs(first));
+		assertEquals(JsonArray.from("Jack", "Dawkins"), positionalArgs(second));
+	}
+
+	private static JsonArray positionalArgs(Query query) {
+		JsonObject params = JsonObject.create();
+		query.buildQueryOptions(null, null).build().injectParams(params);
+		return params.getArray("args");
+	}
+
 	@Test
 	void stringQuerycreatesQueryCorrectly() throws Exception {
 		String queryString = "a b c";